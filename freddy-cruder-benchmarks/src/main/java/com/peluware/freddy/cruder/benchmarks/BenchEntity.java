@@ -0,0 +1,45 @@
+package com.peluware.freddy.cruder.benchmarks;
+
+/**
+ * Mutable entity with a public no-arg constructor, as required by {@code newEntity()}.
+ */
+public class BenchEntity {
+
+    private Long id;
+    private String name;
+    private int version;
+
+    public BenchEntity() {
+        this.id = 0L;
+        this.name = "";
+    }
+
+    public BenchEntity(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+}
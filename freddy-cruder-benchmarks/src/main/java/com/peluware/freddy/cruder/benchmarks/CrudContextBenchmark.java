@@ -0,0 +1,66 @@
+package com.peluware.freddy.cruder.benchmarks;
+
+import com.peluware.freddy.cruder.CrudContext;
+import com.peluware.freddy.cruder.CrudOptions;
+import com.peluware.freddy.cruder.DefaultCrudOptions;
+import com.peluware.freddy.cruder.utils.StringUtils;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request costs outside the store: search normalization, {@link CrudContext} binding and
+ * {@link DefaultCrudOptions} construction and lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrudContextBenchmark {
+
+    @Param({"", "   ", "  padded search  ", "search"})
+    private String search;
+
+    private Map<String, Object> source;
+    private CrudOptions options;
+
+    @Setup
+    public void setup() {
+        source = Map.of(
+            CrudOptions.TOTAL, Boolean.FALSE,
+            CrudOptions.COUNT, "capped",
+            "expand", List.of("owner", "tags")
+        );
+        options = new DefaultCrudOptions(source);
+    }
+
+    @Benchmark
+    public @Nullable String normalize() {
+        return StringUtils.normalize(search);
+    }
+
+    @Benchmark
+    public CrudOptions call() {
+        return CrudContext.call(options, () -> CrudContext.current().options());
+    }
+
+    @Benchmark
+    public CrudOptions newOptions() {
+        return new DefaultCrudOptions(source);
+    }
+
+    @Benchmark
+    public @Nullable String lookup() {
+        return options.getString(CrudOptions.COUNT);
+    }
+
+    @Benchmark
+    public List<String> lookupAll() {
+        return options.getAll("expand", String.class);
+    }
+}
@@ -0,0 +1,49 @@
+package com.peluware.freddy.cruder.benchmarks;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the {@code EntityCrudProvider} pipeline on top of a store that does no work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrudPipelineBenchmark {
+
+    @Param({"20", "200"})
+    private int pageSize;
+
+    private NoopCrudProvider provider;
+    private Pagination pagination;
+    private NoopCrudProvider.Input input;
+
+    @Setup
+    public void setup() {
+        provider = new NoopCrudProvider(pageSize);
+        pagination = Pagination.of(0, pageSize);
+        input = new NoopCrudProvider.Input("created");
+    }
+
+    @Benchmark
+    public Page<NoopCrudProvider.Output> page() {
+        return provider.page("  search  ", null, pagination, Sort.unsorted());
+    }
+
+    @Benchmark
+    public NoopCrudProvider.Output find() {
+        return provider.find(1L);
+    }
+
+    @Benchmark
+    public NoopCrudProvider.Output create() {
+        return provider.create(input);
+    }
+}
@@ -0,0 +1,93 @@
+package com.peluware.freddy.cruder.benchmarks;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import com.peluware.freddy.cruder.EntityCrudProvider;
+import com.peluware.freddy.cruder.NotFoundEntityException;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory provider whose store operations return preallocated data, so benchmarks measure
+ * only the {@link EntityCrudProvider} pipeline: normalization, hooks, events, mapping and
+ * instrumentation.
+ */
+public class NoopCrudProvider extends EntityCrudProvider<BenchEntity, Long, NoopCrudProvider.Input, NoopCrudProvider.Output> {
+
+    public record Input(String name) {
+    }
+
+    public record Output(Long id, String name) {
+    }
+
+    private final BenchEntity stored = new BenchEntity(1L, "stored");
+    private final List<BenchEntity> rows;
+
+    /**
+     * Resolves the entity class from the generic hierarchy, like most user providers.
+     *
+     * @param pageSize the number of rows returned by {@code internalPage}
+     */
+    public NoopCrudProvider(int pageSize) {
+        var rows = new ArrayList<BenchEntity>(pageSize);
+        for (long i = 0; i < pageSize; i++) {
+            rows.add(new BenchEntity(i, "row-" + i));
+        }
+        this.rows = List.copyOf(rows);
+    }
+
+    /**
+     * Exposes {@link #newEntity()} to the benchmarks.
+     */
+    public BenchEntity instantiate() {
+        return newEntity();
+    }
+
+    @Override
+    protected void mapInput(Input input, BenchEntity entity, boolean isNew) {
+        entity.setName(input.name());
+    }
+
+    @Override
+    protected Output mapOutput(BenchEntity entity) {
+        return new Output(entity.getId(), entity.getName());
+    }
+
+    @Override
+    protected BenchEntity internalFind(Long id) throws NotFoundEntityException {
+        return stored;
+    }
+
+    @Override
+    protected Page<BenchEntity> internalPage(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return new Page<>(rows, pagination, sort, rows.size());
+    }
+
+    @Override
+    protected long internalCount(@Nullable String search, @Nullable String query) {
+        return rows.size();
+    }
+
+    @Override
+    protected boolean internalExists(Long id) {
+        return true;
+    }
+
+    @Override
+    protected BenchEntity internalCreate(BenchEntity entity) {
+        return entity;
+    }
+
+    @Override
+    protected BenchEntity internalUpdate(BenchEntity entity) {
+        return entity;
+    }
+
+    @Override
+    protected void internalDelete(BenchEntity entity) {
+        // Nothing to delete
+    }
+}
@@ -0,0 +1,42 @@
+package com.peluware.freddy.cruder.benchmarks;
+
+import com.peluware.freddy.cruder.EntityCrudProvider;
+import com.peluware.freddy.cruder.utils.ReflectUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reflection paid by entity providers: entity instantiation on every create and generic type
+ * resolution on construction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionBenchmark {
+
+    private NoopCrudProvider provider;
+
+    @Setup
+    public void setup() {
+        provider = new NoopCrudProvider(1);
+    }
+
+    @Benchmark
+    public BenchEntity newEntity() {
+        return provider.instantiate();
+    }
+
+    @Benchmark
+    public BenchEntity newEntityBaseline() {
+        return new BenchEntity();
+    }
+
+    @Benchmark
+    public Class<?> resolveGenericType() {
+        return ReflectUtils.resolveGenericType(NoopCrudProvider.class, EntityCrudProvider.class, 0);
+    }
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package com.peluware.freddy.cruder.benchmarks;
+
+import org.jspecify.annotations.NullMarked;
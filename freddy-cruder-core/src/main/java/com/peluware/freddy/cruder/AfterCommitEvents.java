@@ -0,0 +1,277 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * {@link EntityCrudEvents} decorator that runs selected after-write callbacks of a listener
+ * asynchronously, once the surrounding transaction commits.
+ *
+ * <p>
+ * {@code onAfterCreate}, {@code onAfterUpdate} and {@code onAfterDelete} run inside the write
+ * transaction, so slow listeners (search indexing, notifications) keep the transaction and
+ * its connection open. For each {@linkplain Callback deferred callback}, this decorator
+ * registers an action through {@link TransactionSynchronizer#runAfterCommit(Runnable)} that
+ * hands the callback to an {@link AsyncEventDispatcher}; the listener runs on a dispatcher
+ * worker with the {@link CrudContext} of the writing call. Callbacks of a transaction that
+ * rolls back never reach the listener.
+ * </p>
+ *
+ * <p>
+ * Callbacks for entities with the same {@code keyOf} key (typically the identifier) run in
+ * the order they were committed. Batch callbacks are split by dispatcher stripe, so the
+ * listener still receives one {@code *All} call per stripe. Every other callback, deferred or
+ * not, is forwarded synchronously, and {@link CompositeCrudEvents} only dispatches to this
+ * decorator the callbacks it defers or the listener overrides.
+ * </p>
+ *
+ * <pre>{@code
+ * var dispatcher = new AsyncEventDispatcher(4096, 4, AsyncEventDispatcher.Backpressure.CALLER_RUNS);
+ * var events = CompositeCrudEvents.of(auditEvents, new AfterCommitEvents<>(indexingEvents, dispatcher, User::getId));
+ * }</pre>
+ *
+ * <p>
+ * Deferred callbacks receive the entity instances of the write; listeners must not rely on
+ * lazily loaded state once the persistence context is closed.
+ * </p>
+ *
+ * @param <ENTITY> the entity type
+ * @param <ID>     the identifier type of the entity
+ * @param <INPUT>  the input DTO type
+ */
+public final class AfterCommitEvents<ENTITY, ID, INPUT> implements EntityCrudEvents<ENTITY, ID, INPUT> {
+
+    /**
+     * After-write callbacks that can be deferred. Each one covers the single-entity callback
+     * and its batch variant.
+     */
+    public enum Callback {
+        AFTER_CREATE("onAfterCreate", "onAfterCreateAll"),
+        AFTER_UPDATE("onAfterUpdate", "onAfterUpdateAll"),
+        AFTER_DELETE("onAfterDelete", "onAfterDeleteAll");
+
+        private final String single;
+        private final String batch;
+
+        Callback(String single, String batch) {
+            this.single = single;
+            this.batch = batch;
+        }
+    }
+
+    private final EntityCrudEvents<ENTITY, ID, INPUT> listener;
+    private final AsyncEventDispatcher dispatcher;
+    private final Function<? super ENTITY, ?> keyOf;
+    private final Set<Callback> deferred;
+
+    /**
+     * Creates a decorator deferring every after-write callback.
+     *
+     * @param listener   the listener receiving the callbacks
+     * @param dispatcher the dispatcher running the deferred callbacks
+     * @param keyOf      extracts the ordering key from an entity
+     */
+    public AfterCommitEvents(EntityCrudEvents<ENTITY, ID, INPUT> listener, AsyncEventDispatcher dispatcher, Function<? super ENTITY, ?> keyOf) {
+        this(listener, dispatcher, keyOf, EnumSet.allOf(Callback.class));
+    }
+
+    /**
+     * Creates a decorator deferring the given after-write callbacks.
+     *
+     * @param listener   the listener receiving the callbacks
+     * @param dispatcher the dispatcher running the deferred callbacks
+     * @param keyOf      extracts the ordering key from an entity
+     * @param deferred   the callbacks to defer; the others are forwarded synchronously
+     */
+    public AfterCommitEvents(EntityCrudEvents<ENTITY, ID, INPUT> listener, AsyncEventDispatcher dispatcher, Function<? super ENTITY, ?> keyOf, Set<Callback> deferred) {
+        this.listener = Objects.requireNonNull(listener, "Listener must not be null");
+        this.dispatcher = Objects.requireNonNull(dispatcher, "Dispatcher must not be null");
+        this.keyOf = Objects.requireNonNull(keyOf, "Key function must not be null");
+        this.deferred = deferred.isEmpty() ? EnumSet.noneOf(Callback.class) : EnumSet.copyOf(deferred);
+    }
+
+    /**
+     * Returns the listener receiving the callbacks.
+     */
+    EntityCrudEvents<ENTITY, ID, INPUT> getListener() {
+        return listener;
+    }
+
+    /**
+     * Indicates whether the named callback is deferred by this decorator rather than forwarded.
+     */
+    boolean defers(String callback) {
+        for (var candidate : deferred) {
+            if (candidate.single.equals(callback) || candidate.batch.equals(callback)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void onFind(ENTITY entity) {
+        listener.onFind(entity);
+    }
+
+    @Override
+    public void onCount(long count) {
+        listener.onCount(count);
+    }
+
+    @Override
+    public void onExists(boolean exists, ID id) {
+        listener.onExists(exists, id);
+    }
+
+    @Override
+    public void onPage(Page<ENTITY> page) {
+        listener.onPage(page);
+    }
+
+    @Override
+    public void onBeforeCreate(INPUT input, ENTITY entity) {
+        listener.onBeforeCreate(input, entity);
+    }
+
+    @Override
+    public void onBeforeUpdate(INPUT input, ENTITY entity) {
+        listener.onBeforeUpdate(input, entity);
+    }
+
+    @Override
+    public void onBeforeDelete(ENTITY entity) {
+        listener.onBeforeDelete(entity);
+    }
+
+    @Override
+    public void onAfterCreate(INPUT input, ENTITY entity) {
+        if (deferred.contains(Callback.AFTER_CREATE)) {
+            defer(entity, () -> listener.onAfterCreate(input, entity));
+        } else {
+            listener.onAfterCreate(input, entity);
+        }
+    }
+
+    @Override
+    public void onAfterUpdate(INPUT input, ENTITY entity) {
+        if (deferred.contains(Callback.AFTER_UPDATE)) {
+            defer(entity, () -> listener.onAfterUpdate(input, entity));
+        } else {
+            listener.onAfterUpdate(input, entity);
+        }
+    }
+
+    @Override
+    public void onAfterDelete(ENTITY entity) {
+        if (deferred.contains(Callback.AFTER_DELETE)) {
+            defer(entity, () -> listener.onAfterDelete(entity));
+        } else {
+            listener.onAfterDelete(entity);
+        }
+    }
+
+    @Override
+    public void eachEntity(ENTITY entity) {
+        listener.eachEntity(entity);
+    }
+
+    // ------------------------------------------------------------
+    // BATCH CALLBACKS
+    // ------------------------------------------------------------
+
+    @Override
+    public void eachEntities(List<ENTITY> entities) {
+        listener.eachEntities(entities);
+    }
+
+    @Override
+    public void onBeforeCreateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        listener.onBeforeCreateAll(inputs, entities);
+    }
+
+    @Override
+    public void onBeforeUpdateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        listener.onBeforeUpdateAll(inputs, entities);
+    }
+
+    @Override
+    public void onBeforeDeleteAll(List<ENTITY> entities) {
+        listener.onBeforeDeleteAll(entities);
+    }
+
+    @Override
+    public void onAfterCreateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        if (!deferred.contains(Callback.AFTER_CREATE)) {
+            listener.onAfterCreateAll(inputs, entities);
+            return;
+        }
+        for (var stripe : byStripe(entities)) {
+            var stripeInputs = select(inputs, stripe.indexes());
+            var stripeEntities = select(entities, stripe.indexes());
+            defer(stripe.index(), () -> listener.onAfterCreateAll(stripeInputs, stripeEntities));
+        }
+    }
+
+    @Override
+    public void onAfterUpdateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        if (!deferred.contains(Callback.AFTER_UPDATE)) {
+            listener.onAfterUpdateAll(inputs, entities);
+            return;
+        }
+        for (var stripe : byStripe(entities)) {
+            var stripeInputs = select(inputs, stripe.indexes());
+            var stripeEntities = select(entities, stripe.indexes());
+            defer(stripe.index(), () -> listener.onAfterUpdateAll(stripeInputs, stripeEntities));
+        }
+    }
+
+    @Override
+    public void onAfterDeleteAll(List<ENTITY> entities) {
+        if (!deferred.contains(Callback.AFTER_DELETE)) {
+            listener.onAfterDeleteAll(entities);
+            return;
+        }
+        for (var stripe : byStripe(entities)) {
+            var stripeEntities = select(entities, stripe.indexes());
+            defer(stripe.index(), () -> listener.onAfterDeleteAll(stripeEntities));
+        }
+    }
+
+    private void defer(ENTITY entity, Runnable callback) {
+        defer(dispatcher.stripeOf(keyOf.apply(entity)), callback);
+    }
+
+    private void defer(int stripe, Runnable callback) {
+        var task = CrudContext.propagateRun(callback);
+        TransactionSynchronizer.runAfterCommit(() -> dispatcher.dispatch(stripe, task));
+    }
+
+    private Collection<Stripe> byStripe(List<ENTITY> entities) {
+        var stripes = new LinkedHashMap<Integer, Stripe>();
+        for (int i = 0; i < entities.size(); i++) {
+            var index = dispatcher.stripeOf(keyOf.apply(entities.get(i)));
+            stripes.computeIfAbsent(index, _ -> new Stripe(index, new ArrayList<>())).indexes().add(i);
+        }
+        return stripes.values();
+    }
+
+    private static <T> List<T> select(List<T> source, List<Integer> indexes) {
+        var selected = new ArrayList<T>(indexes.size());
+        for (var index : indexes) {
+            selected.add(source.get(index));
+        }
+        return selected;
+    }
+
+    private record Stripe(int index, List<Integer> indexes) {
+    }
+}
@@ -0,0 +1,229 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+/**
+ * Asynchronous facade over a {@link CrudProvider}.
+ *
+ * <p>
+ * Every operation is submitted to an {@link Executor} (one virtual thread per task by default)
+ * and returns a {@link CompletableFuture}. The {@link CrudContext} bound to the calling scope is
+ * captured at submission time and re-bound on the worker thread, so the delegate observes the
+ * same {@link CrudOptions} as a synchronous call would.
+ * </p>
+ *
+ * <p>
+ * Independent operations can be issued together to overlap their round trips to the store:
+ * </p>
+ *
+ * <pre>{@code
+ * var async = new AsyncCrudProvider<>(userCrud);
+ * var user = async.find(userId);
+ * var total = async.count(null, "active==true");
+ * CompletableFuture.allOf(user, total).join();
+ * }</pre>
+ *
+ * <p>
+ * Each operation runs in its own unit of work on the delegate; no transaction is shared
+ * across the futures. Fan-out operations such as {@link #findAll(Collection)} are bounded only
+ * by the executor, so size them with the connection pool of the underlying store in mind.
+ * </p>
+ *
+ * @param <ID>     the unique identifier type of the resource
+ * @param <INPUT>  the input DTO type used to create or update resources
+ * @param <OUTPUT> the output DTO type returned to the consumer
+ * @see AsyncOwnedCrudProvider
+ */
+public class AsyncCrudProvider<ID, INPUT, OUTPUT> {
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = Thread.ofVirtual().name("freddy-cruder-async-", 0).factory();
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = task -> VIRTUAL_THREAD_FACTORY.newThread(task).start();
+
+    protected final CrudProvider<ID, INPUT, OUTPUT> delegate;
+    protected final Executor executor;
+
+    /**
+     * Creates an asynchronous facade that runs each operation on a new virtual thread.
+     *
+     * @param delegate the synchronous provider performing the operations
+     */
+    public AsyncCrudProvider(CrudProvider<ID, INPUT, OUTPUT> delegate) {
+        this(delegate, virtualThreadExecutor());
+    }
+
+    /**
+     * Creates an asynchronous facade that runs each operation on the given executor.
+     *
+     * @param delegate the synchronous provider performing the operations
+     * @param executor the executor running each operation
+     */
+    public AsyncCrudProvider(CrudProvider<ID, INPUT, OUTPUT> delegate, Executor executor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider must not be null");
+        this.executor = Objects.requireNonNull(executor, "Executor must not be null");
+    }
+
+    /**
+     * Returns the shared executor that starts one virtual thread per submitted task.
+     *
+     * @return the virtual-thread executor used by default
+     */
+    public static Executor virtualThreadExecutor() {
+        return VIRTUAL_THREAD_EXECUTOR;
+    }
+
+    // ------------------------------------------------------------
+    // CRUD OPERATIONS (public API)
+    // ------------------------------------------------------------
+
+    /**
+     * Asynchronous variant of {@link PageProvider#page(String, String, Pagination, Sort)}.
+     */
+    public CompletableFuture<Page<OUTPUT>> page(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return submit(provider -> provider.page(search, query, pagination, sort));
+    }
+
+    /**
+     * Asynchronous variant of {@link FindProvider#find(Object)}.
+     * A missing resource completes the future exceptionally with {@link NotFoundException}.
+     */
+    public CompletableFuture<OUTPUT> find(@NotNull ID id) {
+        return submit(provider -> provider.find(id));
+    }
+
+    /**
+     * Finds several resources concurrently, issuing one {@link FindProvider#find(Object)} per identifier.
+     *
+     * <p>
+     * The returned future completes once every lookup has finished, with the results in the
+     * iteration order of {@code ids}. If any lookup fails, the future completes exceptionally
+     * with the first failure.
+     * </p>
+     *
+     * <p>
+     * For stores that load batches natively, {@code submit(provider -> provider.findAll(ids))}
+     * runs a single {@link FindProvider#findAll(Collection)} instead, which also reports
+     * missing identifiers rather than failing.
+     * </p>
+     *
+     * @param ids unique identifiers of the resources
+     * @return a future holding the resources mapped to their output representation
+     */
+    public CompletableFuture<List<OUTPUT>> findAll(@NotNull Collection<@NotNull ID> ids) {
+        var futures = new ArrayList<CompletableFuture<OUTPUT>>(ids.size());
+        for (var id : ids) {
+            futures.add(find(id));
+        }
+        return joinAll(futures);
+    }
+
+    /**
+     * Asynchronous variant of {@link CountProvider#count(String, String)}.
+     */
+    public CompletableFuture<Long> count(@Nullable String search, @Nullable String query) {
+        return submit(provider -> provider.count(search, query));
+    }
+
+    /**
+     * Asynchronous variant of {@link CountProvider#countResult(String, String)}.
+     */
+    public CompletableFuture<CountResult> countResult(@Nullable String search, @Nullable String query) {
+        return submit(provider -> provider.countResult(search, query));
+    }
+
+    /**
+     * Asynchronous variant of {@link ExistsProvider#exists(Object)}.
+     */
+    public CompletableFuture<Boolean> exists(@NotNull ID id) {
+        return submit(provider -> provider.exists(id));
+    }
+
+    /**
+     * Asynchronous variant of {@link CreateProvider#create(Object)}.
+     */
+    public CompletableFuture<OUTPUT> create(@NotNull @Valid INPUT input) {
+        return submit(provider -> provider.create(input));
+    }
+
+    /**
+     * Asynchronous variant of {@link CreateProvider#createAll(List)}.
+     */
+    public CompletableFuture<List<OUTPUT>> createAll(@NotNull List<@NotNull @Valid INPUT> inputs) {
+        return submit(provider -> provider.createAll(inputs));
+    }
+
+    /**
+     * Asynchronous variant of {@link UpdateProvider#update(Object, Object)}.
+     */
+    public CompletableFuture<OUTPUT> update(@NotNull ID id, @NotNull @Valid INPUT input) {
+        return submit(provider -> provider.update(id, input));
+    }
+
+    /**
+     * Asynchronous variant of {@link UpdateProvider#updateAll(Map)}.
+     */
+    public CompletableFuture<List<OUTPUT>> updateAll(@NotNull Map<@NotNull ID, @NotNull @Valid INPUT> inputs) {
+        return submit(provider -> provider.updateAll(inputs));
+    }
+
+    /**
+     * Asynchronous variant of {@link DeleteProvider#delete(Object)}.
+     */
+    public CompletableFuture<Void> delete(@NotNull ID id) {
+        return submit(provider -> {
+            provider.delete(id);
+            return null;
+        });
+    }
+
+    /**
+     * Asynchronous variant of {@link DeleteProvider#deleteAll(Collection)}.
+     */
+    public CompletableFuture<Void> deleteAll(@NotNull Collection<@NotNull ID> ids) {
+        return submit(provider -> {
+            provider.deleteAll(ids);
+            return null;
+        });
+    }
+
+    /**
+     * Runs an arbitrary operation against the delegate on the executor, propagating the
+     * caller's {@link CrudContext}.
+     *
+     * @param operation the operation to run against the delegate
+     * @param <T>       the result type
+     * @return a future holding the result of {@code operation}
+     */
+    public <T> CompletableFuture<T> submit(Function<? super CrudProvider<ID, INPUT, OUTPUT>, T> operation) {
+        return CompletableFuture.supplyAsync(CrudContext.propagateCall(() -> operation.apply(delegate)), executor);
+    }
+
+    // ------------------------------------------------------------
+    // UTILITIES
+    // ------------------------------------------------------------
+
+    static <T> CompletableFuture<List<T>> joinAll(List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(_ -> {
+                var results = new ArrayList<T>(futures.size());
+                for (var future : futures) {
+                    results.add(future.join());
+                }
+                return results;
+            });
+    }
+}
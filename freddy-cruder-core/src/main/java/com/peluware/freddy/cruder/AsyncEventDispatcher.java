@@ -0,0 +1,215 @@
+package com.peluware.freddy.cruder;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs event tasks on virtual-thread workers fed by bounded lock-free ring buffers.
+ *
+ * <p>
+ * The dispatcher owns one worker per stripe, each consuming its own {@link RingBuffer}. Tasks
+ * dispatched with the same key always land on the same stripe, so they run one at a time in
+ * dispatch order; tasks without key are spread round-robin. When the ring of a stripe is full,
+ * the {@link Backpressure} policy decides what happens to the new task.
+ * </p>
+ *
+ * <p>
+ * A task that throws is reported to the uncaught exception handler of its worker and does not
+ * stop the worker. {@link #close()} stops accepting tasks, drains the rings and waits for the
+ * workers to finish.
+ * </p>
+ *
+ * @see AfterCommitEvents
+ */
+public final class AsyncEventDispatcher implements AutoCloseable {
+
+    /**
+     * Capacity of each ring used by {@link #AsyncEventDispatcher()}.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = Thread.ofVirtual().name("freddy-cruder-events-", 0).factory();
+    private static final long BLOCK_BACKOFF_NANOS = 50_000;
+
+    /**
+     * What to do with a task when the ring of its stripe is full.
+     */
+    public enum Backpressure {
+        /**
+         * Wait until the worker frees a slot.
+         */
+        BLOCK,
+        /**
+         * Discard the task and count it in {@link #getDropped()}.
+         */
+        DROP,
+        /**
+         * Run the task on the dispatching thread, possibly ahead of older tasks with the same key.
+         */
+        CALLER_RUNS
+    }
+
+    private final Stripe[] stripes;
+    private final Backpressure backpressure;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates a dispatcher with one stripe per available processor, rings of
+     * {@value #DEFAULT_CAPACITY} tasks and {@link Backpressure#BLOCK}.
+     */
+    public AsyncEventDispatcher() {
+        this(DEFAULT_CAPACITY, Runtime.getRuntime().availableProcessors(), Backpressure.BLOCK);
+    }
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param capacity     the capacity of each ring, rounded up to a power of two
+     * @param workers      the number of stripes, each with its own ring and worker
+     * @param backpressure what to do with a task when its ring is full
+     */
+    public AsyncEventDispatcher(int capacity, int workers, Backpressure backpressure) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Workers must be positive: " + workers);
+        }
+        this.backpressure = Objects.requireNonNull(backpressure, "Backpressure must not be null");
+        this.stripes = new Stripe[workers];
+        for (int i = 0; i < workers; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+        for (var stripe : stripes) {
+            stripe.worker.start();
+        }
+    }
+
+    /**
+     * Dispatches a task.
+     *
+     * @param key  tasks with equal keys run in dispatch order; {@code null} for no ordering
+     * @param task the task to run
+     * @return {@code false} if the task was dropped by {@link Backpressure#DROP}
+     * @throws IllegalStateException if the dispatcher is closed
+     */
+    public boolean dispatch(@Nullable Object key, Runnable task) {
+        return dispatch(stripeOf(key), task);
+    }
+
+    /**
+     * Returns the number of tasks discarded by {@link Backpressure#DROP}.
+     *
+     * @return the number of dropped tasks
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Stops accepting tasks and waits until every dispatched task has run.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        var interrupted = false;
+        for (var stripe : stripes) {
+            LockSupport.unpark(stripe.worker);
+            while (true) {
+                try {
+                    stripe.worker.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            // Tasks that raced with close are run by the closing thread, now the only consumer
+            for (var task = stripe.ring.poll(); task != null; task = stripe.ring.poll()) {
+                stripe.run(task);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the stripe serving the given key.
+     */
+    int stripeOf(@Nullable Object key) {
+        if (key == null) {
+            return Math.floorMod(roundRobin.getAndIncrement(), stripes.length);
+        }
+        var hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+
+    /**
+     * Dispatches a task to a stripe returned by {@link #stripeOf(Object)}.
+     */
+    boolean dispatch(int stripeIndex, Runnable task) {
+        Objects.requireNonNull(task, "Task must not be null");
+        if (closed) {
+            throw new IllegalStateException("Dispatcher is closed");
+        }
+        var stripe = stripes[stripeIndex];
+        while (!stripe.ring.offer(task)) {
+            switch (backpressure) {
+                case DROP -> {
+                    dropped.incrementAndGet();
+                    return false;
+                }
+                case CALLER_RUNS -> {
+                    task.run();
+                    return true;
+                }
+                case BLOCK -> {
+                    LockSupport.unpark(stripe.worker);
+                    LockSupport.parkNanos(BLOCK_BACKOFF_NANOS);
+                    if (closed) {
+                        throw new IllegalStateException("Dispatcher is closed");
+                    }
+                }
+            }
+        }
+        LockSupport.unpark(stripe.worker);
+        return true;
+    }
+
+    private final class Stripe {
+
+        final RingBuffer<Runnable> ring;
+        final Thread worker;
+
+        Stripe(int capacity) {
+            this.ring = new RingBuffer<>(capacity);
+            this.worker = VIRTUAL_THREAD_FACTORY.newThread(this::consume);
+        }
+
+        private void consume() {
+            while (true) {
+                var task = ring.poll();
+                if (task != null) {
+                    run(task);
+                } else if (closed && ring.isEmpty()) {
+                    return;
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+        }
+
+        void run(Runnable task) {
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                var thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Asynchronous facade over an {@link OwnedCrudProvider}.
+ *
+ * <p>
+ * Behaves like {@link AsyncCrudProvider}: each operation runs on the executor (one virtual
+ * thread per task by default) with the caller's {@link CrudContext} re-bound, and every
+ * operation is scoped to the given owner.
+ * </p>
+ *
+ * @param <OWNER_ID> the identifier type of the owning resource
+ * @param <ID>       the unique identifier type of the sub-resource
+ * @param <INPUT>    the input DTO type used to create or update
+ * @param <OUTPUT>   the output DTO type returned to the consumer
+ * @see AsyncCrudProvider
+ */
+public class AsyncOwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> {
+
+    protected final OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> delegate;
+    protected final Executor executor;
+
+    /**
+     * Creates an asynchronous facade that runs each operation on a new virtual thread.
+     *
+     * @param delegate the synchronous provider performing the operations
+     */
+    public AsyncOwnedCrudProvider(OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> delegate) {
+        this(delegate, AsyncCrudProvider.virtualThreadExecutor());
+    }
+
+    /**
+     * Creates an asynchronous facade that runs each operation on the given executor.
+     *
+     * @param delegate the synchronous provider performing the operations
+     * @param executor the executor running each operation
+     */
+    public AsyncOwnedCrudProvider(OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> delegate, Executor executor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider must not be null");
+        this.executor = Objects.requireNonNull(executor, "Executor must not be null");
+    }
+
+    // ------------------------------------------------------------
+    // CRUD OPERATIONS (public API)
+    // ------------------------------------------------------------
+
+    /**
+     * Asynchronous variant of {@link OwnedPageProvider#page(Object, String, String, Pagination, Sort)}.
+     */
+    public CompletableFuture<Page<OUTPUT>> page(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return submit(provider -> provider.page(ownerId, search, query, pagination, sort));
+    }
+
+    /**
+     * Asynchronous variant of {@link OwnedFindProvider#find(Object, Object)}.
+     * A missing owner or resource completes the future exceptionally with {@link NotFoundException}.
+     */
+    public CompletableFuture<OUTPUT> find(@NotNull OWNER_ID ownerId, @NotNull ID id) {
+        return submit(provider -> provider.find(ownerId, id));
+    }
+
+    /**
+     * Finds several resources of the given owner concurrently, issuing one
+     * {@link OwnedFindProvider#find(Object, Object)} per identifier.
+     *
+     * <p>
+     * The returned future completes once every lookup has finished, with the results in the
+     * iteration order of {@code ids}. If any lookup fails, the future completes exceptionally
+     * with the first failure.
+     * </p>
+     *
+     * <p>
+     * For stores that load batches natively, {@code submit(provider -> provider.findAll(ownerId, ids))}
+     * runs a single {@link OwnedFindProvider#findAll(Object, Collection)} instead, which also
+     * reports missing identifiers rather than failing.
+     * </p>
+     *
+     * @param ownerId unique identifier of the owning resource
+     * @param ids     unique identifiers of the resources
+     * @return a future holding the resources mapped to their output representation
+     */
+    public CompletableFuture<List<OUTPUT>> findAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) {
+        var futures = new ArrayList<CompletableFuture<OUTPUT>>(ids.size());
+        for (var id : ids) {
+            futures.add(find(ownerId, id));
+        }
+        return AsyncCrudProvider.joinAll(futures);
+    }
+
+    /**
+     * Asynchronous variant of {@link OwnedCountProvider#count(Object, String, String)}.
+     */
+    public CompletableFuture<Long> count(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query) {
+        return submit(provider -> provider.count(ownerId, search, query));
+    }
+
+    /**
+     * Asynchronous variant of {@link OwnedCountProvider#countResult(Object, String, String)}.
+     */
+    public CompletableFuture<CountResult> countResult(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query) {
+        return submit(provider -> provider.countResult(ownerId, search, query));
+    }
+
+    /**
+     * Asynchronous variant of {@link OwnedExistsProvider#exists(Object, Object)}.
+     */
+    public CompletableFuture<Boolean> exists(@NotNull OWNER_ID ownerId, @NotNull ID id) {
+        return submit(provider -> provider.exists(ownerId, id));
+    }
+
+    /**
+     * Asynchronous variant of {@link OwnedCreateProvider#create(Object, Object)}.
+     */
+    public CompletableFuture<OUTPUT> create(@NotNull OWNER_ID ownerId, @NotNull @Valid INPUT input) {
+        return submit(provider -> provider.create(ownerId, input));
+    }
+
+    /**
+     * Asynchronous variant of {@link OwnedCreateProvider#createAll(Object, List)}.
+     */
+    public CompletableFuture<List<OUTPUT>> createAll(@NotNull OWNER_ID ownerId, @NotNull List<@NotNull @Valid INPUT> inputs) {
+        return submit(provider -> provider.createAll(ownerId, inputs));
+    }
+
+    /**
+     * Asynchronous variant of {@link OwnedUpdateProvider#update(Object, Object, Object)}.
+     */
+    public CompletableFuture<OUTPUT> update(@NotNull OWNER_ID ownerId, @NotNull ID id, @NotNull @Valid INPUT input) {
+        return submit(provider -> provider.update(ownerId, id, input));
+    }
+
+    /**
+     * Asynchronous variant of {@link OwnedUpdateProvider#updateAll(Object, Map)}.
+     */
+    public CompletableFuture<List<OUTPUT>> updateAll(@NotNull OWNER_ID ownerId, @NotNull Map<@NotNull ID, @NotNull @Valid INPUT> inputs) {
+        return submit(provider -> provider.updateAll(ownerId, inputs));
+    }
+
+    /**
+     * Asynchronous variant of {@link OwnedDeleteProvider#delete(Object, Object)}.
+     */
+    public CompletableFuture<Void> delete(@NotNull OWNER_ID ownerId, @NotNull ID id) {
+        return submit(provider -> {
+            provider.delete(ownerId, id);
+            return null;
+        });
+    }
+
+    /**
+     * Asynchronous variant of {@link OwnedDeleteProvider#deleteAll(Object, Collection)}.
+     */
+    public CompletableFuture<Void> deleteAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) {
+        return submit(provider -> {
+            provider.deleteAll(ownerId, ids);
+            return null;
+        });
+    }
+
+    /**
+     * Runs an arbitrary operation against the delegate on the executor, propagating the
+     * caller's {@link CrudContext}.
+     *
+     * @param operation the operation to run against the delegate
+     * @param <T>       the result type
+     * @return a future holding the result of {@code operation}
+     */
+    public <T> CompletableFuture<T> submit(Function<? super OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT>, T> operation) {
+        return CompletableFuture.supplyAsync(CrudContext.propagateCall(() -> operation.apply(delegate)), executor);
+    }
+}
@@ -0,0 +1,232 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Micro-batching decorator for a {@link CrudProvider}.
+ *
+ * <p>
+ * Concurrent {@link #find(Object)} calls are grouped into batches loaded with a single
+ * {@link FindProvider#findAll(Collection) findAll} call on the delegate, so a provider backed by
+ * {@code IN} queries answers a burst of lookups in one round trip instead of one per caller. The
+ * first caller of a batch waits for others at most the batch window, or until the batch is full,
+ * then loads it and completes every caller; a batch with a single identifier is loaded with a
+ * plain {@code find}. Every other operation is forwarded as is.
+ * </p>
+ *
+ * <pre>{@code
+ * var users = new BatchingCrudProvider<>(userCrud);
+ * }</pre>
+ *
+ * <p>
+ * The window and the batch size adapt to the load, up to the configured maximums: the window
+ * shrinks to zero when calls arrive too sparsely to share a batch, so isolated lookups are not
+ * delayed, and the batch size grows while batches fill up and shrinks back when they do not.
+ * Callers block until their batch completes, which suits virtual threads.
+ * </p>
+ *
+ * <p>
+ * The batch runs on the first caller's thread, inside its own unit of work, and only the mapped
+ * outputs cross threads. Calls made inside a transaction (see
+ * {@link TransactionSynchronizer#inTransaction()}) or with {@link CrudOptions} are never batched,
+ * since they would otherwise run in another caller's transaction or with its options. For the
+ * same reason, calls are only batched with calls of the same {@linkplain #getCallerKey() caller}.
+ * Identifiers missing from a batch are looked up again with a plain {@code find} on the caller's
+ * thread, so that the caller receives the exception raised by the delegate (e.g. a
+ * {@link NotFoundEntityException}).
+ * </p>
+ *
+ * @param <ID>     the unique identifier type of the resource
+ * @param <INPUT>  the input DTO type used to create or update resources
+ * @param <OUTPUT> the output DTO type returned to the consumer
+ * @see BatchingOwnedCrudProvider
+ */
+public class BatchingCrudProvider<ID, INPUT, OUTPUT> implements CrudProvider<ID, INPUT, OUTPUT> {
+
+    /**
+     * Default maximum time the first caller of a batch waits for other callers.
+     */
+    public static final Duration DEFAULT_MAX_WINDOW = Duration.ofMillis(2);
+
+    /**
+     * Default maximum number of distinct identifiers loaded per batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    protected final CrudProvider<ID, INPUT, OUTPUT> delegate;
+    private final MicroBatcher<ID, OUTPUT> batcher;
+
+    /**
+     * Creates a micro-batching decorator with the default window and batch size.
+     *
+     * @param delegate the provider performing the actual operations
+     */
+    public BatchingCrudProvider(CrudProvider<ID, INPUT, OUTPUT> delegate) {
+        this(delegate, DEFAULT_MAX_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a micro-batching decorator.
+     *
+     * @param delegate     the provider performing the actual operations
+     * @param maxWindow    the longest time the first caller of a batch waits for other callers
+     * @param maxBatchSize the largest number of distinct identifiers loaded per batch
+     */
+    public BatchingCrudProvider(CrudProvider<ID, INPUT, OUTPUT> delegate, Duration maxWindow, int maxBatchSize) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider must not be null");
+        this.batcher = new MicroBatcher<>(this::loadBatch, Objects.requireNonNull(maxWindow, "Batch window must not be null"), maxBatchSize);
+    }
+
+    // ------------------------------------------------------------
+    // BATCHED OPERATIONS
+    // ------------------------------------------------------------
+
+    @Override
+    public OUTPUT find(@NotNull ID id) throws NotFoundException {
+        if (!isBatchable()) {
+            return delegate.find(id);
+        }
+        var output = batcher.load(getCallerKey(), id);
+        if (output == null) {
+            // Missing from a shared batch: let the delegate raise its own not-found exception
+            return delegate.find(id);
+        }
+        return output;
+    }
+
+    // ------------------------------------------------------------
+    // FORWARDED OPERATIONS
+    // ------------------------------------------------------------
+
+    @Override
+    public FindAllResult<ID, OUTPUT> findAll(@NotNull Collection<@NotNull ID> ids) {
+        return delegate.findAll(ids);
+    }
+
+    @Override
+    public boolean exists(@NotNull ID id) {
+        return delegate.exists(id);
+    }
+
+    @Override
+    public Map<ID, Boolean> existsAll(@NotNull Collection<@NotNull ID> ids) {
+        return delegate.existsAll(ids);
+    }
+
+    @Override
+    public Page<OUTPUT> page(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return delegate.page(search, query, pagination, sort);
+    }
+
+    @Override
+    public Slice<OUTPUT> slice(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return delegate.slice(search, query, pagination, sort);
+    }
+
+    @Override
+    public CursorPage<OUTPUT> pageByCursor(@Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) {
+        return delegate.pageByCursor(search, query, cursor, size, sort);
+    }
+
+    @Override
+    public long count(@Nullable String search, @Nullable String query) {
+        return delegate.count(search, query);
+    }
+
+    @Override
+    public CountResult countResult(@Nullable String search, @Nullable String query) {
+        return delegate.countResult(search, query);
+    }
+
+    @Override
+    public Stream<OUTPUT> stream(@Nullable String search, @Nullable String query, Sort sort) {
+        return delegate.stream(search, query, sort);
+    }
+
+    @Override
+    public OUTPUT create(@NotNull @Valid INPUT input) {
+        return delegate.create(input);
+    }
+
+    @Override
+    public List<OUTPUT> createAll(@NotNull List<@NotNull @Valid INPUT> inputs) {
+        return delegate.createAll(inputs);
+    }
+
+    @Override
+    public OUTPUT update(@NotNull ID id, @NotNull @Valid INPUT input) throws NotFoundException {
+        return delegate.update(id, input);
+    }
+
+    @Override
+    public List<OUTPUT> updateAll(@NotNull Map<@NotNull ID, @NotNull @Valid INPUT> inputs) throws NotFoundException {
+        return delegate.updateAll(inputs);
+    }
+
+    @Override
+    public void delete(@NotNull ID id) throws NotFoundException {
+        delegate.delete(id);
+    }
+
+    @Override
+    public void deleteAll(@NotNull Collection<@NotNull ID> ids) throws NotFoundException {
+        delegate.deleteAll(ids);
+    }
+
+    // ------------------------------------------------------------
+    // UTILITIES
+    // ------------------------------------------------------------
+
+    /**
+     * Indicates whether the current call may be batched with concurrent calls.
+     *
+     * <p>
+     * The default implementation returns {@code true} unless the calling thread runs inside a
+     * transaction or carries non-empty {@link CrudOptions}. Subclasses may override to exclude
+     * further calls.
+     * </p>
+     *
+     * @return {@code true} if the current call may be batched
+     */
+    protected boolean isBatchable() {
+        return !TransactionSynchronizer.inTransaction()
+            && (!CrudContext.hasContext() || CrudContext.current().options().isEmpty());
+    }
+
+    /**
+     * Returns a discriminator of the caller, so that calls are only batched with calls returning
+     * an equal key.
+     *
+     * <p>
+     * A batch is loaded on the thread of its first caller, with whatever identity is bound to it.
+     * The default implementation returns {@code null}, batching every caller together. Override it
+     * when the delegate filters by request state, e.g. returning the authenticated principal or the
+     * tenant the delegate scopes queries by.
+     * </p>
+     *
+     * @return the caller key, or {@code null} if calls of every caller may share a batch
+     */
+    protected @Nullable Object getCallerKey() {
+        return null;
+    }
+
+    private Map<ID, OUTPUT> loadBatch(List<ID> ids) {
+        if (ids.size() == 1) {
+            var id = ids.getFirst();
+            return Map.of(id, delegate.find(id));
+        }
+        return delegate.findAll(ids).found();
+    }
+}
@@ -0,0 +1,205 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Micro-batching decorator for an {@link OwnedCrudProvider}.
+ *
+ * <p>
+ * Behaves like {@link BatchingCrudProvider}: concurrent {@link #find(Object, Object)} calls,
+ * possibly under different owners, are grouped into batches loaded with
+ * {@link OwnedFindProvider#findAll(Collection)}, which issues one call per owner present in the
+ * batch. Calls are only batched with calls of the same {@linkplain #getCallerKey() caller}.
+ * </p>
+ *
+ * @param <OWNER_ID> the identifier type of the owning resource
+ * @param <ID>       the unique identifier type of the sub-resource
+ * @param <INPUT>    the input DTO type used to create or update
+ * @param <OUTPUT>   the output DTO type returned to the consumer
+ * @see BatchingCrudProvider
+ */
+public class BatchingOwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> implements OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> {
+
+    protected final OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> delegate;
+    private final MicroBatcher<OwnedId<OWNER_ID, ID>, OUTPUT> batcher;
+
+    /**
+     * Creates a micro-batching decorator with the default window and batch size.
+     *
+     * @param delegate the provider performing the actual operations
+     */
+    public BatchingOwnedCrudProvider(OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> delegate) {
+        this(delegate, BatchingCrudProvider.DEFAULT_MAX_WINDOW, BatchingCrudProvider.DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a micro-batching decorator.
+     *
+     * @param delegate     the provider performing the actual operations
+     * @param maxWindow    the longest time the first caller of a batch waits for other callers
+     * @param maxBatchSize the largest number of distinct identifiers loaded per batch
+     */
+    public BatchingOwnedCrudProvider(OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> delegate, Duration maxWindow, int maxBatchSize) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider must not be null");
+        this.batcher = new MicroBatcher<>(this::loadBatch, Objects.requireNonNull(maxWindow, "Batch window must not be null"), maxBatchSize);
+    }
+
+    // ------------------------------------------------------------
+    // BATCHED OPERATIONS
+    // ------------------------------------------------------------
+
+    @Override
+    public OUTPUT find(@NotNull OWNER_ID ownerId, @NotNull ID id) throws NotFoundException {
+        if (!isBatchable()) {
+            return delegate.find(ownerId, id);
+        }
+        var key = new OwnedId<>(ownerId, id);
+        var output = batcher.load(getCallerKey(), key);
+        if (output == null) {
+            // Missing from a shared batch: let the delegate raise its own not-found exception
+            return delegate.find(ownerId, id);
+        }
+        return output;
+    }
+
+    // ------------------------------------------------------------
+    // FORWARDED OPERATIONS
+    // ------------------------------------------------------------
+
+    @Override
+    public FindAllResult<ID, OUTPUT> findAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) {
+        return delegate.findAll(ownerId, ids);
+    }
+
+    @Override
+    public FindAllResult<OwnedId<OWNER_ID, ID>, OUTPUT> findAll(@NotNull Collection<@NotNull OwnedId<OWNER_ID, ID>> ids) {
+        return delegate.findAll(ids);
+    }
+
+    @Override
+    public boolean exists(@NotNull OWNER_ID ownerId, @NotNull ID id) {
+        return delegate.exists(ownerId, id);
+    }
+
+    @Override
+    public Map<ID, Boolean> existsAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) {
+        return delegate.existsAll(ownerId, ids);
+    }
+
+    @Override
+    public Page<OUTPUT> page(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) throws NotFoundException {
+        return delegate.page(ownerId, search, query, pagination, sort);
+    }
+
+    @Override
+    public Slice<OUTPUT> slice(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) throws NotFoundException {
+        return delegate.slice(ownerId, search, query, pagination, sort);
+    }
+
+    @Override
+    public CursorPage<OUTPUT> pageByCursor(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) throws NotFoundException {
+        return delegate.pageByCursor(ownerId, search, query, cursor, size, sort);
+    }
+
+    @Override
+    public long count(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query) throws NotFoundException {
+        return delegate.count(ownerId, search, query);
+    }
+
+    @Override
+    public CountResult countResult(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query) throws NotFoundException {
+        return delegate.countResult(ownerId, search, query);
+    }
+
+    @Override
+    public Stream<OUTPUT> stream(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Sort sort) throws NotFoundException {
+        return delegate.stream(ownerId, search, query, sort);
+    }
+
+    @Override
+    public OUTPUT create(@NotNull OWNER_ID ownerId, @NotNull @Valid INPUT input) throws NotFoundException {
+        return delegate.create(ownerId, input);
+    }
+
+    @Override
+    public List<OUTPUT> createAll(@NotNull OWNER_ID ownerId, @NotNull List<@NotNull @Valid INPUT> inputs) throws NotFoundException {
+        return delegate.createAll(ownerId, inputs);
+    }
+
+    @Override
+    public OUTPUT update(@NotNull OWNER_ID ownerId, @NotNull ID id, @NotNull @Valid INPUT input) throws NotFoundException {
+        return delegate.update(ownerId, id, input);
+    }
+
+    @Override
+    public List<OUTPUT> updateAll(@NotNull OWNER_ID ownerId, @NotNull Map<@NotNull ID, @NotNull @Valid INPUT> inputs) throws NotFoundException {
+        return delegate.updateAll(ownerId, inputs);
+    }
+
+    @Override
+    public void delete(@NotNull OWNER_ID ownerId, @NotNull ID id) throws NotFoundException {
+        delegate.delete(ownerId, id);
+    }
+
+    @Override
+    public void deleteAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) throws NotFoundException {
+        delegate.deleteAll(ownerId, ids);
+    }
+
+    // ------------------------------------------------------------
+    // UTILITIES
+    // ------------------------------------------------------------
+
+    /**
+     * Indicates whether the current call may be batched with concurrent calls.
+     *
+     * <p>
+     * The default implementation returns {@code true} unless the calling thread runs inside a
+     * transaction or carries non-empty {@link CrudOptions}. Subclasses may override to exclude
+     * further calls.
+     * </p>
+     *
+     * @return {@code true} if the current call may be batched
+     */
+    protected boolean isBatchable() {
+        return !TransactionSynchronizer.inTransaction()
+            && (!CrudContext.hasContext() || CrudContext.current().options().isEmpty());
+    }
+
+    /**
+     * Returns a discriminator of the caller, so that calls are only batched with calls returning
+     * an equal key.
+     *
+     * <p>
+     * A batch is loaded on the thread of its first caller, with whatever identity is bound to it.
+     * The default implementation returns {@code null}, batching every caller together. Override it
+     * when the delegate filters by request state, e.g. returning the authenticated principal or the
+     * tenant the delegate scopes queries by.
+     * </p>
+     *
+     * @return the caller key, or {@code null} if calls of every caller may share a batch
+     */
+    protected @Nullable Object getCallerKey() {
+        return null;
+    }
+
+    private Map<OwnedId<OWNER_ID, ID>, OUTPUT> loadBatch(List<OwnedId<OWNER_ID, ID>> ids) {
+        if (ids.size() == 1) {
+            var key = ids.getFirst();
+            return Map.of(key, delegate.find(key.ownerId(), key.id()));
+        }
+        return delegate.findAll(ids).found();
+    }
+}
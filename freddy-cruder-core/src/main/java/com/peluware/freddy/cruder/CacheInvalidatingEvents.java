@@ -0,0 +1,104 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.freddy.cruder.utils.BoundedCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link EntityCrudEvents} listener that evicts cache entries when entities are written.
+ *
+ * <p>
+ * After a create, update or delete, the key of the affected entity is invalidated, so that
+ * negative entries for newly created identifiers and stale values of modified entities are
+ * dropped within the same operation. It is composed after the user events through
+ * {@link CompositeCrudEvents}, so it never takes part in read callbacks.
+ * </p>
+ *
+ * <p>
+ * These callbacks run before the transaction commits, while concurrent readers still see the
+ * previous state and may cache it again. Keys are therefore invalidated a second time once the
+ * transaction commits, see {@link #invalidate(BoundedCache, Collection)}.
+ * </p>
+ *
+ * @param <ENTITY> the entity type
+ * @param <ID>     the identifier type of the entity
+ * @param <INPUT>  the input DTO type
+ * @param <K>      the cache key type
+ * @see CachingCrudProvider#invalidating
+ * @see CachingOwnedCrudProvider#invalidating
+ */
+final class CacheInvalidatingEvents<ENTITY, ID, INPUT, K> implements EntityCrudEvents<ENTITY, ID, INPUT> {
+
+    private final BoundedCache<K, ?> cache;
+    private final Function<? super ENTITY, ? extends K> keyOf;
+
+    CacheInvalidatingEvents(BoundedCache<K, ?> cache, Function<? super ENTITY, ? extends K> keyOf) {
+        this.cache = cache;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Invalidates the given keys now and once more after the transaction of the calling thread
+     * commits, or immediately again when there is no transaction.
+     *
+     * <p>
+     * A reader running between the write and the commit loads the previous state and may store
+     * it again; the after-commit invalidation drops that entry, and the stamp it advances
+     * rejects the loads still in flight.
+     * </p>
+     *
+     * @param cache the cache to invalidate
+     * @param keys  the keys to invalidate
+     * @param <K>   the cache key type
+     */
+    static <K> void invalidate(BoundedCache<K, ?> cache, Collection<? extends K> keys) {
+        var snapshot = List.<K>copyOf(keys);
+        snapshot.forEach(cache::invalidate);
+        TransactionSynchronizer.runAfterCommit(() -> snapshot.forEach(cache::invalidate));
+    }
+
+    @Override
+    public void onAfterCreate(INPUT input, ENTITY entity) {
+        invalidate(cache, List.of(keyOf.apply(entity)));
+    }
+
+    @Override
+    public void onAfterUpdate(INPUT input, ENTITY entity) {
+        invalidate(cache, List.of(keyOf.apply(entity)));
+    }
+
+    @Override
+    public void onAfterDelete(ENTITY entity) {
+        invalidate(cache, List.of(keyOf.apply(entity)));
+    }
+
+    // ------------------------------------------------------------
+    // BATCH CALLBACKS
+    // ------------------------------------------------------------
+
+    @Override
+    public void onAfterCreateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        invalidateAll(entities);
+    }
+
+    @Override
+    public void onAfterUpdateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        invalidateAll(entities);
+    }
+
+    @Override
+    public void onAfterDeleteAll(List<ENTITY> entities) {
+        invalidateAll(entities);
+    }
+
+    private void invalidateAll(List<ENTITY> entities) {
+        var keys = new ArrayList<K>(entities.size());
+        for (var entity : entities) {
+            keys.add(keyOf.apply(entity));
+        }
+        invalidate(cache, keys);
+    }
+}
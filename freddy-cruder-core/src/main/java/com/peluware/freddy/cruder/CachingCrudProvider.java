@@ -0,0 +1,356 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import com.peluware.freddy.cruder.utils.BoundedCache;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Read-through caching decorator for a {@link CrudProvider}.
+ *
+ * <p>
+ * {@link #find(Object)} and {@link #exists(Object)} are served from a {@link BoundedCache}
+ * keyed by identifier, so hot resources are returned without touching the store. Their bulk
+ * variants only send the identifiers missing from the cache to the delegate. Lookups of
+ * missing resources are remembered as negative entries (if the cache enables them), and
+ * entries past their refresh age are reloaded in the background while the cached value is
+ * still served. Every other operation is forwarded to the delegate.
+ * </p>
+ *
+ * <p>
+ * Writes issued through this decorator invalidate the affected identifiers once the delegate
+ * returns, and again once the transaction of the calling thread commits. Writes that reach the store through the underlying provider directly are covered
+ * by building that provider with the events returned by
+ * {@link #invalidating(BoundedCache, Function, EntityCrudEvents)}:
+ * </p>
+ *
+ * <pre>{@code
+ * var cache = new BoundedCache<Long, UserOutput>(10_000, Duration.ofMinutes(10), Duration.ofSeconds(30), Duration.ofMinutes(8));
+ * var users = new UserCrud(em, CachingCrudProvider.invalidating(cache, User::getId, EntityCrudEvents.getDefault()));
+ * var cached = new CachingCrudProvider<>(users, cache);
+ * }</pre>
+ *
+ * <p>
+ * The cache is bypassed when the calling scope carries non-empty {@link CrudOptions}, since
+ * options may change the shape of the output.
+ * </p>
+ *
+ * @param <ID>     the unique identifier type of the resource
+ * @param <INPUT>  the input DTO type used to create or update resources
+ * @param <OUTPUT> the output DTO type returned to the consumer
+ * @see CachingOwnedCrudProvider
+ */
+public class CachingCrudProvider<ID, INPUT, OUTPUT> implements CrudProvider<ID, INPUT, OUTPUT> {
+
+    protected final CrudProvider<ID, INPUT, OUTPUT> delegate;
+    protected final BoundedCache<ID, OUTPUT> cache;
+    protected final Executor refreshExecutor;
+
+    /**
+     * Creates a caching decorator that runs refresh-ahead reloads on virtual threads.
+     *
+     * @param delegate the provider performing the actual operations
+     * @param cache    the cache holding output representations by identifier
+     */
+    public CachingCrudProvider(CrudProvider<ID, INPUT, OUTPUT> delegate, BoundedCache<ID, OUTPUT> cache) {
+        this(delegate, cache, AsyncCrudProvider.virtualThreadExecutor());
+    }
+
+    /**
+     * Creates a caching decorator.
+     *
+     * @param delegate        the provider performing the actual operations
+     * @param cache           the cache holding output representations by identifier
+     * @param refreshExecutor the executor running refresh-ahead reloads
+     */
+    public CachingCrudProvider(CrudProvider<ID, INPUT, OUTPUT> delegate, BoundedCache<ID, OUTPUT> cache, Executor refreshExecutor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider must not be null");
+        this.cache = Objects.requireNonNull(cache, "Cache must not be null");
+        this.refreshExecutor = Objects.requireNonNull(refreshExecutor, "Refresh executor must not be null");
+    }
+
+    /**
+     * Wraps lifecycle events so that every entity written by the provider is evicted from the cache.
+     *
+     * @param cache    the cache to invalidate
+     * @param idOf     extracts the identifier from an entity
+     * @param events   the events to forward every callback to
+     * @param <ENTITY> the entity type
+     * @param <ID>     the identifier type of the entity
+     * @param <INPUT>  the input DTO type
+     * @return events that forward to {@code events} and invalidate after writes
+     */
+    public static <ENTITY, ID, INPUT> EntityCrudEvents<ENTITY, ID, INPUT> invalidating(BoundedCache<ID, ?> cache, Function<? super ENTITY, ? extends ID> idOf, EntityCrudEvents<ENTITY, ID, INPUT> events) {
+        return CompositeCrudEvents.of(events, new CacheInvalidatingEvents<>(cache, idOf));
+    }
+
+    // ------------------------------------------------------------
+    // CACHED OPERATIONS
+    // ------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Served from the cache when possible. A cached negative entry raises a new
+     * {@link NotFoundException} for the identifier.
+     * </p>
+     */
+    @Override
+    public OUTPUT find(@NotNull ID id) throws NotFoundException {
+        if (!isCacheable()) {
+            return delegate.find(id);
+        }
+        var entry = cache.getEntry(id);
+        if (entry == null) {
+            return load(id);
+        }
+        var value = entry.value();
+        if (value == null) {
+            throw new NotFoundException(id);
+        }
+        if (entry.tryRefresh()) {
+            refreshExecutor.execute(() -> refresh(id));
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Answered from the cache when an entry exists for the identifier. Missing resources
+     * are remembered as negative entries.
+     * </p>
+     */
+    @Override
+    public boolean exists(@NotNull ID id) {
+        if (!isCacheable()) {
+            return delegate.exists(id);
+        }
+        var entry = cache.getEntry(id);
+        if (entry != null) {
+            return entry.isPresent();
+        }
+        var stamp = cache.stamp();
+        var exists = delegate.exists(id);
+        if (!exists) {
+            cache.put(id, null, stamp);
+        }
+        return exists;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Cached identifiers are answered from the cache, negative entries being reported as
+     * missing. The remaining identifiers are loaded with a single
+     * {@link FindProvider#findAll(Collection)} call on the delegate and stored, missing ones as
+     * negative entries.
+     * </p>
+     */
+    @Override
+    public FindAllResult<ID, OUTPUT> findAll(@NotNull Collection<@NotNull ID> ids) {
+        if (!isCacheable()) {
+            return delegate.findAll(ids);
+        }
+        var found = new HashMap<ID, OUTPUT>();
+        var misses = new ArrayList<ID>();
+        for (var id : new LinkedHashSet<>(ids)) {
+            var entry = cache.getEntry(id);
+            if (entry == null) {
+                misses.add(id);
+                continue;
+            }
+            var value = entry.value();
+            if (value != null) {
+                found.put(id, value);
+                if (entry.tryRefresh()) {
+                    refreshExecutor.execute(() -> refresh(id));
+                }
+            }
+        }
+        if (!misses.isEmpty()) {
+            var stamp = cache.stamp();
+            var loaded = delegate.findAll(misses);
+            loaded.found().forEach((id, output) -> {
+                cache.put(id, output, stamp);
+                found.put(id, output);
+            });
+            loaded.missing().forEach(id -> cache.put(id, null, stamp));
+        }
+        return FindAllResult.of(ids, found);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Cached identifiers are answered from the cache. The remaining identifiers are checked with
+     * a single {@link ExistsProvider#existsAll(Collection)} call on the delegate, and missing
+     * resources are remembered as negative entries.
+     * </p>
+     */
+    @Override
+    public Map<ID, Boolean> existsAll(@NotNull Collection<@NotNull ID> ids) {
+        if (!isCacheable()) {
+            return delegate.existsAll(ids);
+        }
+        var result = new LinkedHashMap<ID, Boolean>();
+        var misses = new ArrayList<ID>();
+        for (var id : ids) {
+            if (result.containsKey(id)) {
+                continue;
+            }
+            var entry = cache.getEntry(id);
+            result.put(id, entry != null && entry.isPresent());
+            if (entry == null) {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            var stamp = cache.stamp();
+            delegate.existsAll(misses).forEach((id, exists) -> {
+                result.put(id, exists);
+                if (!exists) {
+                    cache.put(id, null, stamp);
+                }
+            });
+        }
+        return result;
+    }
+
+    // ------------------------------------------------------------
+    // FORWARDED OPERATIONS
+    // ------------------------------------------------------------
+
+    @Override
+    public Page<OUTPUT> page(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return delegate.page(search, query, pagination, sort);
+    }
+
+    @Override
+    public Slice<OUTPUT> slice(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return delegate.slice(search, query, pagination, sort);
+    }
+
+    @Override
+    public CursorPage<OUTPUT> pageByCursor(@Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) {
+        return delegate.pageByCursor(search, query, cursor, size, sort);
+    }
+
+    @Override
+    public Stream<OUTPUT> stream(@Nullable String search, @Nullable String query, Sort sort) {
+        return delegate.stream(search, query, sort);
+    }
+
+    @Override
+    public long count(@Nullable String search, @Nullable String query) {
+        return delegate.count(search, query);
+    }
+
+    @Override
+    public CountResult countResult(@Nullable String search, @Nullable String query) {
+        return delegate.countResult(search, query);
+    }
+
+    @Override
+    public OUTPUT create(@NotNull @Valid INPUT input) {
+        return delegate.create(input);
+    }
+
+    @Override
+    public List<OUTPUT> createAll(@NotNull List<@NotNull @Valid INPUT> inputs) {
+        return delegate.createAll(inputs);
+    }
+
+    @Override
+    public OUTPUT update(@NotNull ID id, @NotNull @Valid INPUT input) throws NotFoundException {
+        try {
+            return delegate.update(id, input);
+        } finally {
+            CacheInvalidatingEvents.invalidate(cache, List.of(id));
+        }
+    }
+
+    @Override
+    public List<OUTPUT> updateAll(@NotNull Map<@NotNull ID, @NotNull @Valid INPUT> inputs) throws NotFoundException {
+        try {
+            return delegate.updateAll(inputs);
+        } finally {
+            CacheInvalidatingEvents.invalidate(cache, inputs.keySet());
+        }
+    }
+
+    @Override
+    public void delete(@NotNull ID id) throws NotFoundException {
+        try {
+            delegate.delete(id);
+        } finally {
+            CacheInvalidatingEvents.invalidate(cache, List.of(id));
+        }
+    }
+
+    @Override
+    public void deleteAll(@NotNull Collection<@NotNull ID> ids) throws NotFoundException {
+        try {
+            delegate.deleteAll(ids);
+        } finally {
+            CacheInvalidatingEvents.invalidate(cache, ids);
+        }
+    }
+
+    // ------------------------------------------------------------
+    // UTILITIES
+    // ------------------------------------------------------------
+
+    /**
+     * Indicates whether the current call may be served from or stored into the cache.
+     *
+     * <p>
+     * The default implementation returns {@code true} unless the calling scope carries
+     * non-empty {@link CrudOptions}. Subclasses may override to allow specific options.
+     * </p>
+     *
+     * @return {@code true} if the cache applies to the current call
+     */
+    protected boolean isCacheable() {
+        return !CrudContext.hasContext() || CrudContext.current().options().isEmpty();
+    }
+
+    private OUTPUT load(ID id) {
+        var stamp = cache.stamp();
+        try {
+            var output = delegate.find(id);
+            cache.put(id, output, stamp);
+            return output;
+        } catch (NotFoundException e) {
+            cache.put(id, null, stamp);
+            throw e;
+        }
+    }
+
+    private void refresh(ID id) {
+        try {
+            load(id);
+        } catch (RuntimeException e) {
+            // The current entry keeps being served until it expires
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import com.peluware.freddy.cruder.utils.BoundedCache;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Read-through caching decorator for an {@link OwnedCrudProvider}.
+ *
+ * <p>
+ * Behaves like {@link CachingCrudProvider}, keying the cache by {@link OwnedId} so that
+ * the same identifier under different owners is cached independently. Use
+ * {@link #invalidating(BoundedCache, Function, EntityCrudEvents)} to evict entries on
+ * writes performed by the underlying provider.
+ * </p>
+ *
+ * @param <OWNER_ID> the identifier type of the owning resource
+ * @param <ID>       the unique identifier type of the sub-resource
+ * @param <INPUT>    the input DTO type used to create or update
+ * @param <OUTPUT>   the output DTO type returned to the consumer
+ * @see CachingCrudProvider
+ */
+public class CachingOwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> implements OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> {
+
+    protected final OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> delegate;
+    protected final BoundedCache<OwnedId<OWNER_ID, ID>, OUTPUT> cache;
+    protected final Executor refreshExecutor;
+
+    /**
+     * Creates a caching decorator that runs refresh-ahead reloads on virtual threads.
+     *
+     * @param delegate the provider performing the actual operations
+     * @param cache    the cache holding output representations by owned identifier
+     */
+    public CachingOwnedCrudProvider(OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> delegate, BoundedCache<OwnedId<OWNER_ID, ID>, OUTPUT> cache) {
+        this(delegate, cache, AsyncCrudProvider.virtualThreadExecutor());
+    }
+
+    /**
+     * Creates a caching decorator.
+     *
+     * @param delegate        the provider performing the actual operations
+     * @param cache           the cache holding output representations by owned identifier
+     * @param refreshExecutor the executor running refresh-ahead reloads
+     */
+    public CachingOwnedCrudProvider(OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> delegate, BoundedCache<OwnedId<OWNER_ID, ID>, OUTPUT> cache, Executor refreshExecutor) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider must not be null");
+        this.cache = Objects.requireNonNull(cache, "Cache must not be null");
+        this.refreshExecutor = Objects.requireNonNull(refreshExecutor, "Refresh executor must not be null");
+    }
+
+    /**
+     * Wraps lifecycle events so that every entity written by the provider is evicted from the cache.
+     *
+     * @param cache      the cache to invalidate
+     * @param ownedIdOf  extracts the owner and identifier from an entity
+     * @param events     the events to forward every callback to
+     * @param <ENTITY>   the entity type
+     * @param <OWNER_ID> the identifier type of the owning resource
+     * @param <ID>       the identifier type of the entity
+     * @param <INPUT>    the input DTO type
+     * @return events that forward to {@code events} and invalidate after writes
+     */
+    public static <ENTITY, OWNER_ID, ID, INPUT> EntityCrudEvents<ENTITY, ID, INPUT> invalidating(BoundedCache<OwnedId<OWNER_ID, ID>, ?> cache, Function<? super ENTITY, OwnedId<OWNER_ID, ID>> ownedIdOf, EntityCrudEvents<ENTITY, ID, INPUT> events) {
+        return CompositeCrudEvents.of(events, new CacheInvalidatingEvents<>(cache, ownedIdOf));
+    }
+
+    // ------------------------------------------------------------
+    // CACHED OPERATIONS
+    // ------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Served from the cache when possible. A cached negative entry raises a new
+     * {@link NotFoundException} for the owned identifier.
+     * </p>
+     */
+    @Override
+    public OUTPUT find(@NotNull OWNER_ID ownerId, @NotNull ID id) throws NotFoundException {
+        if (!isCacheable()) {
+            return delegate.find(ownerId, id);
+        }
+        var key = new OwnedId<>(ownerId, id);
+        var entry = cache.getEntry(key);
+        if (entry == null) {
+            return load(key);
+        }
+        var value = entry.value();
+        if (value == null) {
+            throw new NotFoundException(key);
+        }
+        if (entry.tryRefresh()) {
+            refreshExecutor.execute(() -> refresh(key));
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Answered from the cache when an entry exists for the owned identifier. Missing
+     * resources are remembered as negative entries.
+     * </p>
+     */
+    @Override
+    public boolean exists(@NotNull OWNER_ID ownerId, @NotNull ID id) {
+        if (!isCacheable()) {
+            return delegate.exists(ownerId, id);
+        }
+        var key = new OwnedId<>(ownerId, id);
+        var entry = cache.getEntry(key);
+        if (entry != null) {
+            return entry.isPresent();
+        }
+        var stamp = cache.stamp();
+        var exists = delegate.exists(ownerId, id);
+        if (!exists) {
+            cache.put(key, null, stamp);
+        }
+        return exists;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Cached owned identifiers are answered from the cache, negative entries being reported as
+     * missing. The remaining identifiers are loaded with a single
+     * {@link OwnedFindProvider#findAll(Object, Collection)} call on the delegate and stored,
+     * missing ones as negative entries.
+     * </p>
+     */
+    @Override
+    public FindAllResult<ID, OUTPUT> findAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) {
+        if (!isCacheable()) {
+            return delegate.findAll(ownerId, ids);
+        }
+        var found = new HashMap<ID, OUTPUT>();
+        var misses = new ArrayList<ID>();
+        for (var id : new LinkedHashSet<>(ids)) {
+            var key = new OwnedId<>(ownerId, id);
+            var entry = cache.getEntry(key);
+            if (entry == null) {
+                misses.add(id);
+                continue;
+            }
+            var value = entry.value();
+            if (value != null) {
+                found.put(id, value);
+                if (entry.tryRefresh()) {
+                    refreshExecutor.execute(() -> refresh(key));
+                }
+            }
+        }
+        if (!misses.isEmpty()) {
+            var stamp = cache.stamp();
+            var loaded = delegate.findAll(ownerId, misses);
+            loaded.found().forEach((id, output) -> {
+                cache.put(new OwnedId<>(ownerId, id), output, stamp);
+                found.put(id, output);
+            });
+            loaded.missing().forEach(id -> cache.put(new OwnedId<>(ownerId, id), null, stamp));
+        }
+        return FindAllResult.of(ids, found);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Cached owned identifiers are answered from the cache. The remaining identifiers are checked
+     * with a single {@link OwnedExistsProvider#existsAll(Object, Collection)} call on the
+     * delegate, and missing resources are remembered as negative entries.
+     * </p>
+     */
+    @Override
+    public Map<ID, Boolean> existsAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) {
+        if (!isCacheable()) {
+            return delegate.existsAll(ownerId, ids);
+        }
+        var result = new LinkedHashMap<ID, Boolean>();
+        var misses = new ArrayList<ID>();
+        for (var id : ids) {
+            if (result.containsKey(id)) {
+                continue;
+            }
+            var entry = cache.getEntry(new OwnedId<>(ownerId, id));
+            result.put(id, entry != null && entry.isPresent());
+            if (entry == null) {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            var stamp = cache.stamp();
+            delegate.existsAll(ownerId, misses).forEach((id, exists) -> {
+                result.put(id, exists);
+                if (!exists) {
+                    cache.put(new OwnedId<>(ownerId, id), null, stamp);
+                }
+            });
+        }
+        return result;
+    }
+
+    // ------------------------------------------------------------
+    // FORWARDED OPERATIONS
+    // ------------------------------------------------------------
+
+    @Override
+    public Page<OUTPUT> page(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) throws NotFoundException {
+        return delegate.page(ownerId, search, query, pagination, sort);
+    }
+
+    @Override
+    public Slice<OUTPUT> slice(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) throws NotFoundException {
+        return delegate.slice(ownerId, search, query, pagination, sort);
+    }
+
+    @Override
+    public CursorPage<OUTPUT> pageByCursor(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) throws NotFoundException {
+        return delegate.pageByCursor(ownerId, search, query, cursor, size, sort);
+    }
+
+    @Override
+    public Stream<OUTPUT> stream(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Sort sort) throws NotFoundException {
+        return delegate.stream(ownerId, search, query, sort);
+    }
+
+    @Override
+    public long count(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query) throws NotFoundException {
+        return delegate.count(ownerId, search, query);
+    }
+
+    @Override
+    public CountResult countResult(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query) throws NotFoundException {
+        return delegate.countResult(ownerId, search, query);
+    }
+
+    @Override
+    public OUTPUT create(@NotNull OWNER_ID ownerId, @NotNull @Valid INPUT input) throws NotFoundException {
+        return delegate.create(ownerId, input);
+    }
+
+    @Override
+    public List<OUTPUT> createAll(@NotNull OWNER_ID ownerId, @NotNull List<@NotNull @Valid INPUT> inputs) throws NotFoundException {
+        return delegate.createAll(ownerId, inputs);
+    }
+
+    @Override
+    public OUTPUT update(@NotNull OWNER_ID ownerId, @NotNull ID id, @NotNull @Valid INPUT input) throws NotFoundException {
+        try {
+            return delegate.update(ownerId, id, input);
+        } finally {
+            CacheInvalidatingEvents.invalidate(cache, List.of(new OwnedId<>(ownerId, id)));
+        }
+    }
+
+    @Override
+    public List<OUTPUT> updateAll(@NotNull OWNER_ID ownerId, @NotNull Map<@NotNull ID, @NotNull @Valid INPUT> inputs) throws NotFoundException {
+        try {
+            return delegate.updateAll(ownerId, inputs);
+        } finally {
+            CacheInvalidatingEvents.invalidate(cache, inputs.keySet().stream().map(id -> new OwnedId<>(ownerId, id)).toList());
+        }
+    }
+
+    @Override
+    public void delete(@NotNull OWNER_ID ownerId, @NotNull ID id) throws NotFoundException {
+        try {
+            delegate.delete(ownerId, id);
+        } finally {
+            CacheInvalidatingEvents.invalidate(cache, List.of(new OwnedId<>(ownerId, id)));
+        }
+    }
+
+    @Override
+    public void deleteAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) throws NotFoundException {
+        try {
+            delegate.deleteAll(ownerId, ids);
+        } finally {
+            CacheInvalidatingEvents.invalidate(cache, ids.stream().map(id -> new OwnedId<>(ownerId, id)).toList());
+        }
+    }
+
+    // ------------------------------------------------------------
+    // UTILITIES
+    // ------------------------------------------------------------
+
+    /**
+     * Indicates whether the current call may be served from or stored into the cache.
+     *
+     * <p>
+     * The default implementation returns {@code true} unless the calling scope carries
+     * non-empty {@link CrudOptions}. Subclasses may override to allow specific options.
+     * </p>
+     *
+     * @return {@code true} if the cache applies to the current call
+     */
+    protected boolean isCacheable() {
+        return !CrudContext.hasContext() || CrudContext.current().options().isEmpty();
+    }
+
+    private OUTPUT load(OwnedId<OWNER_ID, ID> key) {
+        var stamp = cache.stamp();
+        try {
+            var output = delegate.find(key.ownerId(), key.id());
+            cache.put(key, output, stamp);
+            return output;
+        } catch (NotFoundException e) {
+            cache.put(key, null, stamp);
+            throw e;
+        }
+    }
+
+    private void refresh(OwnedId<OWNER_ID, ID> key) {
+        try {
+            load(key);
+        } catch (RuntimeException e) {
+            // The current entry keeps being served until it expires
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Single-flight decorator for a {@link CrudProvider}.
+ *
+ * <p>
+ * Concurrent identical reads ({@code find}, {@code findAll}, {@code exists}, {@code existsAll},
+ * {@code page}, {@code slice}, {@code pageByCursor}, {@code count} and {@code countResult}) are collapsed into one call to
+ * the delegate: the first caller runs it and every caller that arrives with the same
+ * {@linkplain #getCallerKey() caller key}, operation, arguments and {@link CrudOptions} while it
+ * is in flight receives the same output, or the same exception. Nothing is kept once the call completes; combine with {@link CachingCrudProvider}
+ * to also reuse results over time.
+ * </p>
+ *
+ * <pre>{@code
+ * var users = new CoalescingCrudProvider<>(userCrud);
+ * }</pre>
+ *
+ * <p>
+ * The delegate always runs on the leader's thread, inside its own unit of work, and only the
+ * mapped outputs cross threads, so no entity nor persistence context is ever shared. Calls made
+ * inside a transaction (see {@link TransactionSynchronizer#inTransaction()}) are never
+ * coalesced, since they may have to observe their own uncommitted writes. Deferred page totals
+ * are resolved by the leader before the page is handed out. Outputs are shared as is, so they
+ * should not be mutated by callers.
+ * </p>
+ *
+ * @param <ID>     the unique identifier type of the resource
+ * @param <INPUT>  the input DTO type used to create or update resources
+ * @param <OUTPUT> the output DTO type returned to the consumer
+ * @see CoalescingOwnedCrudProvider
+ */
+public class CoalescingCrudProvider<ID, INPUT, OUTPUT> implements CrudProvider<ID, INPUT, OUTPUT> {
+
+    protected final CrudProvider<ID, INPUT, OUTPUT> delegate;
+    private final SingleFlight flights = new SingleFlight();
+
+    /**
+     * Creates a single-flight decorator.
+     *
+     * @param delegate the provider performing the actual operations
+     */
+    public CoalescingCrudProvider(CrudProvider<ID, INPUT, OUTPUT> delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider must not be null");
+    }
+
+    // ------------------------------------------------------------
+    // COALESCED OPERATIONS
+    // ------------------------------------------------------------
+
+    @Override
+    public OUTPUT find(@NotNull ID id) throws NotFoundException {
+        if (!isCoalescable()) {
+            return delegate.find(id);
+        }
+        return flights.execute(flightKey("find", id), () -> delegate.find(id));
+    }
+
+    @Override
+    public boolean exists(@NotNull ID id) {
+        if (!isCoalescable()) {
+            return delegate.exists(id);
+        }
+        return flights.execute(flightKey("exists", id), () -> delegate.exists(id));
+    }
+
+    @Override
+    public FindAllResult<ID, OUTPUT> findAll(@NotNull Collection<@NotNull ID> ids) {
+        if (!isCoalescable()) {
+            return delegate.findAll(ids);
+        }
+        var copy = List.copyOf(ids);
+        return flights.execute(flightKey("findAll", copy), () -> delegate.findAll(copy));
+    }
+
+    @Override
+    public Map<ID, Boolean> existsAll(@NotNull Collection<@NotNull ID> ids) {
+        if (!isCoalescable()) {
+            return delegate.existsAll(ids);
+        }
+        var copy = List.copyOf(ids);
+        return flights.execute(flightKey("existsAll", copy), () -> delegate.existsAll(copy));
+    }
+
+    @Override
+    public Page<OUTPUT> page(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        if (!isCoalescable()) {
+            return delegate.page(search, query, pagination, sort);
+        }
+        var key = flightKey("page", search, query, SingleFlight.key(pagination), SingleFlight.key(sort));
+        return flights.execute(key, () -> {
+            var page = delegate.page(search, query, pagination, sort);
+            page.getTotalElements();
+            return page;
+        });
+    }
+
+    @Override
+    public Slice<OUTPUT> slice(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        if (!isCoalescable()) {
+            return delegate.slice(search, query, pagination, sort);
+        }
+        var key = flightKey("slice", search, query, SingleFlight.key(pagination), SingleFlight.key(sort));
+        return flights.execute(key, () -> delegate.slice(search, query, pagination, sort));
+    }
+
+    @Override
+    public CursorPage<OUTPUT> pageByCursor(@Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) {
+        if (!isCoalescable()) {
+            return delegate.pageByCursor(search, query, cursor, size, sort);
+        }
+        var key = flightKey("pageByCursor", search, query, cursor, size, SingleFlight.key(sort));
+        return flights.execute(key, () -> delegate.pageByCursor(search, query, cursor, size, sort));
+    }
+
+    @Override
+    public long count(@Nullable String search, @Nullable String query) {
+        if (!isCoalescable()) {
+            return delegate.count(search, query);
+        }
+        return flights.execute(flightKey("count", search, query), () -> delegate.count(search, query));
+    }
+
+    @Override
+    public CountResult countResult(@Nullable String search, @Nullable String query) {
+        if (!isCoalescable()) {
+            return delegate.countResult(search, query);
+        }
+        return flights.execute(flightKey("countResult", search, query), () -> delegate.countResult(search, query));
+    }
+
+    // ------------------------------------------------------------
+    // FORWARDED OPERATIONS
+    // ------------------------------------------------------------
+
+    @Override
+    public Stream<OUTPUT> stream(@Nullable String search, @Nullable String query, Sort sort) {
+        return delegate.stream(search, query, sort);
+    }
+
+    @Override
+    public OUTPUT create(@NotNull @Valid INPUT input) {
+        return delegate.create(input);
+    }
+
+    @Override
+    public List<OUTPUT> createAll(@NotNull List<@NotNull @Valid INPUT> inputs) {
+        return delegate.createAll(inputs);
+    }
+
+    @Override
+    public OUTPUT update(@NotNull ID id, @NotNull @Valid INPUT input) throws NotFoundException {
+        return delegate.update(id, input);
+    }
+
+    @Override
+    public List<OUTPUT> updateAll(@NotNull Map<@NotNull ID, @NotNull @Valid INPUT> inputs) throws NotFoundException {
+        return delegate.updateAll(inputs);
+    }
+
+    @Override
+    public void delete(@NotNull ID id) throws NotFoundException {
+        delegate.delete(id);
+    }
+
+    @Override
+    public void deleteAll(@NotNull Collection<@NotNull ID> ids) throws NotFoundException {
+        delegate.deleteAll(ids);
+    }
+
+    // ------------------------------------------------------------
+    // UTILITIES
+    // ------------------------------------------------------------
+
+    /**
+     * Indicates whether the current call may be collapsed with identical concurrent calls.
+     *
+     * <p>
+     * The default implementation returns {@code true} unless the calling thread runs inside a
+     * transaction. Subclasses may override to exclude further calls.
+     * </p>
+     *
+     * @return {@code true} if the current call may be coalesced
+     */
+    protected boolean isCoalescable() {
+        return !TransactionSynchronizer.inTransaction();
+    }
+
+    /**
+     * Returns a discriminator of the caller added to the key of every coalesced call, so that
+     * only calls returning an equal key share an output.
+     *
+     * <p>
+     * The leader runs the delegate with its own identity and hands its output to every waiting
+     * caller. The default implementation returns {@code null}, sharing outputs between every
+     * caller. Override it when outputs depend on request state the delegate reads on its own,
+     * e.g. returning the authenticated principal or the tenant the delegate scopes queries by.
+     * </p>
+     *
+     * @return the caller key, or {@code null} if every caller may share outputs
+     */
+    protected @Nullable Object getCallerKey() {
+        return null;
+    }
+
+    private Object flightKey(String operation, @Nullable Object... arguments) {
+        return SingleFlight.key(getCallerKey(), operation, arguments);
+    }
+}
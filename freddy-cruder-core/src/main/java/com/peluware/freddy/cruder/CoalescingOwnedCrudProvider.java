@@ -0,0 +1,207 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Single-flight decorator for an {@link OwnedCrudProvider}.
+ *
+ * <p>
+ * Behaves like {@link CoalescingCrudProvider}, including the owner identifier in the key so
+ * that identical reads under different owners are never collapsed, and the
+ * {@linkplain #getCallerKey() caller key} so that reads of different callers are not either.
+ * </p>
+ *
+ * @param <OWNER_ID> the identifier type of the owning resource
+ * @param <ID>       the unique identifier type of the sub-resource
+ * @param <INPUT>    the input DTO type used to create or update
+ * @param <OUTPUT>   the output DTO type returned to the consumer
+ * @see CoalescingCrudProvider
+ */
+public class CoalescingOwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> implements OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> {
+
+    protected final OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> delegate;
+    private final SingleFlight flights = new SingleFlight();
+
+    /**
+     * Creates a single-flight decorator.
+     *
+     * @param delegate the provider performing the actual operations
+     */
+    public CoalescingOwnedCrudProvider(OwnedCrudProvider<OWNER_ID, ID, INPUT, OUTPUT> delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate provider must not be null");
+    }
+
+    // ------------------------------------------------------------
+    // COALESCED OPERATIONS
+    // ------------------------------------------------------------
+
+    @Override
+    public OUTPUT find(@NotNull OWNER_ID ownerId, @NotNull ID id) throws NotFoundException {
+        if (!isCoalescable()) {
+            return delegate.find(ownerId, id);
+        }
+        return flights.execute(flightKey("find", ownerId, id), () -> delegate.find(ownerId, id));
+    }
+
+    @Override
+    public boolean exists(@NotNull OWNER_ID ownerId, @NotNull ID id) {
+        if (!isCoalescable()) {
+            return delegate.exists(ownerId, id);
+        }
+        return flights.execute(flightKey("exists", ownerId, id), () -> delegate.exists(ownerId, id));
+    }
+
+    @Override
+    public FindAllResult<ID, OUTPUT> findAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) {
+        if (!isCoalescable()) {
+            return delegate.findAll(ownerId, ids);
+        }
+        var copy = List.copyOf(ids);
+        return flights.execute(flightKey("findAll", ownerId, copy), () -> delegate.findAll(ownerId, copy));
+    }
+
+    @Override
+    public Map<ID, Boolean> existsAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) {
+        if (!isCoalescable()) {
+            return delegate.existsAll(ownerId, ids);
+        }
+        var copy = List.copyOf(ids);
+        return flights.execute(flightKey("existsAll", ownerId, copy), () -> delegate.existsAll(ownerId, copy));
+    }
+
+    @Override
+    public Page<OUTPUT> page(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) throws NotFoundException {
+        if (!isCoalescable()) {
+            return delegate.page(ownerId, search, query, pagination, sort);
+        }
+        var key = flightKey("page", ownerId, search, query, SingleFlight.key(pagination), SingleFlight.key(sort));
+        return flights.execute(key, () -> {
+            var page = delegate.page(ownerId, search, query, pagination, sort);
+            page.getTotalElements();
+            return page;
+        });
+    }
+
+    @Override
+    public Slice<OUTPUT> slice(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) throws NotFoundException {
+        if (!isCoalescable()) {
+            return delegate.slice(ownerId, search, query, pagination, sort);
+        }
+        var key = flightKey("slice", ownerId, search, query, SingleFlight.key(pagination), SingleFlight.key(sort));
+        return flights.execute(key, () -> delegate.slice(ownerId, search, query, pagination, sort));
+    }
+
+    @Override
+    public CursorPage<OUTPUT> pageByCursor(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) throws NotFoundException {
+        if (!isCoalescable()) {
+            return delegate.pageByCursor(ownerId, search, query, cursor, size, sort);
+        }
+        var key = flightKey("pageByCursor", ownerId, search, query, cursor, size, SingleFlight.key(sort));
+        return flights.execute(key, () -> delegate.pageByCursor(ownerId, search, query, cursor, size, sort));
+    }
+
+    @Override
+    public long count(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query) throws NotFoundException {
+        if (!isCoalescable()) {
+            return delegate.count(ownerId, search, query);
+        }
+        return flights.execute(flightKey("count", ownerId, search, query), () -> delegate.count(ownerId, search, query));
+    }
+
+    @Override
+    public CountResult countResult(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query) throws NotFoundException {
+        if (!isCoalescable()) {
+            return delegate.countResult(ownerId, search, query);
+        }
+        return flights.execute(flightKey("countResult", ownerId, search, query), () -> delegate.countResult(ownerId, search, query));
+    }
+
+    // ------------------------------------------------------------
+    // FORWARDED OPERATIONS
+    // ------------------------------------------------------------
+
+    @Override
+    public Stream<OUTPUT> stream(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Sort sort) throws NotFoundException {
+        return delegate.stream(ownerId, search, query, sort);
+    }
+
+    @Override
+    public OUTPUT create(@NotNull OWNER_ID ownerId, @NotNull @Valid INPUT input) throws NotFoundException {
+        return delegate.create(ownerId, input);
+    }
+
+    @Override
+    public List<OUTPUT> createAll(@NotNull OWNER_ID ownerId, @NotNull List<@NotNull @Valid INPUT> inputs) throws NotFoundException {
+        return delegate.createAll(ownerId, inputs);
+    }
+
+    @Override
+    public OUTPUT update(@NotNull OWNER_ID ownerId, @NotNull ID id, @NotNull @Valid INPUT input) throws NotFoundException {
+        return delegate.update(ownerId, id, input);
+    }
+
+    @Override
+    public List<OUTPUT> updateAll(@NotNull OWNER_ID ownerId, @NotNull Map<@NotNull ID, @NotNull @Valid INPUT> inputs) throws NotFoundException {
+        return delegate.updateAll(ownerId, inputs);
+    }
+
+    @Override
+    public void delete(@NotNull OWNER_ID ownerId, @NotNull ID id) throws NotFoundException {
+        delegate.delete(ownerId, id);
+    }
+
+    @Override
+    public void deleteAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) throws NotFoundException {
+        delegate.deleteAll(ownerId, ids);
+    }
+
+    // ------------------------------------------------------------
+    // UTILITIES
+    // ------------------------------------------------------------
+
+    /**
+     * Indicates whether the current call may be collapsed with identical concurrent calls.
+     *
+     * <p>
+     * The default implementation returns {@code true} unless the calling thread runs inside a
+     * transaction. Subclasses may override to exclude further calls.
+     * </p>
+     *
+     * @return {@code true} if the current call may be coalesced
+     */
+    protected boolean isCoalescable() {
+        return !TransactionSynchronizer.inTransaction();
+    }
+
+    /**
+     * Returns a discriminator of the caller added to the key of every coalesced call, so that
+     * only calls returning an equal key share an output.
+     *
+     * <p>
+     * The leader runs the delegate with its own identity and hands its output to every waiting
+     * caller. The default implementation returns {@code null}, sharing outputs between every
+     * caller. Override it when outputs depend on request state the delegate reads on its own,
+     * e.g. returning the authenticated principal or the tenant the delegate scopes queries by.
+     * </p>
+     *
+     * @return the caller key, or {@code null} if every caller may share outputs
+     */
+    protected @Nullable Object getCallerKey() {
+        return null;
+    }
+
+    private Object flightKey(String operation, @Nullable Object... arguments) {
+        return SingleFlight.key(getCallerKey(), operation, arguments);
+    }
+}
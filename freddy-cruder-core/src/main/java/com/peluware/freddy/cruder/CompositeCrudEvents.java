@@ -0,0 +1,289 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * {@link EntityCrudEvents} that dispatches every callback to an ordered list of listeners.
+ *
+ * <p>
+ * When the composite is built, each listener is inspected to find out which callbacks it
+ * overrides; a callback is only dispatched to the listeners that override it. Callbacks that
+ * no listener overrides cost a single empty-array check, so providers skip the per-entity
+ * loop entirely for listeners that only react to, say, writes.
+ * </p>
+ *
+ * <p>
+ * Batch callbacks ({@link #eachEntities(List)} and the {@code *All} variants) reach every
+ * listener overriding either the batch or the single-entity form. A listener that overrides the
+ * batch form processes the whole list at once; otherwise its default fans out as usual.
+ * </p>
+ *
+ * <p>
+ * Nested composites are flattened and {@link EntityCrudEvents#DEFAULT} is dropped. Entity
+ * providers wrap the events they receive with {@link #of(List)}, so this elision applies to
+ * every provider without further configuration. An {@link AfterCommitEvents} counts as
+ * overriding the callbacks it defers and those its listener overrides.
+ * </p>
+ *
+ * @param <ENTITY> the entity type
+ * @param <ID>     the identifier type of the entity
+ * @param <INPUT>  the input DTO type
+ */
+public final class CompositeCrudEvents<ENTITY, ID, INPUT> implements EntityCrudEvents<ENTITY, ID, INPUT> {
+
+    private final List<EntityCrudEvents<ENTITY, ID, INPUT>> listeners;
+
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onFind;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onCount;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onExists;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onPage;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onBeforeCreate;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onBeforeUpdate;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onBeforeDelete;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onAfterCreate;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onAfterUpdate;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onAfterDelete;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] eachEntity;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] eachEntities;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onBeforeCreateAll;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onBeforeUpdateAll;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onBeforeDeleteAll;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onAfterCreateAll;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onAfterUpdateAll;
+    private final EntityCrudEvents<ENTITY, ID, INPUT>[] onAfterDeleteAll;
+
+    private CompositeCrudEvents(List<EntityCrudEvents<ENTITY, ID, INPUT>> listeners) {
+        this.listeners = List.copyOf(listeners);
+        this.onFind = select(listener -> overrides(listener, "onFind", Object.class));
+        this.onCount = select(listener -> overrides(listener, "onCount", long.class));
+        this.onExists = select(listener -> overrides(listener, "onExists", boolean.class, Object.class));
+        this.onPage = select(listener -> overrides(listener, "onPage", Page.class));
+        this.onBeforeCreate = select(listener -> overrides(listener, "onBeforeCreate", Object.class, Object.class));
+        this.onBeforeUpdate = select(listener -> overrides(listener, "onBeforeUpdate", Object.class, Object.class));
+        this.onBeforeDelete = select(listener -> overrides(listener, "onBeforeDelete", Object.class));
+        this.onAfterCreate = select(listener -> overrides(listener, "onAfterCreate", Object.class, Object.class));
+        this.onAfterUpdate = select(listener -> overrides(listener, "onAfterUpdate", Object.class, Object.class));
+        this.onAfterDelete = select(listener -> overrides(listener, "onAfterDelete", Object.class));
+        this.eachEntity = select(listener -> overrides(listener, "eachEntity", Object.class));
+        this.eachEntities = select(listener -> overrides(listener, "eachEntity", Object.class)
+            || overrides(listener, "eachEntities", List.class));
+        this.onBeforeCreateAll = select(listener -> overrides(listener, "onBeforeCreate", Object.class, Object.class)
+            || overrides(listener, "onBeforeCreateAll", List.class, List.class));
+        this.onBeforeUpdateAll = select(listener -> overrides(listener, "onBeforeUpdate", Object.class, Object.class)
+            || overrides(listener, "onBeforeUpdateAll", List.class, List.class));
+        this.onBeforeDeleteAll = select(listener -> overrides(listener, "onBeforeDelete", Object.class)
+            || overrides(listener, "onBeforeDeleteAll", List.class));
+        this.onAfterCreateAll = select(listener -> overrides(listener, "onAfterCreate", Object.class, Object.class)
+            || overrides(listener, "onAfterCreateAll", List.class, List.class));
+        this.onAfterUpdateAll = select(listener -> overrides(listener, "onAfterUpdate", Object.class, Object.class)
+            || overrides(listener, "onAfterUpdateAll", List.class, List.class));
+        this.onAfterDeleteAll = select(listener -> overrides(listener, "onAfterDelete", Object.class)
+            || overrides(listener, "onAfterDeleteAll", List.class));
+    }
+
+    /**
+     * Creates a composite dispatching to the given listeners in order.
+     *
+     * @param listeners the listeners, invoked in the given order
+     * @param <ENTITY>  the entity type
+     * @param <ID>      the identifier type of the entity
+     * @param <INPUT>   the input DTO type
+     * @return the composite events
+     */
+    @SafeVarargs
+    public static <ENTITY, ID, INPUT> CompositeCrudEvents<ENTITY, ID, INPUT> of(EntityCrudEvents<ENTITY, ID, INPUT>... listeners) {
+        return of(List.of(listeners));
+    }
+
+    /**
+     * Creates a composite dispatching to the given listeners in order.
+     *
+     * @param listeners the listeners, invoked in the given order
+     * @param <ENTITY>  the entity type
+     * @param <ID>      the identifier type of the entity
+     * @param <INPUT>   the input DTO type
+     * @return the composite events, or the single composite in {@code listeners} if there is
+     * nothing else to combine it with
+     */
+    public static <ENTITY, ID, INPUT> CompositeCrudEvents<ENTITY, ID, INPUT> of(List<? extends EntityCrudEvents<ENTITY, ID, INPUT>> listeners) {
+        if (listeners.size() == 1 && listeners.getFirst() instanceof CompositeCrudEvents<ENTITY, ID, INPUT> composite) {
+            return composite;
+        }
+        var flattened = new ArrayList<EntityCrudEvents<ENTITY, ID, INPUT>>(listeners.size());
+        for (var listener : listeners) {
+            Objects.requireNonNull(listener, "Listener must not be null");
+            if (listener instanceof CompositeCrudEvents<ENTITY, ID, INPUT> composite) {
+                flattened.addAll(composite.listeners);
+            } else if (listener != DEFAULT) {
+                flattened.add(listener);
+            }
+        }
+        return new CompositeCrudEvents<>(flattened);
+    }
+
+    /**
+     * Returns the listeners of this composite.
+     *
+     * @return the listeners, in dispatch order
+     */
+    public List<EntityCrudEvents<ENTITY, ID, INPUT>> getListeners() {
+        return listeners;
+    }
+
+    @Override
+    public void onFind(ENTITY entity) {
+        for (var listener : onFind) {
+            listener.onFind(entity);
+        }
+    }
+
+    @Override
+    public void onCount(long count) {
+        for (var listener : onCount) {
+            listener.onCount(count);
+        }
+    }
+
+    @Override
+    public void onExists(boolean exists, ID id) {
+        for (var listener : onExists) {
+            listener.onExists(exists, id);
+        }
+    }
+
+    @Override
+    public void onPage(Page<ENTITY> page) {
+        for (var listener : onPage) {
+            listener.onPage(page);
+        }
+    }
+
+    @Override
+    public void onBeforeCreate(INPUT input, ENTITY entity) {
+        for (var listener : onBeforeCreate) {
+            listener.onBeforeCreate(input, entity);
+        }
+    }
+
+    @Override
+    public void onBeforeUpdate(INPUT input, ENTITY entity) {
+        for (var listener : onBeforeUpdate) {
+            listener.onBeforeUpdate(input, entity);
+        }
+    }
+
+    @Override
+    public void onBeforeDelete(ENTITY entity) {
+        for (var listener : onBeforeDelete) {
+            listener.onBeforeDelete(entity);
+        }
+    }
+
+    @Override
+    public void onAfterCreate(INPUT input, ENTITY entity) {
+        for (var listener : onAfterCreate) {
+            listener.onAfterCreate(input, entity);
+        }
+    }
+
+    @Override
+    public void onAfterUpdate(INPUT input, ENTITY entity) {
+        for (var listener : onAfterUpdate) {
+            listener.onAfterUpdate(input, entity);
+        }
+    }
+
+    @Override
+    public void onAfterDelete(ENTITY entity) {
+        for (var listener : onAfterDelete) {
+            listener.onAfterDelete(entity);
+        }
+    }
+
+    @Override
+    public void eachEntity(ENTITY entity) {
+        for (var listener : eachEntity) {
+            listener.eachEntity(entity);
+        }
+    }
+
+    // ------------------------------------------------------------
+    // BATCH CALLBACKS
+    // ------------------------------------------------------------
+
+    @Override
+    public void eachEntities(List<ENTITY> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        for (var listener : eachEntities) {
+            listener.eachEntities(entities);
+        }
+    }
+
+    @Override
+    public void onBeforeCreateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        for (var listener : onBeforeCreateAll) {
+            listener.onBeforeCreateAll(inputs, entities);
+        }
+    }
+
+    @Override
+    public void onBeforeUpdateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        for (var listener : onBeforeUpdateAll) {
+            listener.onBeforeUpdateAll(inputs, entities);
+        }
+    }
+
+    @Override
+    public void onBeforeDeleteAll(List<ENTITY> entities) {
+        for (var listener : onBeforeDeleteAll) {
+            listener.onBeforeDeleteAll(entities);
+        }
+    }
+
+    @Override
+    public void onAfterCreateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        for (var listener : onAfterCreateAll) {
+            listener.onAfterCreateAll(inputs, entities);
+        }
+    }
+
+    @Override
+    public void onAfterUpdateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        for (var listener : onAfterUpdateAll) {
+            listener.onAfterUpdateAll(inputs, entities);
+        }
+    }
+
+    @Override
+    public void onAfterDeleteAll(List<ENTITY> entities) {
+        for (var listener : onAfterDeleteAll) {
+            listener.onAfterDeleteAll(entities);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private EntityCrudEvents<ENTITY, ID, INPUT>[] select(Predicate<EntityCrudEvents<?, ?, ?>> hook) {
+        return listeners.stream()
+            .filter(hook)
+            .toArray(EntityCrudEvents[]::new);
+    }
+
+    private static boolean overrides(EntityCrudEvents<?, ?, ?> listener, String name, Class<?>... parameterTypes) {
+        // Forwarding decorators only count as overriding what they handle themselves
+        if (listener instanceof AfterCommitEvents<?, ?, ?> afterCommit && !afterCommit.defers(name)) {
+            return overrides(afterCommit.getListener(), name, parameterTypes);
+        }
+        try {
+            return listener.getClass().getMethod(name, parameterTypes).getDeclaringClass() != EntityCrudEvents.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Missing event callback: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.freddy.cruder.utils.BoundedCache;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, expiring cache of filtered entity counts.
+ *
+ * <p>
+ * Counts are keyed by entity type, owner (for owned providers), normalized search text and
+ * the query after query policies have been applied, so every distinct filter is cached
+ * independently. Entity providers consult it for {@code count()} and for the deferred total
+ * of pages, and invalidate the counts of their entity type after every write.
+ * </p>
+ *
+ * <p>
+ * A single instance may be shared by several providers; invalidation is scoped by entity
+ * type, so writes through any of them evict the counts of that type.
+ * </p>
+ *
+ * @see EntityCrudProvider#getCountCache()
+ * @see OwnedEntityCrudProvider#getCountCache()
+ */
+public final class CountCache {
+
+    private final BoundedCache<Key, Long> cache;
+
+    /**
+     * Creates a count cache.
+     *
+     * @param maximumSize maximum number of cached counts
+     * @param ttl         time after which a cached count is recomputed
+     */
+    public CountCache(int maximumSize, Duration ttl) {
+        this.cache = new BoundedCache<>(maximumSize, ttl);
+    }
+
+    /**
+     * Returns the cached count for the given filter, computing and caching it if absent.
+     *
+     * @param entityClass the counted entity type
+     * @param ownerId     the owner scope, or {@code null} for non-owned providers
+     * @param search      normalized full-text search string, or {@code null}
+     * @param query       filtering expression after query policies, or {@code null}
+     * @param loader      computes the count on a miss
+     * @return the number of matching entities
+     */
+    public long get(Class<?> entityClass, @Nullable Object ownerId, @Nullable String search, @Nullable String query, LongSupplier loader) {
+        var key = new Key(entityClass, ownerId, search, query);
+        var entry = cache.getEntry(key);
+        var cached = entry != null ? entry.value() : null;
+        if (cached != null) {
+            return cached;
+        }
+        var stamp = cache.stamp();
+        var count = loader.getAsLong();
+        cache.put(key, count, stamp);
+        return count;
+    }
+
+    /**
+     * Evicts every cached count of the given entity type.
+     *
+     * @param entityClass the entity type whose counts changed
+     */
+    public void invalidate(Class<?> entityClass) {
+        cache.invalidateIf(key -> key.entityClass() == entityClass);
+    }
+
+    /**
+     * Evicts the cached counts of the given entity type that may include entities of the given owner:
+     * counts scoped to that owner and counts without owner scope.
+     *
+     * @param entityClass the entity type whose counts changed
+     * @param ownerId     the owner of the written entities
+     */
+    public void invalidate(Class<?> entityClass, Object ownerId) {
+        cache.invalidateIf(key -> key.entityClass() == entityClass && (key.ownerId() == null || Objects.equals(key.ownerId(), ownerId)));
+    }
+
+    /**
+     * Evicts every cached count.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private record Key(Class<?> entityClass, @Nullable Object ownerId, @Nullable String search, @Nullable String query) {
+    }
+}
@@ -16,4 +16,21 @@ public interface CountProvider {
      * @return total number of resources matching the criteria
      */
     long count(@Nullable String search, @Nullable String query);
+
+    /**
+     * Counts the number of resources matching optional search and query filters, reporting
+     * whether the result is exact.
+     *
+     * <p>
+     * The default implementation returns {@link #count(String, String)} as an exact result.
+     * Providers that honor a {@link CountStrategy} override it to report capped or estimated counts.
+     * </p>
+     *
+     * @param search optional text-based search (may be {@code null})
+     * @param query  optional additional query expression (may be {@code null})
+     * @return the number of resources matching the criteria and its accuracy
+     */
+    default CountResult countResult(@Nullable String search, @Nullable String query) {
+        return CountResult.exact(count(search, query));
+    }
 }
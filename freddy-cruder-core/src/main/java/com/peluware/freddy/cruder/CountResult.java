@@ -0,0 +1,59 @@
+package com.peluware.freddy.cruder;
+
+import java.util.Objects;
+
+/**
+ * The result of a count together with its accuracy.
+ *
+ * <p>
+ * Only {@link Accuracy#EXACT} results are precise. A {@link Accuracy#LOWER_BOUND} result
+ * means that at least {@link #value()} resources match (rendered as {@code "10000+"}), and an
+ * {@link Accuracy#ESTIMATED} result is an extrapolation (rendered as {@code "~12345"}).
+ * </p>
+ *
+ * @param value    the counted or estimated number of resources
+ * @param accuracy how {@code value} relates to the real number of resources
+ * @see CountStrategy
+ */
+public record CountResult(long value, Accuracy accuracy) {
+
+    public CountResult {
+        Objects.requireNonNull(accuracy, "Accuracy must not be null");
+    }
+
+    public enum Accuracy {
+        EXACT,
+        LOWER_BOUND,
+        ESTIMATED
+    }
+
+    public static CountResult exact(long value) {
+        return new CountResult(value, Accuracy.EXACT);
+    }
+
+    public static CountResult atLeast(long value) {
+        return new CountResult(value, Accuracy.LOWER_BOUND);
+    }
+
+    public static CountResult estimated(long value) {
+        return new CountResult(value, Accuracy.ESTIMATED);
+    }
+
+    /**
+     * Indicates whether {@link #value()} may differ from the real number of resources.
+     *
+     * @return {@code true} unless the accuracy is {@link Accuracy#EXACT}
+     */
+    public boolean isApproximate() {
+        return accuracy != Accuracy.EXACT;
+    }
+
+    @Override
+    public String toString() {
+        return switch (accuracy) {
+            case EXACT -> Long.toString(value);
+            case LOWER_BOUND -> value + "+";
+            case ESTIMATED -> "~" + value;
+        };
+    }
+}
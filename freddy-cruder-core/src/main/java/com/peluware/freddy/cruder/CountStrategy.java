@@ -0,0 +1,125 @@
+package com.peluware.freddy.cruder;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * How entity providers compute the result of {@code count}.
+ *
+ * <p>
+ * {@link Exact} counts every matching entity and is the default. On very large tables the
+ * other modes trade accuracy for a bounded cost:
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link Capped} stops counting after {@code limit} matches and reports the limit as a
+ *   lower bound (rendered as {@code "10000+"})</li>
+ *   <li>{@link Estimated} counts the matches within a sampled range of the table and
+ *   extrapolates them to the whole table</li>
+ * </ul>
+ *
+ * <p>
+ * A provider selects its strategy through {@code getCountStrategy()}; a request may override
+ * it with the {@link CrudOptions#COUNT} option (see {@link #parse(String)}). Stores that do not
+ * support a mode fall back to an exact count.
+ * </p>
+ *
+ * @see CountResult
+ * @see EntityCrudProvider#getCountStrategy()
+ */
+public sealed interface CountStrategy {
+
+    /**
+     * Limit used by {@link #capped()} and by {@code "capped"} without explicit limit.
+     */
+    long DEFAULT_LIMIT = 10_000;
+
+    /**
+     * Ratio used by {@link #estimated()} and by {@code "estimated"} without explicit ratio.
+     */
+    double DEFAULT_SAMPLE_RATIO = 0.1;
+
+    /**
+     * Counts every matching entity.
+     */
+    record Exact() implements CountStrategy {
+    }
+
+    /**
+     * Counts at most {@code limit + 1} matching entities.
+     *
+     * @param limit the maximum number of matches reported exactly
+     */
+    record Capped(long limit) implements CountStrategy {
+
+        public Capped {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Count limit must be positive: " + limit);
+            }
+        }
+    }
+
+    /**
+     * Counts the matching entities within a sampled fraction of the table and extrapolates.
+     *
+     * @param sampleRatio the sampled fraction of the table, in {@code (0, 1]}
+     */
+    record Estimated(double sampleRatio) implements CountStrategy {
+
+        public Estimated {
+            if (!(sampleRatio > 0 && sampleRatio <= 1)) {
+                throw new IllegalArgumentException("Sample ratio must be in (0, 1]: " + sampleRatio);
+            }
+        }
+    }
+
+    static CountStrategy exact() {
+        return new Exact();
+    }
+
+    static CountStrategy capped() {
+        return new Capped(DEFAULT_LIMIT);
+    }
+
+    static CountStrategy capped(long limit) {
+        return new Capped(limit);
+    }
+
+    static CountStrategy estimated() {
+        return new Estimated(DEFAULT_SAMPLE_RATIO);
+    }
+
+    static CountStrategy estimated(double sampleRatio) {
+        return new Estimated(sampleRatio);
+    }
+
+    /**
+     * Parses a strategy from its option form: {@code exact}, {@code capped}, {@code capped:<limit>},
+     * {@code estimated} or {@code estimated:<ratio>}.
+     *
+     * @param value the option value, or {@code null}
+     * @return the parsed strategy, or {@code null} if {@code value} is {@code null} or blank
+     * @throws IllegalArgumentException if the value is not a valid strategy
+     */
+    static @Nullable CountStrategy parse(@Nullable String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        var separator = value.indexOf(':');
+        var mode = (separator < 0 ? value : value.substring(0, separator)).trim();
+        var argument = separator < 0 ? null : value.substring(separator + 1).trim();
+        try {
+            return switch (mode) {
+                case "exact" -> argument == null ? exact() : invalid(value);
+                case "capped" -> argument == null ? capped() : capped(Long.parseLong(argument));
+                case "estimated" -> argument == null ? estimated() : estimated(Double.parseDouble(argument));
+                default -> invalid(value);
+            };
+        } catch (NumberFormatException e) {
+            return invalid(value);
+        }
+    }
+
+    private static CountStrategy invalid(String value) {
+        throw new IllegalArgumentException("Invalid count strategy: " + value);
+    }
+}
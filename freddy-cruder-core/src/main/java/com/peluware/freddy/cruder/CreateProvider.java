@@ -3,6 +3,9 @@ package com.peluware.freddy.cruder;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Provides creation of a new resource from an input DTO.
  *
@@ -19,4 +22,24 @@ public interface CreateProvider<INPUT, OUTPUT> {
      * @return the newly created resource mapped to its output representation
      */
     OUTPUT create(@NotNull @Valid INPUT input);
+
+    /**
+     * Creates a batch of resources using the provided input DTOs.
+     *
+     * <p>
+     * The default implementation calls {@link #create(Object)} once per input.
+     * Implementations backed by a store should override it to run the whole batch
+     * in a single unit of work.
+     * </p>
+     *
+     * @param inputs input DTOs containing creation data
+     * @return the newly created resources mapped to their output representation, in input order
+     */
+    default List<OUTPUT> createAll(@NotNull List<@NotNull @Valid INPUT> inputs) {
+        var outputs = new ArrayList<OUTPUT>(inputs.size());
+        for (var input : inputs) {
+            outputs.add(create(input));
+        }
+        return outputs;
+    }
 }
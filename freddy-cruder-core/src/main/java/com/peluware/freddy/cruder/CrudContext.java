@@ -34,5 +34,31 @@ public record CrudContext(CrudOptions options) {
         run(new CrudContext(options), action);
     }
 
+    /**
+     * Captures the context bound to the calling scope and returns a supplier that re-binds it
+     * around {@code action}, so the action observes the caller's context on any thread.
+     * If no context is bound, {@code action} is returned unchanged.
+     */
+    public static <T> Supplier<T> propagateCall(Supplier<T> action) {
+        if (!CONTEXT.isBound()) {
+            return action;
+        }
+        var context = CONTEXT.get();
+        return () -> call(context, action);
+    }
+
+    /**
+     * Captures the context bound to the calling scope and returns a runnable that re-binds it
+     * around {@code action}, so the action observes the caller's context on any thread.
+     * If no context is bound, {@code action} is returned unchanged.
+     */
+    public static Runnable propagateRun(Runnable action) {
+        if (!CONTEXT.isBound()) {
+            return action;
+        }
+        var context = CONTEXT.get();
+        return () -> run(context, action);
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.peluware.freddy.cruder;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Instrumentation hook notified around every public operation of the entity providers.
+ *
+ * <p>
+ * Each operation opens a {@link Scope} tagged with the entity class, the {@link CrudOperation}
+ * and whether the provider is owned, and closes it with an {@link Outcome}. Page-like reads
+ * also report the number of rows they returned. Implementations typically record timers and
+ * distributions (e.g. through Micrometer).
+ * </p>
+ *
+ * <p>
+ * Providers use the observer returned by {@link #getGlobal()} unless they override
+ * {@code getObserver()}. The global observer is {@link #NOOP} until an integration installs
+ * another one; operations observed by {@link #NOOP} skip instrumentation entirely.
+ * </p>
+ *
+ * @see EntityCrudProvider#getObserver()
+ * @see OwnedEntityCrudProvider#getObserver()
+ */
+public interface CrudObserver {
+
+    /**
+     * Observer that records nothing.
+     */
+    CrudObserver NOOP = (_, _, _) -> Scope.NOOP;
+
+    /**
+     * Starts the observation of an operation.
+     *
+     * @param entityClass the entity class handled by the provider
+     * @param operation   the operation being executed
+     * @param owned       whether the provider scopes entities by owner
+     * @return the scope to close once the operation completes
+     */
+    Scope start(Class<?> entityClass, CrudOperation operation, boolean owned);
+
+    /**
+     * Returns the observer used by providers that do not override {@code getObserver()}.
+     *
+     * @return the global observer, {@link #NOOP} by default
+     */
+    static CrudObserver getGlobal() {
+        return GlobalCrudObserver.observer;
+    }
+
+    /**
+     * Installs the observer used by providers that do not override {@code getObserver()}.
+     *
+     * @param observer the observer to install, {@link #NOOP} to disable instrumentation
+     */
+    static void setGlobal(CrudObserver observer) {
+        GlobalCrudObserver.observer = Objects.requireNonNull(observer, "Observer must not be null");
+    }
+
+    /**
+     * How an observed operation completed.
+     */
+    enum Outcome {
+        SUCCESS,
+        NOT_FOUND,
+        ERROR;
+
+        /**
+         * Classifies the failure of an operation.
+         *
+         * @param error the exception thrown by the operation
+         * @return {@link #NOT_FOUND} for {@link NotFoundException}, {@link #ERROR} otherwise
+         */
+        public static Outcome of(Throwable error) {
+            return error instanceof NotFoundException ? NOT_FOUND : ERROR;
+        }
+    }
+
+    /**
+     * An operation in progress.
+     */
+    interface Scope {
+
+        /**
+         * Scope that records nothing.
+         */
+        Scope NOOP = (_, _) -> {
+        };
+
+        /**
+         * Reports the number of rows returned by a page-like read. Called before {@link #stop}.
+         *
+         * @param rows the number of returned rows
+         */
+        default void rows(int rows) {
+            // Implementations may override
+        }
+
+        /**
+         * Completes the observation.
+         *
+         * @param outcome how the operation completed
+         * @param error   the exception thrown by the operation, or {@code null} on success
+         */
+        void stop(Outcome outcome, @Nullable Throwable error);
+    }
+}
@@ -30,6 +30,13 @@ public enum CrudOperation {
      */
     PAGE(false, true),
 
+    /**
+     * Represents a streaming read operation.
+     * <br>
+     * This operation involves lazily retrieving an unpaginated list of entities.
+     */
+    STREAM(false, true),
+
     /**
      * Represents a find operation (read only).
      * <br>
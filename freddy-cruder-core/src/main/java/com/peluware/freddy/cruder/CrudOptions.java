@@ -11,6 +11,20 @@ public interface CrudOptions {
 
     CrudOptions DEFAULT = new DefaultCrudOptions(Map.of());
 
+    /**
+     * Boolean option that, when {@code false}, makes entity providers answer {@code page}
+     * calls in slice mode: no count query is issued and the page total is a lower bound.
+     *
+     * @see Slice#toPage()
+     */
+    String TOTAL = "total";
+
+    /**
+     * Option selecting the {@link CountStrategy} of {@code count} calls for the current request
+     * (e.g. {@code ?count=capped:10000}), in the format accepted by {@link CountStrategy#parse(String)}.
+     */
+    String COUNT = "count";
+
 
     // --------------------------------------------------
     // Básico
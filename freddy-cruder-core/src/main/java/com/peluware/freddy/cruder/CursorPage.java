@@ -0,0 +1,63 @@
+package com.peluware.freddy.cruder;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A window of results obtained through keyset (cursor) pagination.
+ *
+ * <p>
+ * Unlike {@link com.peluware.domain.Page}, a cursor page carries no page number nor total
+ * count. The next window is requested by passing {@link #nextCursor()} back to
+ * {@link PageProvider#pageByCursor}. The cursor is an opaque token and must not be
+ * built or parsed by clients.
+ * </p>
+ *
+ * @param content    the resources in this window
+ * @param nextCursor the token pointing after the last element, or {@code null} if this is the last window
+ * @param <T>        the element type
+ */
+public record CursorPage<T>(List<T> content, @Nullable String nextCursor) {
+
+    public CursorPage {
+        content = List.copyOf(Objects.requireNonNull(content, "Content must not be null"));
+    }
+
+    /**
+     * Returns an empty, final window.
+     *
+     * @param <T> the element type
+     * @return an empty cursor page without next cursor
+     */
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(List.of(), null);
+    }
+
+    /**
+     * Indicates whether more results are available after this window.
+     *
+     * @return {@code true} if {@link #nextCursor()} is present
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Converts the content of this window, keeping the same cursor.
+     *
+     * @param mapper the element conversion function
+     * @param <R>    the target element type
+     * @return a new cursor page with converted content
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        var mapped = new ArrayList<R>(content.size());
+        for (var element : content) {
+            mapped.add(mapper.apply(element));
+        }
+        return new CursorPage<>(mapped, nextCursor);
+    }
+}
@@ -2,6 +2,8 @@ package com.peluware.freddy.cruder;
 
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Collection;
+
 /**
  * Provides deletion of a resource by its identifier.
  *
@@ -17,4 +19,22 @@ public interface DeleteProvider<ID> {
      * @throws NotFoundException if the resource does not exist
      */
     void delete(@NotNull ID id) throws NotFoundException;
+
+    /**
+     * Deletes a batch of resources identified by the given IDs.
+     *
+     * <p>
+     * The default implementation calls {@link #delete(Object)} once per identifier.
+     * Implementations backed by a store should override it to run the whole batch
+     * in a single unit of work.
+     * </p>
+     *
+     * @param ids unique identifiers of the resources to delete
+     * @throws NotFoundException if any of the resources does not exist
+     */
+    default void deleteAll(@NotNull Collection<@NotNull ID> ids) throws NotFoundException {
+        for (var id : ids) {
+            delete(id);
+        }
+    }
 }
@@ -3,6 +3,8 @@ package com.peluware.freddy.cruder;
 
 import com.peluware.domain.Page;
 
+import java.util.List;
+
 public interface EntityCrudEvents<ENTITY, ID, INPUT> {
 
     EntityCrudEvents<?, ?, ?> DEFAULT = new EntityCrudEvents<>() {
@@ -45,4 +47,53 @@ public interface EntityCrudEvents<ENTITY, ID, INPUT> {
 
     default void eachEntity(ENTITY entity) {
     }
+
+    // ------------------------------------------------------------
+    // BATCH CALLBACKS
+    // ------------------------------------------------------------
+    // Invoked by bulk operations with positionally aligned lists. The defaults
+    // fan out to the single-entity callbacks, so listeners only need to override
+    // these when they can process a whole batch at once.
+
+    default void eachEntities(List<ENTITY> entities) {
+        for (var entity : entities) {
+            eachEntity(entity);
+        }
+    }
+
+    default void onBeforeCreateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            onBeforeCreate(inputs.get(i), entities.get(i));
+        }
+    }
+
+    default void onBeforeUpdateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            onBeforeUpdate(inputs.get(i), entities.get(i));
+        }
+    }
+
+    default void onBeforeDeleteAll(List<ENTITY> entities) {
+        for (var entity : entities) {
+            onBeforeDelete(entity);
+        }
+    }
+
+    default void onAfterCreateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            onAfterCreate(inputs.get(i), entities.get(i));
+        }
+    }
+
+    default void onAfterUpdateAll(List<INPUT> inputs, List<ENTITY> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            onAfterUpdate(inputs.get(i), entities.get(i));
+        }
+    }
+
+    default void onAfterDeleteAll(List<ENTITY> entities) {
+        for (var entity : entities) {
+            onAfterDelete(entity);
+        }
+    }
 }
\ No newline at end of file
@@ -3,14 +3,30 @@ package com.peluware.freddy.cruder;
 import com.peluware.domain.Page;
 import com.peluware.domain.Pagination;
 import com.peluware.domain.Sort;
+import com.peluware.freddy.cruder.utils.CollectionUtils;
+import com.peluware.freddy.cruder.utils.QueryCanonicalizer;
 import com.peluware.freddy.cruder.utils.ReflectUtils;
 import com.peluware.freddy.cruder.utils.StringUtils;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 /**
  * A high-level, framework-agnostic CRUD provider that encapsulates the full lifecycle of
@@ -26,7 +42,9 @@ import java.util.function.Supplier;
  *   <li>Entity/DTO mapping hooks via {@link #mapInput(INPUT, ENTITY, boolean)} and {@link #mapOutput(ENTITY)}</li>
  *   <li>Automatic invocation of CRUD lifecycle event callbacks via {@link EntityCrudEvents}</li>
  *   <li>Pre- and post-operation hooks for cross-cutting concerns</li>
- *   <li>Optional transaction wrapping through {@link #withTransaction(Supplier)}</li>
+ *   <li>Optional transaction wrapping through {@link #withTransaction(Supplier)}, optionally
+ *   limited to the store work (see {@link #isShortTransactionEnabled()})</li>
+ *   <li>Bulk write operations processed in chunks of {@link #getBatchSize()} entities</li>
  * </ul>
  *
  * <p>
@@ -58,7 +76,7 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
      */
     protected EntityCrudProvider(Class<ENTITY> entityClass, EntityCrudEvents<ENTITY, ID, INPUT> events) {
         this.entityClass = Objects.requireNonNull(entityClass, "Entity class must not be null");
-        this.events = Objects.requireNonNull(events, "Event class must not be null");
+        this.events = CompositeCrudEvents.of(Objects.requireNonNull(events, "Event class must not be null"));
     }
 
 
@@ -99,7 +117,7 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
     @SuppressWarnings("unchecked")
     protected EntityCrudProvider(EntityCrudEvents<ENTITY, ID, INPUT> events) {
         this.entityClass = (Class<ENTITY>) ReflectUtils.resolveGenericType(getClass(), EntityCrudProvider.class, 0);
-        this.events = Objects.requireNonNull(events, "Event class must not be null");
+        this.events = CompositeCrudEvents.of(Objects.requireNonNull(events, "Event class must not be null"));
     }
 
     /**
@@ -122,19 +140,142 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
      * (simple paging or search mode), triggers lifecycle events, and maps entity results to
      * output DTOs.
      * </p>
+     *
+     * <p>
+     * When {@link #isTotalRequested()} returns {@code false}, the page is fetched in slice mode
+     * through {@link #internalSlice(String, String, Pagination, Sort)}: no count query is issued
+     * and the reported total is the lower bound described in {@link Slice#toPage()}.
+     * </p>
+     *
+     * <p>
+     * When {@link #isProjectionEnabled()} returns {@code true}, the outputs are read directly
+     * through {@link #internalProjectedPage(String, String, Pagination, Sort)}: no entity is
+     * loaded, so the entity events and {@link #mapOutput(Object)} are skipped.
+     * </p>
      */
     @Override
     public Page<OUTPUT> page(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
-        preProcess(CrudOperation.PAGE);
+        return observe(CrudOperation.PAGE, () -> {
+            preProcess(CrudOperation.PAGE);
+
+            var normalized = StringUtils.normalize(search);
+            if (isProjectionEnabled()) {
+                var projected = isTotalRequested()
+                    ? resolveProjectedPage(normalized, query, pagination, sort)
+                    : resolveProjectedSlice(normalized, query, pagination, sort).toPage();
+                postProcess(CrudOperation.PAGE);
+                return projected;
+            }
+
+            var page = isTotalRequested()
+                ? resolvePage(normalized, query, pagination, sort)
+                : resolveSlice(normalized, query, pagination, sort).toPage();
+
+            events.onPage(page);
+            events.eachEntities(page.getContent());
+
+            postProcess(CrudOperation.PAGE);
+            return page.map(contentMapper(page.getContent()));
+        }, page -> page.getContent().size());
+    }
 
-        var normalized = StringUtils.normalize(search);
-        var page = resolvePage(normalized, query, pagination, sort);
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation normalizes search input, delegates the query to
+     * {@link #internalSlice(String, String, Pagination, Sort)}, triggers
+     * {@link EntityCrudEvents#eachEntities} with its content and maps the slice to output DTOs.
+     * In projection mode (see {@link #isProjectionEnabled()}) the outputs are read directly
+     * through {@link #internalProjectedSlice(String, String, Pagination, Sort)}.
+     * </p>
+     */
+    @Override
+    public Slice<OUTPUT> slice(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return observe(CrudOperation.PAGE, () -> {
+            preProcess(CrudOperation.PAGE);
 
-        events.onPage(page);
-        page.getContent().forEach(events::eachEntity);
+            var normalized = StringUtils.normalize(search);
+            if (isProjectionEnabled()) {
+                var projected = resolveProjectedSlice(normalized, query, pagination, sort);
+                postProcess(CrudOperation.PAGE);
+                return projected;
+            }
 
-        postProcess(CrudOperation.PAGE);
-        return page.map(this::mapOutput);
+            var slice = resolveSlice(normalized, query, pagination, sort);
+
+            events.eachEntities(slice.content());
+
+            postProcess(CrudOperation.PAGE);
+            return slice.map(contentMapper(slice.content()));
+        }, slice -> slice.content().size());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation normalizes search input, delegates the keyset query to
+     * {@link #internalPageByCursor(String, String, String, int, Sort)}, triggers
+     * {@link EntityCrudEvents#eachEntities} with its content and maps the window to output DTOs.
+     * </p>
+     */
+    @Override
+    public CursorPage<OUTPUT> pageByCursor(@Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) {
+        return observe(CrudOperation.PAGE, () -> {
+            preProcess(CrudOperation.PAGE);
+
+            var normalized = StringUtils.normalize(search);
+            var page = resolvePageByCursor(normalized, query, StringUtils.normalize(cursor), size, sort);
+
+            events.eachEntities(page.content());
+
+            postProcess(CrudOperation.PAGE);
+            return page.map(contentMapper(page.content()));
+        }, page -> page.content().size());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation normalizes search input and maps entities lazily as the stream
+     * is consumed. Each entity is passed to {@link EntityCrudEvents#eachEntity}, mapped to
+     * its output representation and then released through {@link #internalDetach(ENTITY)},
+     * so memory use does not grow with the size of the result set.
+     * {@link #postProcess(CrudOperation)} runs when the stream is closed, which also completes
+     * its observation.
+     * </p>
+     *
+     * <p>
+     * No transaction is opened by this method: the stream must be consumed while the
+     * underlying store resources are still available (e.g. inside the caller's transaction).
+     * </p>
+     */
+    @Override
+    public Stream<OUTPUT> stream(@Nullable String search, @Nullable String query, Sort sort) {
+        var scope = getObserver().start(entityClass, CrudOperation.STREAM, false);
+        try {
+            preProcess(CrudOperation.STREAM);
+
+            var normalized = StringUtils.normalize(search);
+            var stream = resolveStream(normalized, query, sort);
+
+            return stream
+                .map(entity -> {
+                    events.eachEntity(entity);
+                    var output = mapOutput(entity);
+                    internalDetach(entity);
+                    return output;
+                })
+                .onClose(() -> {
+                    postProcess(CrudOperation.STREAM);
+                    scope.stop(CrudObserver.Outcome.SUCCESS, null);
+                });
+        } catch (RuntimeException | Error e) {
+            scope.stop(CrudObserver.Outcome.of(e), e);
+            throw e;
+        }
     }
 
     /**
@@ -142,41 +283,111 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
      *
      * <p>
      * This implementation retrieves the entity, triggers lifecycle events, and maps it
-     * to the output representation.
+     * to the output representation. In projection mode (see {@link #isProjectionEnabled()})
+     * the output is read directly through {@link #internalProjectedFind(Object)}.
      * </p>
      */
     @Override
     public OUTPUT find(@NotNull ID id) throws NotFoundEntityException {
-        preProcess(CrudOperation.FIND);
+        return observe(CrudOperation.FIND, () -> {
+            preProcess(CrudOperation.FIND);
 
-        var entity = internalFind(id);
+            if (isProjectionEnabled()) {
+                var output = internalProjectedFind(id);
+                postProcess(CrudOperation.FIND);
+                return output;
+            }
+
+            var entity = internalFind(id);
 
-        events.onFind(entity);
-        events.eachEntity(entity);
+            events.onFind(entity);
+            events.eachEntity(entity);
+
+            postProcess(CrudOperation.FIND);
+            return mapOutput(entity);
+        });
+    }
 
-        postProcess(CrudOperation.FIND);
-        return mapOutput(entity);
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation loads the distinct identifiers through {@link #internalFindAll(List)},
+     * triggers {@link EntityCrudEvents#onFind} for each entity found and
+     * {@link EntityCrudEvents#eachEntities} once, and maps the entities to output DTOs. In
+     * projection mode (see {@link #isProjectionEnabled()}) the outputs are read through
+     * {@link #internalProjectedFindAll(List)}.
+     * </p>
+     */
+    @Override
+    public FindAllResult<ID, OUTPUT> findAll(@NotNull Collection<@NotNull ID> ids) {
+        return observe(CrudOperation.FIND, () -> {
+            preProcess(CrudOperation.FIND);
+
+            var distinct = List.copyOf(new LinkedHashSet<>(ids));
+            if (isProjectionEnabled()) {
+                var outputs = internalProjectedFindAll(distinct);
+                postProcess(CrudOperation.FIND);
+                return FindAllResult.of(distinct, outputs);
+            }
+
+            var loaded = internalFindAll(distinct);
+            var entities = new LinkedHashMap<ID, ENTITY>();
+            for (var id : distinct) {
+                var entity = loaded.get(id);
+                if (entity != null) {
+                    entities.put(id, entity);
+                }
+            }
+            var content = List.copyOf(entities.values());
+
+            content.forEach(events::onFind);
+            events.eachEntities(content);
+
+            postProcess(CrudOperation.FIND);
+            var mapper = contentMapper(content);
+            var outputs = new HashMap<ID, OUTPUT>();
+            entities.forEach((id, entity) -> outputs.put(id, mapper.apply(entity)));
+            return FindAllResult.of(distinct, outputs);
+        }, result -> result.found().size());
     }
 
     /**
      * {@inheritDoc}
      *
      * <p>
-     * This implementation normalizes the search text, resolves the appropriate count strategy,
-     * triggers events, and returns the total number of matching entities.
+     * This implementation returns the value of {@link #countResult(String, String)}, which
+     * is a lower bound or an estimate when a non-exact {@link CountStrategy} is in effect.
      * </p>
      */
     @Override
     public long count(@Nullable String search, @Nullable String query) {
-        preProcess(CrudOperation.COUNT);
+        return countResult(search, query).value();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation normalizes the search text, counts with the strategy selected by the
+     * {@link CrudOptions#COUNT} option or {@link #getCountStrategy()}, triggers events, and returns
+     * the number of matching entities. Exact counts go through {@link #countTotal(String, String)} and its cache;
+     * other strategies are delegated to {@link #internalCount(String, String, CountStrategy)}.
+     * </p>
+     */
+    @Override
+    public CountResult countResult(@Nullable String search, @Nullable String query) {
+        return observe(CrudOperation.COUNT, () -> {
+            preProcess(CrudOperation.COUNT);
 
-        var normalized = StringUtils.normalize(search);
-        var count = resolveCount(normalized, query);
+            var normalized = StringUtils.normalize(search);
+            var count = resolveCount(normalized, query, resolveCountStrategy());
 
-        events.onCount(count);
+            events.onCount(count.value());
 
-        postProcess(CrudOperation.COUNT);
-        return count;
+            postProcess(CrudOperation.COUNT);
+            return count;
+        });
     }
 
     /**
@@ -189,14 +400,44 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
      */
     @Override
     public boolean exists(@NotNull ID id) {
-        preProcess(CrudOperation.EXISTS);
+        return observe(CrudOperation.EXISTS, () -> {
+            preProcess(CrudOperation.EXISTS);
 
-        var exists = internalExists(id);
+            var exists = internalExists(id);
 
-        events.onExists(exists, id);
+            events.onExists(exists, id);
 
-        postProcess(CrudOperation.EXISTS);
-        return exists;
+            postProcess(CrudOperation.EXISTS);
+            return exists;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation checks the distinct identifiers through {@link #internalExistsAll(List)}
+     * and triggers {@link EntityCrudEvents#onExists} once per identifier.
+     * </p>
+     */
+    @Override
+    public Map<ID, Boolean> existsAll(@NotNull Collection<@NotNull ID> ids) {
+        return observe(CrudOperation.EXISTS, () -> {
+            preProcess(CrudOperation.EXISTS);
+
+            var distinct = List.copyOf(new LinkedHashSet<>(ids));
+            var existing = internalExistsAll(distinct);
+
+            var result = new LinkedHashMap<ID, Boolean>();
+            for (var id : distinct) {
+                var exists = existing.contains(id);
+                events.onExists(exists, id);
+                result.put(id, exists);
+            }
+
+            postProcess(CrudOperation.EXISTS);
+            return result;
+        });
     }
 
     /**
@@ -213,27 +454,35 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
      *   <li>Applies "after create" lifecycle events</li>
      *   <li>Maps entity to output DTO</li>
      * </ol>
+     *
+     * <p>
+     * In short transaction mode (see {@link #isShortTransactionEnabled()}) the entity is flushed
+     * after the store call and the remaining steps run outside the transaction.
+     * </p>
      */
     @Override
     public OUTPUT create(@NotNull @Valid INPUT input) {
-        preProcess(CrudOperation.CREATE);
+        return observe(CrudOperation.CREATE, () -> {
+            preProcess(CrudOperation.CREATE);
 
-        var result = withTransaction(() -> {
-            var entity = newEntity();
+            var result = writeTransaction(() -> {
+                var entity = newEntity();
 
-            mapInput(input, entity, true);
-            events.onBeforeCreate(input, entity);
+                mapInput(input, entity, true);
+                events.onBeforeCreate(input, entity);
 
-            var created = internalCreate(entity);
+                return internalCreate(entity);
+            }, created -> {
+                events.onAfterCreate(input, created);
+                events.eachEntity(created);
 
-            events.onAfterCreate(input, created);
-            events.eachEntity(created);
+                return mapOutput(created);
+            });
 
-            return mapOutput(created);
+            invalidateCounts();
+            postProcess(CrudOperation.CREATE);
+            return result;
         });
-
-        postProcess(CrudOperation.CREATE);
-        return result;
     }
 
     /**
@@ -249,27 +498,35 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
      *   <li>Delegates to {@link #internalUpdate(ENTITY)}</li>
      *   <li>Maps updated entity to output DTO</li>
      * </ol>
+     *
+     * <p>
+     * In short transaction mode (see {@link #isShortTransactionEnabled()}) the entity is flushed
+     * after the store call and the remaining steps run outside the transaction.
+     * </p>
      */
     @Override
     public OUTPUT update(@NotNull ID id, @NotNull @Valid INPUT input) throws NotFoundEntityException {
-        preProcess(CrudOperation.UPDATE);
+        return observe(CrudOperation.UPDATE, () -> {
+            preProcess(CrudOperation.UPDATE);
 
-        var result = withTransaction(() -> {
-            var entity = internalFind(id);
+            var result = writeTransaction(() -> {
+                var entity = internalFind(id);
 
-            mapInput(input, entity, false);
-            events.onBeforeUpdate(input, entity);
+                mapInput(input, entity, false);
+                events.onBeforeUpdate(input, entity);
 
-            var updated = internalUpdate(entity);
+                return internalUpdate(entity);
+            }, updated -> {
+                events.onAfterUpdate(input, updated);
+                events.eachEntity(updated);
 
-            events.onAfterUpdate(input, updated);
-            events.eachEntity(updated);
+                return mapOutput(updated);
+            });
 
-            return mapOutput(updated);
+            invalidateCounts();
+            postProcess(CrudOperation.UPDATE);
+            return result;
         });
-
-        postProcess(CrudOperation.UPDATE);
-        return result;
     }
 
     /**
@@ -287,20 +544,185 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
      */
     @Override
     public void delete(@NotNull ID id) throws NotFoundEntityException {
-        preProcess(CrudOperation.DELETE);
+        observe(CrudOperation.DELETE, () -> {
+            preProcess(CrudOperation.DELETE);
 
-        withTransaction(() -> {
-            var entity = internalFind(id);
+            writeTransaction(() -> {
+                var entity = internalFind(id);
 
-            events.onBeforeDelete(entity);
+                events.onBeforeDelete(entity);
 
-            internalDelete(entity);
+                internalDelete(entity);
+                return entity;
+            }, deleted -> {
+                events.onAfterDelete(deleted);
+                return Void.class;
+            });
 
-            events.onAfterDelete(entity);
-            return Void.class;
+            invalidateCounts();
+            postProcess(CrudOperation.DELETE);
         });
+    }
+
+    // ------------------------------------------------------------
+    // BULK OPERATIONS (public API)
+    // ------------------------------------------------------------
 
-        postProcess(CrudOperation.DELETE);
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation runs the whole batch inside a single {@link #withTransaction(Supplier)}
+     * call and invokes {@link #preProcess(CrudOperation)} / {@link #postProcess(CrudOperation)}
+     * once. Inputs are processed in chunks of {@link #getBatchSize()} elements; for each chunk:
+     * </p>
+     * <ol>
+     *   <li>Creates and populates one entity per input</li>
+     *   <li>Applies the batch "before create" lifecycle event</li>
+     *   <li>Delegates persistence to {@link #internalCreateAll(List)}</li>
+     *   <li>Applies the batch "after create" lifecycle event</li>
+     *   <li>Maps the entities to output DTOs</li>
+     *   <li>Flushes the chunk and releases its entities via {@link #internalFlush()} and {@link #internalDetach(Object)}</li>
+     * </ol>
+     */
+    @Override
+    public List<OUTPUT> createAll(@NotNull List<@NotNull @Valid INPUT> inputs) {
+        return observe(CrudOperation.CREATE, () -> {
+            preProcess(CrudOperation.CREATE);
+
+            var shortTransaction = isShortTransactionEnabled();
+            var written = new ArrayList<WrittenChunk<INPUT, ENTITY>>();
+            var result = new ArrayList<OUTPUT>(inputs.size());
+
+            withTransaction(() -> {
+                for (var chunk : CollectionUtils.partition(inputs, getBatchSize())) {
+                    var entities = new ArrayList<ENTITY>(chunk.size());
+                    for (var input : chunk) {
+                        var entity = newEntity();
+                        mapInput(input, entity, true);
+                        entities.add(entity);
+                    }
+                    events.onBeforeCreateAll(chunk, entities);
+
+                    var created = internalCreateAll(entities);
+
+                    if (shortTransaction) {
+                        written.add(new WrittenChunk<>(chunk, created));
+                    } else {
+                        completeCreateAll(chunk, created, result);
+                    }
+                    releaseBatch(created);
+                }
+                return Void.class;
+            });
+
+            for (var chunk : written) {
+                completeCreateAll(chunk.inputs(), chunk.entities(), result);
+            }
+
+            invalidateCounts();
+            postProcess(CrudOperation.CREATE);
+            return result;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation runs the whole batch inside a single {@link #withTransaction(Supplier)}
+     * call, processing entries in chunks of {@link #getBatchSize()} elements. Each chunk is loaded,
+     * mapped, passed to the batch update events and {@link #internalUpdateAll(List)}, mapped to
+     * output DTOs and finally flushed and released.
+     * </p>
+     */
+    @Override
+    public List<OUTPUT> updateAll(@NotNull Map<@NotNull ID, @NotNull @Valid INPUT> inputs) throws NotFoundEntityException {
+        return observe(CrudOperation.UPDATE, () -> {
+            preProcess(CrudOperation.UPDATE);
+
+            var shortTransaction = isShortTransactionEnabled();
+            var written = new ArrayList<WrittenChunk<INPUT, ENTITY>>();
+            var result = new ArrayList<OUTPUT>(inputs.size());
+
+            withTransaction(() -> {
+                for (var chunk : CollectionUtils.partition(new ArrayList<>(inputs.entrySet()), getBatchSize())) {
+                    var chunkInputs = new ArrayList<INPUT>(chunk.size());
+                    var entities = new ArrayList<ENTITY>(chunk.size());
+                    for (var entry : chunk) {
+                        var entity = internalFind(entry.getKey());
+                        mapInput(entry.getValue(), entity, false);
+                        chunkInputs.add(entry.getValue());
+                        entities.add(entity);
+                    }
+                    events.onBeforeUpdateAll(chunkInputs, entities);
+
+                    var updated = internalUpdateAll(entities);
+
+                    if (shortTransaction) {
+                        written.add(new WrittenChunk<>(chunkInputs, updated));
+                    } else {
+                        completeUpdateAll(chunkInputs, updated, result);
+                    }
+                    releaseBatch(updated);
+                }
+                return Void.class;
+            });
+
+            for (var chunk : written) {
+                completeUpdateAll(chunk.inputs(), chunk.entities(), result);
+            }
+
+            invalidateCounts();
+            postProcess(CrudOperation.UPDATE);
+            return result;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * This implementation runs the whole batch inside a single {@link #withTransaction(Supplier)}
+     * call, processing identifiers in chunks of {@link #getBatchSize()} elements. Each chunk is
+     * loaded, passed to the batch delete events and {@link #internalDeleteAll(List)}, and flushed.
+     * </p>
+     */
+    @Override
+    public void deleteAll(@NotNull Collection<@NotNull ID> ids) throws NotFoundEntityException {
+        observe(CrudOperation.DELETE, () -> {
+            preProcess(CrudOperation.DELETE);
+
+            var shortTransaction = isShortTransactionEnabled();
+            var written = new ArrayList<List<ENTITY>>();
+
+            withTransaction(() -> {
+                for (var chunk : CollectionUtils.partition(List.copyOf(ids), getBatchSize())) {
+                    var entities = new ArrayList<ENTITY>(chunk.size());
+                    for (var id : chunk) {
+                        entities.add(internalFind(id));
+                    }
+                    events.onBeforeDeleteAll(entities);
+
+                    internalDeleteAll(entities);
+
+                    if (shortTransaction) {
+                        written.add(entities);
+                    } else {
+                        events.onAfterDeleteAll(entities);
+                    }
+                    internalFlush();
+                }
+                return Void.class;
+            });
+
+            for (var entities : written) {
+                events.onAfterDeleteAll(entities);
+            }
+
+            invalidateCounts();
+            postProcess(CrudOperation.DELETE);
+        });
     }
 
 // ------------------------------------------------------------
@@ -334,6 +756,161 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
 
     protected abstract long internalCount(@Nullable String search, @Nullable String query);
 
+    /**
+     * Counts entities with the given strategy.
+     *
+     * <p>
+     * The default implementation ignores the strategy and returns the exact
+     * {@link #internalCount(String, String)}. Subclasses override it for the modes their store
+     * can compute more cheaply than an exact count.
+     * </p>
+     *
+     * @param search   normalized full-text search string, or {@code null}
+     * @param query    filtering expression after query policies, or {@code null}
+     * @param strategy the requested count strategy, never {@link CountStrategy.Exact}
+     * @return the count and its accuracy
+     */
+    protected CountResult internalCount(@Nullable String search, @Nullable String query, CountStrategy strategy) {
+        return CountResult.exact(internalCount(search, query));
+    }
+
+    /**
+     * Retrieves a page of entities without counting the total.
+     *
+     * <p>
+     * The default implementation derives the slice from
+     * {@link #internalPage(String, String, Pagination, Sort)}, which counts to decide whether
+     * another page follows. Subclasses should override it to fetch one extra row instead
+     * (see {@link Slice#ofProbe(java.util.List, Pagination, Sort)}).
+     * </p>
+     *
+     * @param search     normalized full-text search string, or {@code null}
+     * @param query      filtering expression after query policies, or {@code null}
+     * @param pagination pagination settings
+     * @param sort       sorting configuration
+     * @return the slice of entities
+     */
+    protected Slice<ENTITY> internalSlice(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return Slice.of(internalPage(search, query, pagination, sort));
+    }
+
+    /**
+     * Retrieves a page of outputs read directly from the store, without loading entities.
+     * Called instead of {@link #internalPage(String, String, Pagination, Sort)} when
+     * {@link #isProjectionEnabled()} returns {@code true}.
+     *
+     * <p>
+     * The default implementation throws {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param search     normalized full-text search string, or {@code null}
+     * @param query      filtering expression after query policies, or {@code null}
+     * @param pagination pagination settings
+     * @param sort       sorting configuration
+     * @return the page of outputs
+     */
+    protected Page<OUTPUT> internalProjectedPage(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        throw new UnsupportedOperationException("Projected pages are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Retrieves a page of outputs read directly from the store without counting the total.
+     *
+     * <p>
+     * The default implementation derives the slice from
+     * {@link #internalProjectedPage(String, String, Pagination, Sort)}.
+     * </p>
+     *
+     * @param search     normalized full-text search string, or {@code null}
+     * @param query      filtering expression after query policies, or {@code null}
+     * @param pagination pagination settings
+     * @param sort       sorting configuration
+     * @return the slice of outputs
+     */
+    protected Slice<OUTPUT> internalProjectedSlice(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return Slice.of(internalProjectedPage(search, query, pagination, sort));
+    }
+
+    /**
+     * Retrieves the output of an entity directly from the store, without loading it.
+     * Called instead of {@link #internalFind(Object)} when {@link #isProjectionEnabled()}
+     * returns {@code true}.
+     *
+     * <p>
+     * The default implementation throws {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param id the identifier of the entity
+     * @return the output of the entity
+     * @throws NotFoundEntityException if no entity matches the identifier
+     */
+    protected OUTPUT internalProjectedFind(ID id) throws NotFoundEntityException {
+        throw new UnsupportedOperationException("Projected finds are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Retrieves the outputs of the entities matching the given identifiers directly from the
+     * store. Called instead of {@link #internalFindAll(List)} when {@link #isProjectionEnabled()}
+     * returns {@code true}.
+     *
+     * <p>
+     * The default implementation calls {@link #internalProjectedFind(Object)} for each identifier
+     * and skips the missing ones. Subclasses should override it to read the identifiers with a
+     * few queries (e.g. chunked {@code IN} lists).
+     * </p>
+     *
+     * @param ids the distinct identifiers to read
+     * @return the outputs found keyed by identifier, without entries for missing identifiers
+     */
+    protected Map<ID, OUTPUT> internalProjectedFindAll(List<ID> ids) {
+        var outputs = new HashMap<ID, OUTPUT>();
+        for (var id : ids) {
+            try {
+                outputs.put(id, internalProjectedFind(id));
+            } catch (NotFoundException e) {
+                // Reported as missing
+            }
+        }
+        return outputs;
+    }
+
+    /**
+     * Retrieves a window of entities using keyset pagination.
+     *
+     * <p>
+     * The default implementation throws {@link UnsupportedOperationException}. Subclasses
+     * backed by a store able to seek on an index should override it.
+     * </p>
+     *
+     * @param search normalized full-text search string, or {@code null}
+     * @param query  filtering expression after query policies, or {@code null}
+     * @param cursor the cursor of the previous window, or {@code null} for the first one
+     * @param size   maximum number of entities in the window
+     * @param sort   sorting configuration
+     * @return the window of entities and the cursor of the next one
+     */
+    protected CursorPage<ENTITY> internalPageByCursor(@Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) {
+        throw new UnsupportedOperationException("Cursor pagination is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Lazily retrieves all entities matching the given search and query filters.
+     *
+     * <p>
+     * The default implementation streams the content of an unpaginated
+     * {@link #internalPage(String, String, Pagination, Sort)} call. Subclasses should
+     * override it when the underlying store supports cursor-based reads.
+     * </p>
+     *
+     * @param search normalized full-text search string, or {@code null}
+     * @param query  filtering expression after query policies, or {@code null}
+     * @param sort   sorting configuration
+     * @return a stream of entities, closed by the caller
+     */
+    protected Stream<ENTITY> internalStream(@Nullable String search, @Nullable String query, Sort sort) {
+        return internalPage(search, query, Pagination.unpaginated(), sort).getContent().stream();
+    }
+
     protected abstract boolean internalExists(ID id);
 
     protected abstract ENTITY internalCreate(ENTITY entity);
@@ -342,6 +919,134 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
 
     protected abstract void internalDelete(ENTITY entity);
 
+// ------------------------------------------------------------
+// BATCH PERSISTENCE CONTRACTS
+// ------------------------------------------------------------
+
+    /**
+     * Loads the entities matching the given identifiers.
+     *
+     * <p>
+     * The default implementation calls {@link #internalFind(Object)} for each identifier and
+     * skips the missing ones. Subclasses should override it to load the identifiers with a few
+     * queries (e.g. chunked {@code IN} lists).
+     * </p>
+     *
+     * @param ids the distinct identifiers to load
+     * @return the entities found keyed by identifier, without entries for missing identifiers
+     */
+    protected Map<ID, ENTITY> internalFindAll(List<ID> ids) {
+        var entities = new HashMap<ID, ENTITY>();
+        for (var id : ids) {
+            try {
+                entities.put(id, internalFind(id));
+            } catch (NotFoundException e) {
+                // Reported as missing
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Checks which of the given identifiers match an existing entity.
+     *
+     * <p>
+     * The default implementation calls {@link #internalExists(Object)} for each identifier.
+     * Subclasses should override it to check the identifiers with a few queries.
+     * </p>
+     *
+     * @param ids the distinct identifiers to check
+     * @return the identifiers of the existing entities
+     */
+    protected Set<ID> internalExistsAll(List<ID> ids) {
+        var existing = new HashSet<ID>();
+        for (var id : ids) {
+            if (internalExists(id)) {
+                existing.add(id);
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Persists a chunk of new entities.
+     *
+     * <p>
+     * The default implementation calls {@link #internalCreate(Object)} for each entity.
+     * Subclasses may override to use a native bulk operation of the underlying store.
+     * </p>
+     *
+     * @param entities the entities to persist, at most {@link #getBatchSize()} elements
+     * @return the persisted entities, in the same order
+     */
+    protected List<ENTITY> internalCreateAll(List<ENTITY> entities) {
+        var created = new ArrayList<ENTITY>(entities.size());
+        for (var entity : entities) {
+            created.add(internalCreate(entity));
+        }
+        return created;
+    }
+
+    /**
+     * Persists changes to a chunk of existing entities.
+     *
+     * <p>
+     * The default implementation calls {@link #internalUpdate(Object)} for each entity.
+     * </p>
+     *
+     * @param entities the entities with updated state, at most {@link #getBatchSize()} elements
+     * @return the updated entities, in the same order
+     */
+    protected List<ENTITY> internalUpdateAll(List<ENTITY> entities) {
+        var updated = new ArrayList<ENTITY>(entities.size());
+        for (var entity : entities) {
+            updated.add(internalUpdate(entity));
+        }
+        return updated;
+    }
+
+    /**
+     * Removes a chunk of entities.
+     *
+     * <p>
+     * The default implementation calls {@link #internalDelete(Object)} for each entity.
+     * </p>
+     *
+     * @param entities the entities to remove, at most {@link #getBatchSize()} elements
+     */
+    protected void internalDeleteAll(List<ENTITY> entities) {
+        for (var entity : entities) {
+            internalDelete(entity);
+        }
+    }
+
+    /**
+     * Synchronizes pending changes of the current unit of work with the underlying store.
+     *
+     * <p>
+     * Called by bulk operations after each chunk. The default implementation does nothing;
+     * stores with a write-behind session (e.g. a JPA persistence context) should flush it here.
+     * </p>
+     */
+    protected void internalFlush() {
+        // Subclasses may override
+    }
+
+    /**
+     * Releases an entity that is no longer needed by the current operation.
+     *
+     * <p>
+     * Called by bulk operations once a flushed chunk has been mapped, so that sessions with
+     * first-level caches do not grow with the size of the batch. The default implementation
+     * does nothing.
+     * </p>
+     *
+     * @param entity the entity to release
+     */
+    protected void internalDetach(ENTITY entity) {
+        // Subclasses may override
+    }
+
 // ------------------------------------------------------------
 // EXTENSION HOOKS
 // ------------------------------------------------------------
@@ -369,25 +1074,233 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
         // Subclasses may override
     }
 
+    /**
+     * Returns the observer notified around every public operation of this provider.
+     *
+     * <p>
+     * The default implementation returns {@link CrudObserver#getGlobal()}, which records nothing
+     * unless an integration installed an observer.
+     * </p>
+     *
+     * @return the operation observer
+     */
+    protected CrudObserver getObserver() {
+        return CrudObserver.getGlobal();
+    }
+
+    /**
+     * Returns the maximum number of entities processed per chunk by the bulk operations.
+     *
+     * <p>
+     * The default implementation returns {@link Integer#MAX_VALUE}, processing the whole
+     * batch as a single chunk. Stores should align this value with their write batching
+     * (e.g. the JDBC batch size).
+     * </p>
+     *
+     * @return the chunk size, must be positive
+     */
+    protected int getBatchSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the cache used for filtered counts, or {@code null} to always count in the store.
+     *
+     * <p>
+     * When a cache is returned, {@link #count(String, String)} and the totals computed through
+     * {@link #countTotal(String, String)} are served from it, and every write performed by this
+     * provider evicts the counts of {@link #entityClass}, once right away and again after the
+     * transaction commits. The default implementation returns {@code null}.
+     * </p>
+     *
+     * <p>
+     * Cache keys only include the search text and the policy-applied query. Do not enable the
+     * cache if the store filters by request state that is not part of the query (e.g. a tenant
+     * predicate injected by the persistence layer), unless such state is added through
+     * {@link #applyQueryPolicies(String)}.
+     * </p>
+     *
+     * @return the count cache, or {@code null}
+     */
+    protected @Nullable CountCache getCountCache() {
+        return null;
+    }
+
+    /**
+     * Returns the strategy used by {@link #count(String, String)} when the request does not
+     * select one through the {@link CrudOptions#COUNT} option.
+     *
+     * <p>
+     * The default implementation returns {@link CountStrategy#exact()}. Page totals are always
+     * exact; use slice mode to avoid them.
+     * </p>
+     *
+     * @return the default count strategy of this provider
+     */
+    protected CountStrategy getCountStrategy() {
+        return CountStrategy.exact();
+    }
+
+    /**
+     * Indicates whether {@link #page(String, String, Pagination, Sort)} must compute the total count.
+     *
+     * <p>
+     * The default implementation returns {@code false} when the calling scope carries the
+     * {@link CrudOptions#TOTAL} option set to {@code false} (e.g. {@code ?total=false}), and
+     * {@code true} otherwise.
+     * </p>
+     *
+     * @return {@code true} to compute the total, {@code false} to use slice mode
+     */
+    protected boolean isTotalRequested() {
+        return !CrudContext.hasContext() || CrudContext.current().options().getBoolean(CrudOptions.TOTAL, true);
+    }
+
+    /**
+     * Indicates whether {@code page}, {@code slice} and {@code find} read outputs directly from
+     * the store through the {@code internalProjected*} contracts instead of mapping entities.
+     *
+     * <p>
+     * Projection mode skips entity hydration and {@link #mapOutput(Object)}, and therefore the
+     * entity events of those reads ({@link EntityCrudEvents#onPage}, {@link EntityCrudEvents#onFind}
+     * and {@link EntityCrudEvents#eachEntity}). The default implementation returns {@code false}.
+     * </p>
+     *
+     * @return {@code true} to read outputs directly from the store
+     */
+    protected boolean isProjectionEnabled() {
+        return false;
+    }
+
+    /**
+     * Indicates whether write operations keep only the store work inside
+     * {@link #withTransaction(Supplier)}.
+     *
+     * <p>
+     * By default the after-write events, {@link EntityCrudEvents#eachEntity} and {@link #mapOutput(Object)} run inside
+     * the transaction, so the connection stays checked out while outputs are assembled. In short
+     * transaction mode the transaction only covers loading, {@code mapInput}, the before-write
+     * events, the store call and a {@link #internalFlush()}; the after-write events, entity
+     * callbacks and output mapping run once {@link #withTransaction(Supplier)} has returned.
+     * The default implementation returns {@code false}.
+     * </p>
+     *
+     * <p>
+     * When enabling it, output mapping and after-write listeners must only read state initialized
+     * inside the transaction (e.g. by {@code mapInput} or a before-write event):
+     * </p>
+     *
+     * <ul>
+     *   <li>single writes hand over the entity as left by the store; with a persistence context
+     *   that outlives the transaction, touching a lazy association checks out a connection
+     *   again, and with a closed one it fails</li>
+     *   <li>{@link #createAll(List)} and {@link #updateAll(Map)} hand over entities already detached through
+     *   {@link #internalDetach(Object)}, on which lazy associations cannot be loaded</li>
+     *   <li>when {@link #withTransaction(Supplier)} joins a surrounding transaction, the
+     *   surrounding transaction is still open while these steps run</li>
+     * </ul>
+     *
+     * @return {@code true} to run output mapping and after-write events outside the transaction
+     */
+    protected boolean isShortTransactionEnabled() {
+        return false;
+    }
+
+    /**
+     * Indicates whether queries are rewritten into their canonical form through
+     * {@link QueryCanonicalizer#canonicalize(String)} after {@link #applyQueryPolicies(String)} and
+     * before reaching the {@code internal*} read contracts.
+     *
+     * <p>
+     * Canonical queries let semantically equal filters written with different whitespace,
+     * operand order or parentheses share count cache entries and store-side plans. Only enable it
+     * when the store reads RSQL / FIQL queries. The default implementation returns {@code false}.
+     * </p>
+     *
+     * @return {@code true} to canonicalize queries
+     */
+    protected boolean isQueryCanonicalizationEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns the minimum number of entities from which {@code page}, {@code slice} and
+     * {@code pageByCursor} map their content in parallel on {@link #getMappingExecutor()}.
+     *
+     * <p>
+     * Parallel mapping is opt-in: the default implementation returns {@link Integer#MAX_VALUE},
+     * so content is always mapped on the calling thread. Enable it when {@link #mapOutput(Object)} is
+     * CPU-heavy. The content is split in one chunk per available processor, results keep their
+     * order and the caller's {@link CrudContext} is re-bound on the worker threads; other
+     * thread-bound state (e.g. security contexts) is not propagated.
+     * </p>
+     *
+     * @return the parallel mapping threshold
+     */
+    protected int getParallelMappingThreshold() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the executor running parallel mapping chunks.
+     *
+     * <p>
+     * The default implementation returns {@link ForkJoinPool#commonPool()}. Return
+     * {@link AsyncCrudProvider#virtualThreadExecutor()} when the mapping blocks.
+     * </p>
+     *
+     * @return the mapping executor
+     */
+    protected Executor getMappingExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Indicates whether the given entities may be mapped on other threads.
+     *
+     * <p>
+     * Called only for content reaching {@link #getParallelMappingThreshold()}. The default
+     * implementation returns {@code true}; stores whose entities lazily load state through a
+     * thread-bound session should return {@code false} while such state is pending.
+     * </p>
+     *
+     * @param entities the entities about to be mapped
+     * @return {@code true} to allow parallel mapping
+     */
+    protected boolean isParallelMappingSafe(List<ENTITY> entities) {
+        return true;
+    }
+
 // ------------------------------------------------------------
 // UTILITIES
 // ------------------------------------------------------------
 
     /**
-     * Creates a new instance of the managed entity type using its default constructor.
+     * Returns the factory used by {@link #newEntity()}.
+     *
+     * <p>
+     * The default implementation returns {@link EntityFactory#of(Class)}, which calls the
+     * no-arg constructor of {@link #entityClass} resolved once per class. Stores may override
+     * to supply pooled or pre-sized instances.
+     * </p>
+     *
+     * @return the entity factory
+     */
+    protected EntityFactory<ENTITY> getEntityFactory() {
+        return EntityFactory.of(entityClass);
+    }
+
+    /**
+     * Creates a new instance of the managed entity type through {@link #getEntityFactory()}.
      *
      * <p>
-     * Subclasses may override when entities require factory methods instead of reflection.
+     * Subclasses may override when entities require factory methods instead of a constructor.
      * </p>
      *
      * @return a new entity instance
      */
     protected ENTITY newEntity() {
-        try {
-            return entityClass.getConstructor().newInstance();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to instantiate entity: " + entityClass.getName(), e);
-        }
+        return getEntityFactory().newInstance();
     }
 
     /**
@@ -417,15 +1330,169 @@ public abstract class EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements C
         return query;
     }
 
-    private Page<ENTITY> resolvePage(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+    /**
+     * Returns the number of entities matching already normalized search and policy-applied query,
+     * going through {@link #getCountCache()} when one is configured.
+     *
+     * <p>
+     * Subclasses should use this method for the deferred totals of their pages so that page
+     * totals and {@link #count(String, String)} share cached values.
+     * </p>
+     *
+     * @param search normalized full-text search string, or {@code null}
+     * @param query  filtering expression after query policies, or {@code null}
+     * @return the number of matching entities
+     */
+    protected long countTotal(@Nullable String search, @Nullable String query) {
+        var countCache = getCountCache();
+        if (countCache == null) {
+            return internalCount(search, query);
+        }
+        return countCache.get(entityClass, null, search, query, () -> internalCount(search, query));
+    }
+
+    private <T> T observe(CrudOperation operation, Supplier<T> action) {
+        return observe(operation, action, null);
+    }
+
+    private void observe(CrudOperation operation, Runnable action) {
+        observe(operation, () -> {
+            action.run();
+            return Void.class;
+        }, null);
+    }
+
+    private <T> T observe(CrudOperation operation, Supplier<T> action, @Nullable ToIntFunction<? super T> rows) {
+        var observer = getObserver();
+        if (observer == CrudObserver.NOOP) {
+            return action.get();
+        }
+        var scope = observer.start(entityClass, operation, false);
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            scope.stop(CrudObserver.Outcome.of(e), e);
+            throw e;
+        }
+        if (rows != null) {
+            scope.rows(rows.applyAsInt(result));
+        }
+        scope.stop(CrudObserver.Outcome.SUCCESS, null);
+        return result;
+    }
+
+    private void releaseBatch(List<ENTITY> entities) {
+        internalFlush();
+        entities.forEach(this::internalDetach);
+    }
+
+    /**
+     * Runs {@code write} inside {@link #withTransaction(Supplier)} and passes its result to
+     * {@code complete}, either within the same transaction or, in short transaction mode, after
+     * flushing and leaving it.
+     */
+    private <W, R> R writeTransaction(Supplier<W> write, Function<W, R> complete) {
+        if (!isShortTransactionEnabled()) {
+            return withTransaction(() -> complete.apply(write.get()));
+        }
+        var written = withTransaction(() -> {
+            var value = write.get();
+            internalFlush();
+            return value;
+        });
+        return complete.apply(written);
+    }
+
+    private void completeCreateAll(List<INPUT> inputs, List<ENTITY> created, List<OUTPUT> outputs) {
+        events.onAfterCreateAll(inputs, created);
+        events.eachEntities(created);
+        created.forEach(entity -> outputs.add(mapOutput(entity)));
+    }
+
+    private void completeUpdateAll(List<INPUT> inputs, List<ENTITY> updated, List<OUTPUT> outputs) {
+        events.onAfterUpdateAll(inputs, updated);
+        events.eachEntities(updated);
+        updated.forEach(entity -> outputs.add(mapOutput(entity)));
+    }
+
+    private @Nullable String resolveQuery(@Nullable String query) {
         var newQuery = applyQueryPolicies(query);
+        return isQueryCanonicalizationEnabled() ? QueryCanonicalizer.canonicalize(newQuery) : newQuery;
+    }
+
+    private Page<ENTITY> resolvePage(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        var newQuery = resolveQuery(query);
         return internalPage(search, newQuery, pagination, sort);
     }
 
-    private long resolveCount(@Nullable String search, @Nullable String query) {
-        var newQuery = applyQueryPolicies(query);
-        return internalCount(search, newQuery);
+    private Slice<ENTITY> resolveSlice(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        var newQuery = resolveQuery(query);
+        return internalSlice(search, newQuery, pagination, sort);
+    }
+
+    private Page<OUTPUT> resolveProjectedPage(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        var newQuery = resolveQuery(query);
+        return internalProjectedPage(search, newQuery, pagination, sort);
+    }
+
+    private Slice<OUTPUT> resolveProjectedSlice(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        var newQuery = resolveQuery(query);
+        return internalProjectedSlice(search, newQuery, pagination, sort);
+    }
+
+    private CursorPage<ENTITY> resolvePageByCursor(@Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Cursor page size must be positive: " + size);
+        }
+        var newQuery = resolveQuery(query);
+        return internalPageByCursor(search, newQuery, cursor, size, sort);
+    }
+
+    private Stream<ENTITY> resolveStream(@Nullable String search, @Nullable String query, Sort sort) {
+        var newQuery = resolveQuery(query);
+        return internalStream(search, newQuery, sort);
+    }
+
+    private CountResult resolveCount(@Nullable String search, @Nullable String query, CountStrategy strategy) {
+        var newQuery = resolveQuery(query);
+        if (strategy instanceof CountStrategy.Exact) {
+            return CountResult.exact(countTotal(search, newQuery));
+        }
+        return internalCount(search, newQuery, strategy);
+    }
+
+    private CountStrategy resolveCountStrategy() {
+        var requested = CrudContext.hasContext()
+            ? CountStrategy.parse(CrudContext.current().options().getString(CrudOptions.COUNT))
+            : null;
+        return requested != null ? requested : getCountStrategy();
     }
 
+    /**
+     * Returns the function mapping each element of {@code content} to its output. Above the
+     * parallel mapping threshold the outputs are computed upfront and looked up by entity.
+     */
+    private Function<ENTITY, OUTPUT> contentMapper(List<ENTITY> content) {
+        if (content.size() < getParallelMappingThreshold() || !isParallelMappingSafe(content)) {
+            return this::mapOutput;
+        }
+        var outputs = ParallelMapping.map(content, this::mapOutput, getMappingExecutor());
+        return ParallelMapping.lookup(content, outputs, this::mapOutput);
+    }
 
+    private void invalidateCounts() {
+        var countCache = getCountCache();
+        if (countCache != null) {
+            // Evicted again once the transaction commits, dropping the stale counts loaded meanwhile
+            countCache.invalidate(entityClass);
+            TransactionSynchronizer.runAfterCommit(() -> countCache.invalidate(entityClass));
+        }
+    }
+
+    /**
+     * The inputs of a bulk write chunk together with the entities written for them.
+     */
+    private record WrittenChunk<I, E>(List<I> inputs, List<E> entities) {
+    }
 }
@@ -0,0 +1,90 @@
+package com.peluware.freddy.cruder;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+
+/**
+ * Builds and caches the default {@link EntityFactory} of each entity class.
+ */
+final class EntityFactories {
+
+    static final ClassValue<EntityFactory<?>> FACTORIES = new ClassValue<>() {
+        @Override
+        protected EntityFactory<?> computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(EntityFactory.class);
+    private static final MethodType NEW_INSTANCE_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class);
+
+    /**
+     * Whether the code runs in a GraalVM native image, where no class can be defined at runtime.
+     */
+    private static final boolean NATIVE_IMAGE = System.getProperty("org.graalvm.nativeimage.imagecode") != null;
+
+    private EntityFactories() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    private static EntityFactory<?> create(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return failing(type, new InstantiationException("Cannot instantiate abstract type"));
+        }
+
+        MethodHandle constructor;
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            constructor = lookup.findConstructor(type, CONSTRUCTOR_TYPE);
+        } catch (IllegalAccessException e) {
+            // The package is not open to this module: only a public constructor is reachable
+            try {
+                lookup = null;
+                constructor = MethodHandles.publicLookup().findConstructor(type, CONSTRUCTOR_TYPE);
+            } catch (ReflectiveOperationException fallback) {
+                fallback.addSuppressed(e);
+                return failing(type, fallback);
+            }
+        } catch (ReflectiveOperationException e) {
+            return failing(type, e);
+        }
+
+        if (!NATIVE_IMAGE && lookup != null && lookup.hasFullPrivilegeAccess()) {
+            try {
+                var site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "newInstance",
+                    FACTORY_TYPE,
+                    NEW_INSTANCE_TYPE,
+                    constructor,
+                    MethodType.methodType(type)
+                );
+                return (EntityFactory<?>) site.getTarget().invokeExact();
+            } catch (Throwable e) {
+                // Fall back to invoking the handle directly
+            }
+        }
+
+        var handle = constructor.asType(NEW_INSTANCE_TYPE);
+        return () -> {
+            try {
+                return handle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException("Failed to instantiate entity: " + type.getName(), e);
+            }
+        };
+    }
+
+    private static EntityFactory<?> failing(Class<?> type, Exception cause) {
+        return () -> {
+            throw new RuntimeException("Failed to instantiate entity: " + type.getName(), cause);
+        };
+    }
+}
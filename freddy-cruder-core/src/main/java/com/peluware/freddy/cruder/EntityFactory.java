@@ -0,0 +1,48 @@
+package com.peluware.freddy.cruder;
+
+/**
+ * Creates the entity instances that entity providers populate on {@code create}.
+ *
+ * <p>
+ * {@link #of(Class)} returns a factory bound once per entity class to its no-arg constructor
+ * through {@link java.lang.invoke.LambdaMetafactory}, so instantiation costs a plain
+ * constructor call instead of a reflective lookup. In a GraalVM native image, where no class can
+ * be defined at runtime, the factory invokes the constructor method handle instead. Stores may
+ * supply their own factory (e.g. pooled or pre-sized instances) by overriding
+ * {@code getEntityFactory()}.
+ * </p>
+ *
+ * @param <E> the entity type
+ * @see EntityCrudProvider#getEntityFactory()
+ * @see OwnedEntityCrudProvider#getEntityFactory()
+ */
+@FunctionalInterface
+public interface EntityFactory<E> {
+
+    /**
+     * Creates a new, empty entity instance.
+     *
+     * @return the new entity
+     * @throws RuntimeException if the entity cannot be instantiated
+     */
+    E newInstance();
+
+    /**
+     * Returns the cached factory that instantiates {@code entityClass} through its no-arg
+     * constructor, which may be non-public.
+     *
+     * <p>
+     * The constructor is resolved on the first call for each class. If the class has no
+     * accessible no-arg constructor, the returned factory throws on every
+     * {@link #newInstance()}.
+     * </p>
+     *
+     * @param entityClass the entity class
+     * @param <E>         the entity type
+     * @return the factory for {@code entityClass}
+     */
+    @SuppressWarnings("unchecked")
+    static <E> EntityFactory<E> of(Class<E> entityClass) {
+        return (EntityFactory<E>) EntityFactories.FACTORIES.get(entityClass);
+    }
+}
@@ -0,0 +1,33 @@
+package com.peluware.freddy.cruder;
+
+/**
+ * Maps input DTOs onto entities and entities onto output DTOs.
+ *
+ * <p>
+ * Providers annotated with {@link GenerateMapper} get an implementation generated at compile
+ * time, which their {@code mapInput} / {@code mapOutput} contracts can delegate to.
+ * </p>
+ *
+ * @param <ENTITY> the entity type
+ * @param <INPUT>  the input DTO type
+ * @param <OUTPUT> the output DTO type
+ */
+public interface EntityMapper<ENTITY, INPUT, OUTPUT> {
+
+    /**
+     * Copies the input properties onto the entity.
+     *
+     * @param input  the input DTO
+     * @param entity the entity to populate
+     * @param isNew  whether the entity is being created
+     */
+    void mapInput(INPUT input, ENTITY entity, boolean isNew);
+
+    /**
+     * Creates the output DTO of the entity.
+     *
+     * @param entity the entity
+     * @return the output DTO
+     */
+    OUTPUT mapOutput(ENTITY entity);
+}
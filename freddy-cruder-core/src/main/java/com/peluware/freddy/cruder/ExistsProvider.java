@@ -2,6 +2,10 @@ package com.peluware.freddy.cruder;
 
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Provides existence checks for a resource by its identifier.
  *
@@ -17,4 +21,26 @@ public interface ExistsProvider<ID> {
      * @return {@code true} if the resource exists, otherwise {@code false}
      */
     boolean exists(@NotNull ID id);
+
+    /**
+     * Checks which of the given identifiers match an existing resource.
+     *
+     * <p>
+     * The default implementation calls {@link #exists(Object)} once per distinct identifier.
+     * Implementations backed by a store should override it to check the whole batch
+     * with a few queries.
+     * </p>
+     *
+     * @param ids unique identifiers of the resources
+     * @return whether each distinct identifier exists, in request order
+     */
+    default Map<ID, Boolean> existsAll(@NotNull Collection<@NotNull ID> ids) {
+        var result = new LinkedHashMap<ID, Boolean>();
+        for (var id : ids) {
+            if (!result.containsKey(id)) {
+                result.put(id, exists(id));
+            }
+        }
+        return result;
+    }
 }
@@ -0,0 +1,71 @@
+package com.peluware.freddy.cruder;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of looking up several resources by identifier.
+ *
+ * <p>
+ * Both {@link #found()} and {@link #missing()} follow the order in which the identifiers were
+ * requested; identifiers requested more than once appear once, at their first position.
+ * </p>
+ *
+ * @param found   the resources found, keyed by identifier
+ * @param missing the identifiers for which no resource exists
+ * @param <ID>     the identifier type of the resources
+ * @param <OUTPUT> the output DTO or projection type
+ * @see FindProvider#findAll(Collection)
+ */
+public record FindAllResult<ID, OUTPUT>(Map<ID, OUTPUT> found, List<ID> missing) {
+
+    public FindAllResult {
+        found = Collections.unmodifiableMap(new LinkedHashMap<>(found));
+        missing = List.copyOf(missing);
+    }
+
+    /**
+     * Builds a result from the requested identifiers and the resources loaded for them.
+     *
+     * @param ids    the requested identifiers, in request order
+     * @param loaded the loaded resources keyed by identifier, in any order
+     * @param <ID>     the identifier type of the resources
+     * @param <OUTPUT> the output DTO or projection type
+     * @return the result, ordered as {@code ids}
+     */
+    public static <ID, OUTPUT> FindAllResult<ID, OUTPUT> of(Collection<? extends ID> ids, Map<ID, ? extends OUTPUT> loaded) {
+        var found = new LinkedHashMap<ID, OUTPUT>();
+        var missing = new LinkedHashSet<ID>();
+        for (var id : ids) {
+            var output = loaded.get(id);
+            if (output != null) {
+                found.putIfAbsent(id, output);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new FindAllResult<>(found, List.copyOf(missing));
+    }
+
+    /**
+     * Returns the resources found, in request order.
+     *
+     * @return the found resources
+     */
+    public List<OUTPUT> content() {
+        return List.copyOf(found.values());
+    }
+
+    /**
+     * Indicates whether every requested resource was found.
+     *
+     * @return {@code true} if no identifier is missing
+     */
+    public boolean isComplete() {
+        return missing.isEmpty();
+    }
+}
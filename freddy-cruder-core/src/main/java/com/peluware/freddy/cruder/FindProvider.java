@@ -2,6 +2,10 @@ package com.peluware.freddy.cruder;
 
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+
 /**
  * Provides retrieval of a single resource by its identifier.
  *
@@ -19,4 +23,28 @@ public interface FindProvider<ID, OUTPUT> {
      * @throws NotFoundException if no resource exists with the given identifier
      */
     OUTPUT find(@NotNull ID id) throws NotFoundException;
+
+    /**
+     * Finds several resources by their identifiers.
+     *
+     * <p>
+     * The default implementation calls {@link #find(Object)} once per distinct identifier.
+     * Implementations backed by a store should override it to load the whole batch
+     * with a few queries.
+     * </p>
+     *
+     * @param ids unique identifiers of the resources
+     * @return the resources found and the identifiers missing, in request order
+     */
+    default FindAllResult<ID, OUTPUT> findAll(@NotNull Collection<@NotNull ID> ids) {
+        var found = new LinkedHashMap<ID, OUTPUT>();
+        for (var id : new LinkedHashSet<>(ids)) {
+            try {
+                found.put(id, find(id));
+            } catch (NotFoundException e) {
+                // Reported as missing
+            }
+        }
+        return FindAllResult.of(ids, found);
+    }
 }
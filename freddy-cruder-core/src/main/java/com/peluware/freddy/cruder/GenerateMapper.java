@@ -0,0 +1,52 @@
+package com.peluware.freddy.cruder;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates an {@link EntityMapper} for an {@link EntityCrudProvider} or
+ * {@link OwnedEntityCrudProvider} subclass at compile time.
+ *
+ * <p>
+ * The {@code freddy-cruder-processor} annotation processor reads the {@code ENTITY},
+ * {@code INPUT} and {@code OUTPUT} type arguments of the annotated provider and writes
+ * {@code <Provider>Mapper} in the same package, with a {@code INSTANCE} singleton. The mapper
+ * copies properties by name through plain accessor calls, without reflection:
+ * </p>
+ *
+ * <ul>
+ *   <li>{@code mapInput} calls the entity setter of every readable input property (getter or
+ *   record component) whose type is assignable</li>
+ *   <li>{@code mapOutput} calls the canonical constructor of a record output with the entity
+ *   properties named after its components, or the setters of a bean output</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * @GenerateMapper(ignore = "id")
+ * class ProductCrud extends JpaCrudProvider<Product, Long, ProductInput, ProductOutput> {
+ *
+ *     protected void mapInput(ProductInput input, Product entity, boolean isNew) {
+ *         ProductCrudMapper.INSTANCE.mapInput(input, entity, isNew);
+ *     }
+ *
+ *     protected ProductOutput mapOutput(Product entity) {
+ *         return ProductCrudMapper.INSTANCE.mapOutput(entity);
+ *     }
+ * }
+ * }</pre>
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface GenerateMapper {
+
+    /**
+     * Input properties that {@code mapInput} does not copy onto the entity.
+     *
+     * @return the ignored property names
+     */
+    String[] ignore() default {};
+}
@@ -0,0 +1,13 @@
+package com.peluware.freddy.cruder;
+
+/**
+ * Holder of the observer returned by {@link CrudObserver#getGlobal()}.
+ */
+final class GlobalCrudObserver {
+
+    static volatile CrudObserver observer = CrudObserver.NOOP;
+
+    private GlobalCrudObserver() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
@@ -0,0 +1,22 @@
+package com.peluware.freddy.cruder;
+
+
+/**
+ * Thrown when a cursor passed to {@link PageProvider#pageByCursor} or
+ * {@link OwnedPageProvider#pageByCursor} cannot be used: it is malformed, was tampered with,
+ * was issued for another sort, or orders by a key type that cursors cannot carry.
+ *
+ * <p>
+ * It reports a client error; web layers answer it with a bad request.
+ * </p>
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
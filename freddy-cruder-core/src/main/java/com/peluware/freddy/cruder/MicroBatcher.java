@@ -0,0 +1,205 @@
+package com.peluware.freddy.cruder;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Groups concurrent single-key loads into batches.
+ *
+ * <p>
+ * The first caller to arrive while no batch is open becomes the leader of a new batch. It waits
+ * until the batch is full or its window elapses, then loads every collected key with one call to
+ * the loader on its own thread and completes the other callers, which block until then. Equal
+ * keys within a batch share a single slot. Callers are only grouped with callers of the same
+ * partition, as the loader runs on the leader's thread with its identity; each partition has at
+ * most one open batch at a time.
+ * </p>
+ *
+ * <p>
+ * Both limits adapt to the observed load. The window is the time expected to fill the batch at
+ * the current arrival rate, capped by the maximum window, and drops to zero when no other caller
+ * is expected within the maximum window, so isolated calls are not delayed. The batch size limit
+ * doubles after a batch fills up, up to the maximum, and halves after a batch closes below a
+ * quarter of it, down to {@value #MIN_BATCH_SIZE}.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the loaded value type
+ * @see BatchingCrudProvider
+ * @see BatchingOwnedCrudProvider
+ */
+final class MicroBatcher<K, V> {
+
+    static final int MIN_BATCH_SIZE = 8;
+
+    /**
+     * Weight of the latest gap in the moving average of the gaps between arrivals.
+     */
+    private static final double GAP_WEIGHT = 0.2;
+
+    private final Function<List<K>, Map<K, V>> loader;
+    private final long maxWindowNanos;
+    private final int maxBatchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<@Nullable Object, Batch<K, V>> open = new HashMap<>();
+    private int batchSize;
+    private long lastArrival;
+    private double averageGap;
+
+    /**
+     * @param loader       loads a batch of distinct keys, omitting the keys without value
+     * @param maxWindow    the longest time a leader waits for other callers
+     * @param maxBatchSize the largest number of distinct keys per batch
+     */
+    MicroBatcher(Function<List<K>, Map<K, V>> loader, Duration maxWindow, int maxBatchSize) {
+        if (maxWindow.isNegative()) {
+            throw new IllegalArgumentException("Batch window must not be negative: " + maxWindow);
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + maxBatchSize);
+        }
+        this.loader = loader;
+        this.maxWindowNanos = maxWindow.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = Math.min(MIN_BATCH_SIZE, maxBatchSize);
+        this.averageGap = maxWindowNanos;
+    }
+
+    /**
+     * Loads the value of a key as part of a batch.
+     *
+     * @param partition the partition of the caller, only callers with equal partitions share a batch
+     * @param key       the key to load
+     * @return the loaded value, or {@code null} if the loader returned none for the key
+     */
+    @Nullable V load(@Nullable Object partition, K key) {
+        Batch<K, V> batch;
+        CompletableFuture<@Nullable V> result;
+        boolean leader;
+        lock.lock();
+        try {
+            recordArrival(System.nanoTime());
+            batch = open.get(partition);
+            leader = batch == null;
+            if (leader) {
+                batch = new Batch<>(partition, batchSize, lock.newCondition());
+                result = batch.add(key);
+                var window = window();
+                if (window > 0 && !batch.isFull()) {
+                    open.put(partition, batch);
+                    awaitBatch(batch, window);
+                }
+                adapt(batch);
+            } else {
+                result = batch.add(key);
+                if (batch.isFull()) {
+                    open.remove(partition);
+                    batch.ready.signal();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (leader) {
+            run(batch);
+        }
+        return await(result);
+    }
+
+    private void awaitBatch(Batch<K, V> batch, long window) {
+        var deadline = System.nanoTime() + window;
+        try {
+            long remaining;
+            while (open.get(batch.partition) == batch && (remaining = deadline - System.nanoTime()) > 0) {
+                batch.ready.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        open.remove(batch.partition, batch);
+    }
+
+    private void run(Batch<K, V> batch) {
+        try {
+            var values = loader.apply(new ArrayList<>(batch.calls.keySet()));
+            batch.calls.forEach((key, call) -> call.complete(values.get(key)));
+        } catch (RuntimeException | Error e) {
+            batch.calls.values().forEach(call -> call.completeExceptionally(e));
+        }
+    }
+
+    private void recordArrival(long now) {
+        if (lastArrival != 0) {
+            var gap = Math.min(now - lastArrival, maxWindowNanos);
+            averageGap += (gap - averageGap) * GAP_WEIGHT;
+        }
+        lastArrival = now;
+    }
+
+    /**
+     * Returns the time expected to fill a batch at the current arrival rate, or zero when no other
+     * caller is expected within the maximum window.
+     */
+    private long window() {
+        if (averageGap >= maxWindowNanos * (1 - GAP_WEIGHT)) {
+            return 0;
+        }
+        return (long) Math.min(maxWindowNanos, averageGap * (batchSize - 1));
+    }
+
+    private void adapt(Batch<K, V> batch) {
+        if (batch.isFull()) {
+            batchSize = Math.min(batchSize * 2, maxBatchSize);
+        } else if (batch.calls.size() < batchSize / 4) {
+            batchSize = Math.max(batchSize / 2, Math.min(MIN_BATCH_SIZE, maxBatchSize));
+        }
+    }
+
+    private static <V> @Nullable V await(CompletableFuture<@Nullable V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Batch<K, V> {
+
+        private final Map<K, CompletableFuture<@Nullable V>> calls = new LinkedHashMap<>();
+        private final @Nullable Object partition;
+        private final int limit;
+        private final Condition ready;
+
+        private Batch(@Nullable Object partition, int limit, Condition ready) {
+            this.partition = partition;
+            this.limit = limit;
+            this.ready = ready;
+        }
+
+        private CompletableFuture<@Nullable V> add(K key) {
+            return calls.computeIfAbsent(key, _ -> new CompletableFuture<>());
+        }
+
+        private boolean isFull() {
+            return calls.size() >= limit;
+        }
+    }
+}
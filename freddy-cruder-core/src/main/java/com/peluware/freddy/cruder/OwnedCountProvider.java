@@ -21,4 +21,23 @@ public interface OwnedCountProvider<OWNER_ID> {
      * @throws NotFoundException if the owner does not exist
      */
     long count(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query) throws NotFoundException;
+
+    /**
+     * Counts resources belonging to the given owner matching optional filters, reporting
+     * whether the result is exact.
+     *
+     * <p>
+     * See {@link CountProvider#countResult(String, String)}. The default implementation returns
+     * {@link #count(Object, String, String)} as an exact result.
+     * </p>
+     *
+     * @param ownerId unique identifier of the owning resource
+     * @param search  optional text-based search (may be {@code null})
+     * @param query   optional additional query expression (may be {@code null})
+     * @return the number of resources matching the criteria and its accuracy
+     * @throws NotFoundException if the owner does not exist
+     */
+    default CountResult countResult(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query) throws NotFoundException {
+        return CountResult.exact(count(ownerId, search, query));
+    }
 }
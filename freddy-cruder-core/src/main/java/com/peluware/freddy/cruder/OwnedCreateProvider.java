@@ -3,6 +3,9 @@ package com.peluware.freddy.cruder;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Provides creation of a new resource under a given owner.
  *
@@ -22,4 +25,26 @@ public interface OwnedCreateProvider<OWNER_ID, INPUT, OUTPUT> {
      * @throws NotFoundException if the owner does not exist
      */
     OUTPUT create(@NotNull OWNER_ID ownerId, @NotNull @Valid INPUT input) throws NotFoundException;
+
+    /**
+     * Creates a batch of resources under the given owner.
+     *
+     * <p>
+     * The default implementation calls {@link #create(Object, Object)} once per input.
+     * Implementations backed by a store should override it to run the whole batch
+     * in a single unit of work.
+     * </p>
+     *
+     * @param ownerId unique identifier of the owning resource
+     * @param inputs  input DTOs containing creation data
+     * @return the newly created resources mapped to their output representation, in input order
+     * @throws NotFoundException if the owner does not exist
+     */
+    default List<OUTPUT> createAll(@NotNull OWNER_ID ownerId, @NotNull List<@NotNull @Valid INPUT> inputs) throws NotFoundException {
+        var outputs = new ArrayList<OUTPUT>(inputs.size());
+        for (var input : inputs) {
+            outputs.add(create(ownerId, input));
+        }
+        return outputs;
+    }
 }
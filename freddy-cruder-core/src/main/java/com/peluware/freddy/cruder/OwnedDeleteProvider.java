@@ -2,6 +2,8 @@ package com.peluware.freddy.cruder;
 
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Collection;
+
 /**
  * Provides deletion of a resource within the scope of a given owner.
  *
@@ -20,4 +22,24 @@ public interface OwnedDeleteProvider<OWNER_ID, ID> {
      *                           or if the resource does not belong to the owner
      */
     void delete(@NotNull OWNER_ID ownerId, @NotNull ID id) throws NotFoundException;
+
+    /**
+     * Deletes a batch of resources within the scope of the given owner.
+     *
+     * <p>
+     * The default implementation calls {@link #delete(Object, Object)} once per identifier.
+     * Implementations backed by a store should override it to run the whole batch
+     * in a single unit of work.
+     * </p>
+     *
+     * @param ownerId unique identifier of the owning resource
+     * @param ids     unique identifiers of the resources to delete
+     * @throws NotFoundException if the owner or any of the resources does not exist,
+     *                           or if a resource does not belong to the owner
+     */
+    default void deleteAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) throws NotFoundException {
+        for (var id : ids) {
+            delete(ownerId, id);
+        }
+    }
 }
@@ -2,6 +2,12 @@ package com.peluware.freddy.cruder;
 
 import jakarta.validation.constraints.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Provides existence checks for a resource scoped to a given owner.
  *
@@ -21,4 +27,55 @@ public interface OwnedExistsProvider<OWNER_ID, ID> {
      *         otherwise {@code false}
      */
     boolean exists(@NotNull OWNER_ID ownerId, @NotNull ID id);
+
+    /**
+     * Checks which of the given identifiers match an existing resource within the scope
+     * of the given owner.
+     *
+     * <p>
+     * The default implementation calls {@link #exists(Object, Object)} once per distinct identifier.
+     * Implementations backed by a store should override it to check the whole batch
+     * with a few queries.
+     * </p>
+     *
+     * @param ownerId unique identifier of the owning resource
+     * @param ids     unique identifiers of the resources
+     * @return whether each distinct identifier exists and belongs to the owner, in request order
+     */
+    default Map<ID, Boolean> existsAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) {
+        var result = new LinkedHashMap<ID, Boolean>();
+        for (var id : ids) {
+            if (!result.containsKey(id)) {
+                result.put(id, exists(ownerId, id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks which of the given composite identifiers match an existing resource.
+     *
+     * <p>
+     * The default implementation groups the identifiers by owner and calls
+     * {@link #existsAll(Object, Collection)} once per owner.
+     * </p>
+     *
+     * @param ids composite identifiers of the resources
+     * @return whether each distinct identifier exists, in request order
+     */
+    default Map<OwnedId<OWNER_ID, ID>, Boolean> existsAll(@NotNull Collection<@NotNull OwnedId<OWNER_ID, ID>> ids) {
+        var byOwner = new LinkedHashMap<OWNER_ID, List<ID>>();
+        for (var ownedId : ids) {
+            byOwner.computeIfAbsent(ownedId.ownerId(), _ -> new ArrayList<>()).add(ownedId.id());
+        }
+        var existing = new LinkedHashMap<OwnedId<OWNER_ID, ID>, Boolean>();
+        byOwner.forEach((ownerId, ownedIds) ->
+            existsAll(ownerId, ownedIds).forEach((id, exists) -> existing.put(new OwnedId<>(ownerId, id), exists))
+        );
+        var result = new LinkedHashMap<OwnedId<OWNER_ID, ID>, Boolean>();
+        for (var ownedId : ids) {
+            result.putIfAbsent(ownedId, existing.getOrDefault(ownedId, false));
+        }
+        return result;
+    }
 }
@@ -2,6 +2,13 @@ package com.peluware.freddy.cruder;
 
 import jakarta.validation.constraints.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
 /**
  * Provides retrieval of a single resource by owner and identifier.
  *
@@ -22,4 +29,53 @@ public interface OwnedFindProvider<OWNER_ID, ID, OUTPUT> {
      *                           or if the resource does not belong to the owner
      */
     OUTPUT find(@NotNull OWNER_ID ownerId, @NotNull ID id) throws NotFoundException;
+
+    /**
+     * Finds several resources by their identifiers within the scope of the given owner.
+     *
+     * <p>
+     * The default implementation calls {@link #find(Object, Object)} once per distinct identifier.
+     * Implementations backed by a store should override it to load the whole batch
+     * with a few queries.
+     * </p>
+     *
+     * @param ownerId unique identifier of the owning resource
+     * @param ids     unique identifiers of the resources
+     * @return the resources found and the identifiers missing or not belonging to the owner,
+     *         in request order
+     */
+    default FindAllResult<ID, OUTPUT> findAll(@NotNull OWNER_ID ownerId, @NotNull Collection<@NotNull ID> ids) {
+        var found = new LinkedHashMap<ID, OUTPUT>();
+        for (var id : new LinkedHashSet<>(ids)) {
+            try {
+                found.put(id, find(ownerId, id));
+            } catch (NotFoundException e) {
+                // Reported as missing
+            }
+        }
+        return FindAllResult.of(ids, found);
+    }
+
+    /**
+     * Finds several resources spread over several owners.
+     *
+     * <p>
+     * The default implementation groups the identifiers by owner and calls
+     * {@link #findAll(Object, Collection)} once per owner.
+     * </p>
+     *
+     * @param ids composite identifiers of the resources
+     * @return the resources found and the identifiers missing, in request order
+     */
+    default FindAllResult<OwnedId<OWNER_ID, ID>, OUTPUT> findAll(@NotNull Collection<@NotNull OwnedId<OWNER_ID, ID>> ids) {
+        var byOwner = new LinkedHashMap<OWNER_ID, List<ID>>();
+        for (var ownedId : ids) {
+            byOwner.computeIfAbsent(ownedId.ownerId(), _ -> new ArrayList<>()).add(ownedId.id());
+        }
+        var found = new HashMap<OwnedId<OWNER_ID, ID>, OUTPUT>();
+        byOwner.forEach((ownerId, ownedIds) ->
+            findAll(ownerId, ownedIds).found().forEach((id, output) -> found.put(new OwnedId<>(ownerId, id), output))
+        );
+        return FindAllResult.of(ids, found);
+    }
 }
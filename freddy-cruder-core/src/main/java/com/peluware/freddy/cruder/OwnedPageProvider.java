@@ -26,4 +26,47 @@ public interface OwnedPageProvider<OWNER_ID, OUTPUT> {
      * @return a {@link Page} containing the paginated result set
      */
     Page<OUTPUT> page(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort);
+
+    /**
+     * Retrieves a page of resources belonging to the given owner without computing the total count.
+     *
+     * <p>
+     * See {@link PageProvider#slice(String, String, Pagination, Sort)}. The default implementation
+     * derives the slice from {@link #page(Object, String, String, Pagination, Sort)}.
+     * </p>
+     *
+     * @param ownerId    unique identifier of the owning resource
+     * @param search     optional text-based search (may be {@code null})
+     * @param query      additional filtering expression, may be {@code null}
+     * @param pagination pagination settings
+     * @param sort       sorting configuration
+     * @return a {@link Slice} containing the requested page and whether another one follows
+     * @throws NotFoundException if the owner does not exist
+     */
+    default Slice<OUTPUT> slice(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) throws NotFoundException {
+        return Slice.of(page(ownerId, search, query, pagination, sort));
+    }
+
+    /**
+     * Retrieves a window of resources belonging to the given owner using keyset (cursor) pagination.
+     *
+     * <p>
+     * See {@link PageProvider#pageByCursor(String, String, String, int, Sort)} for the
+     * semantics of cursors. The default implementation throws {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param ownerId unique identifier of the owning resource
+     * @param search  optional text-based search (may be {@code null})
+     * @param query   additional filtering expression, may be {@code null}
+     * @param cursor  the {@link CursorPage#nextCursor()} of the previous window, or {@code null} for the first one
+     * @param size    maximum number of resources in the window
+     * @param sort    sorting configuration; must be the same for every window of a traversal
+     * @return a {@link CursorPage} holding the window and the cursor of the next one
+     * @throws NotFoundException             if the owner does not exist
+     * @throws InvalidCursorException        if the cursor is malformed or was issued for another sort
+     * @throws UnsupportedOperationException if the provider does not support cursor pagination
+     */
+    default CursorPage<OUTPUT> pageByCursor(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) throws NotFoundException {
+        throw new UnsupportedOperationException("Cursor pagination is not supported by " + getClass().getName());
+    }
 }
@@ -1,20 +1,43 @@
 package com.peluware.freddy.cruder;
 
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.stream.Stream;
+
 /**
  * Composes all read operations for a sub-resource scoped to an owner:
- * pagination, lookup, count, and existence check.
+ * pagination, streaming, lookup, count, and existence check.
  *
  * @param <OWNER_ID> the identifier type of the owning resource
  * @param <ID>       the unique identifier type of the sub-resource
  * @param <OUTPUT>   the output DTO type returned to the consumer
  * @see OwnedPageProvider
+ * @see OwnedStreamProvider
  * @see OwnedFindProvider
  * @see OwnedCountProvider
  * @see OwnedExistsProvider
  */
 public interface OwnedReadProvider<OWNER_ID, ID, OUTPUT> extends
         OwnedPageProvider<OWNER_ID, OUTPUT>,
+        OwnedStreamProvider<OWNER_ID, OUTPUT>,
         OwnedFindProvider<OWNER_ID, ID, OUTPUT>,
         OwnedCountProvider<OWNER_ID>,
         OwnedExistsProvider<OWNER_ID, ID> {
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The default implementation streams the content of an unpaginated {@link #page} call,
+     * so the whole result set is still loaded at once. Implementations able to read
+     * incrementally from their store should override it.
+     * </p>
+     */
+    @Override
+    default Stream<OUTPUT> stream(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Sort sort) throws NotFoundException {
+        return page(ownerId, search, query, Pagination.unpaginated(), sort).getContent().stream();
+    }
 }
@@ -0,0 +1,34 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Sort;
+import jakarta.validation.constraints.NotNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.stream.Stream;
+
+/**
+ * Provides lazy, unpaginated listing of resources scoped to a given owner.
+ *
+ * <p>
+ * The returned stream may hold store resources (e.g. an open cursor) and must be closed
+ * after use, typically with try-with-resources.
+ * </p>
+ *
+ * @param <OWNER_ID> the identifier type of the owning resource
+ * @param <OUTPUT>   the output DTO or projection type returned to the consumer
+ */
+@FunctionalInterface
+public interface OwnedStreamProvider<OWNER_ID, OUTPUT> {
+
+    /**
+     * Streams all resources belonging to the given owner matching optional filters.
+     *
+     * @param ownerId unique identifier of the owning resource
+     * @param search  optional text-based search (may be {@code null})
+     * @param query   additional filtering expression, may be {@code null}
+     * @param sort    sorting configuration
+     * @return a lazily populated {@link Stream} of resources, to be closed by the caller
+     * @throws NotFoundException if the owner does not exist
+     */
+    Stream<OUTPUT> stream(@NotNull OWNER_ID ownerId, @Nullable String search, @Nullable String query, Sort sort) throws NotFoundException;
+}
@@ -3,6 +3,10 @@ package com.peluware.freddy.cruder;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Provides update of an existing resource within the scope of a given owner.
  *
@@ -25,4 +29,27 @@ public interface OwnedUpdateProvider<OWNER_ID, ID, INPUT, OUTPUT> {
      *                           or if the resource does not belong to the owner
      */
     OUTPUT update(@NotNull OWNER_ID ownerId, @NotNull ID id, @NotNull @Valid INPUT input) throws NotFoundException;
+
+    /**
+     * Updates a batch of existing resources within the scope of the given owner.
+     *
+     * <p>
+     * The default implementation calls {@link #update(Object, Object, Object)} once per entry.
+     * Implementations backed by a store should override it to run the whole batch
+     * in a single unit of work.
+     * </p>
+     *
+     * @param ownerId unique identifier of the owning resource
+     * @param inputs  input DTOs keyed by the identifier of the resource to update
+     * @return the updated resources mapped to their output representation, in the iteration order of {@code inputs}
+     * @throws NotFoundException if the owner or any of the resources does not exist,
+     *                           or if a resource does not belong to the owner
+     */
+    default List<OUTPUT> updateAll(@NotNull OWNER_ID ownerId, @NotNull Map<@NotNull ID, @NotNull @Valid INPUT> inputs) throws NotFoundException {
+        var outputs = new ArrayList<OUTPUT>(inputs.size());
+        for (var entry : inputs.entrySet()) {
+            outputs.add(update(ownerId, entry.getKey(), entry.getValue()));
+        }
+        return outputs;
+    }
 }
@@ -24,4 +24,52 @@ public interface PageProvider<OUTPUT> {
      * @return a {@link Page} containing the paginated result set
      */
     Page<OUTPUT> page(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort);
+
+    /**
+     * Retrieves a page of resources without computing the total count.
+     *
+     * <p>
+     * Intended for clients that only need to know whether another page follows (e.g. infinite
+     * scrolling). The default implementation derives the slice from
+     * {@link #page(String, String, Pagination, Sort)}, which may still count; providers backed
+     * by a store should override it to fetch one extra row instead.
+     * </p>
+     *
+     * @param search     optional text-based search (may be {@code null})
+     * @param query      additional filtering expression, may be {@code null}
+     * @param pagination pagination settings
+     * @param sort       sorting configuration
+     * @return a {@link Slice} containing the requested page and whether another one follows
+     */
+    default Slice<OUTPUT> slice(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return Slice.of(page(search, query, pagination, sort));
+    }
+
+    /**
+     * Retrieves a window of resources using keyset (cursor) pagination.
+     *
+     * <p>
+     * Instead of skipping {@code page * size} rows, the next window is located from the sort
+     * key values of the last element returned, so the cost of each request does not depend
+     * on how deep the client has paged. The identifier is always appended as a tie-breaker,
+     * which makes the ordering total. Null sort key values are ordered after every other value
+     * in ascending order, and before them in descending order.
+     * </p>
+     *
+     * <p>
+     * The default implementation throws {@link UnsupportedOperationException}.
+     * </p>
+     *
+     * @param search optional text-based search (may be {@code null})
+     * @param query  additional filtering expression, may be {@code null}
+     * @param cursor the {@link CursorPage#nextCursor()} of the previous window, or {@code null} for the first one
+     * @param size   maximum number of resources in the window
+     * @param sort   sorting configuration; must be the same for every window of a traversal
+     * @return a {@link CursorPage} holding the window and the cursor of the next one
+     * @throws InvalidCursorException        if the cursor is malformed or was issued for another sort
+     * @throws UnsupportedOperationException if the provider does not support cursor pagination
+     */
+    default CursorPage<OUTPUT> pageByCursor(@Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) {
+        throw new UnsupportedOperationException("Cursor pagination is not supported by " + getClass().getName());
+    }
 }
@@ -0,0 +1,80 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.freddy.cruder.utils.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Order-preserving parallel mapping used by entity providers for large pages.
+ */
+final class ParallelMapping {
+
+    private ParallelMapping() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Maps {@code source} in one chunk per available processor. The first chunk runs on the
+     * calling thread, the others on {@code executor} with the caller's {@link CrudContext}
+     * re-bound. Results keep the source order.
+     */
+    static <T, R> List<R> map(List<T> source, Function<? super T, ? extends R> mapper, Executor executor) {
+        var parallelism = Math.clamp(Runtime.getRuntime().availableProcessors(), 1, Math.max(1, source.size()));
+        var chunks = CollectionUtils.partition(source, Math.ceilDiv(source.size(), parallelism));
+        if (chunks.size() <= 1) {
+            return mapChunk(source, mapper);
+        }
+
+        var futures = new ArrayList<CompletableFuture<List<R>>>(chunks.size() - 1);
+        for (var chunk : chunks.subList(1, chunks.size())) {
+            futures.add(CompletableFuture.supplyAsync(CrudContext.propagateCall(() -> mapChunk(chunk, mapper)), executor));
+        }
+
+        var result = new ArrayList<R>(source.size());
+        result.addAll(mapChunk(chunks.getFirst(), mapper));
+        for (var future : futures) {
+            result.addAll(join(future));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a function answering the precomputed {@code results} of the {@code source}
+     * elements by identity, and delegating other elements to {@code mapper}.
+     */
+    static <T, R> Function<T, R> lookup(List<T> source, List<R> results, Function<? super T, ? extends R> mapper) {
+        var index = new IdentityHashMap<T, R>(source.size());
+        for (int i = 0; i < source.size(); i++) {
+            index.put(source.get(i), results.get(i));
+        }
+        return element -> index.containsKey(element) ? index.get(element) : mapper.apply(element);
+    }
+
+    private static <T, R> List<R> mapChunk(List<T> chunk, Function<? super T, ? extends R> mapper) {
+        var mapped = new ArrayList<R>(chunk.size());
+        for (var element : chunk) {
+            mapped.add(mapper.apply(element));
+        }
+        return mapped;
+    }
+
+    private static <R> List<R> join(CompletableFuture<List<R>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,18 +1,40 @@
 package com.peluware.freddy.cruder;
 
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import org.jspecify.annotations.Nullable;
+
+import java.util.stream.Stream;
+
 /**
- * Composes all read operations for a resource: pagination, lookup, count, and existence check.
+ * Composes all read operations for a resource: pagination, streaming, lookup, count, and existence check.
  *
  * @param <ID>     the unique identifier type of the resource
  * @param <OUTPUT> the output DTO type returned to the consumer
  * @see PageProvider
+ * @see StreamProvider
  * @see FindProvider
  * @see CountProvider
  * @see ExistsProvider
  */
 public interface ReadProvider<ID, OUTPUT> extends
         PageProvider<OUTPUT>,
+        StreamProvider<OUTPUT>,
         FindProvider<ID, OUTPUT>,
         CountProvider,
         ExistsProvider<ID> {
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The default implementation streams the content of an unpaginated {@link #page} call,
+     * so the whole result set is still loaded at once. Implementations able to read
+     * incrementally from their store should override it.
+     * </p>
+     */
+    @Override
+    default Stream<OUTPUT> stream(@Nullable String search, @Nullable String query, Sort sort) {
+        return page(search, query, Pagination.unpaginated(), sort).getContent().stream();
+    }
 }
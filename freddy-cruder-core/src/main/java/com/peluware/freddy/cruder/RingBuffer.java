@@ -0,0 +1,102 @@
+package com.peluware.freddy.cruder;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free multi-producer, single-consumer queue.
+ *
+ * <p>
+ * Each slot carries a sequence number telling producers and the consumer whose turn it is:
+ * a producer claims position {@code p} with a CAS on the tail once the slot sequence equals
+ * {@code p}, writes the element and publishes it by setting the sequence to {@code p + 1};
+ * the consumer takes it when the sequence equals {@code p + 1} and hands the slot back by
+ * setting it to {@code p + capacity}. Producers never wait for each other beyond a failed CAS.
+ * </p>
+ *
+ * @param <T> the element type
+ */
+final class RingBuffer<T> {
+
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final @Nullable Object[] slots;
+    private final long[] sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    /**
+     * @param capacity the minimum capacity, rounded up to a power of two
+     */
+    RingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        var size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.slots = new Object[size];
+        this.sequences = new long[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    /**
+     * Appends an element. Safe to call from any thread.
+     *
+     * @param element the element to append
+     * @return {@code false} if the buffer is full
+     */
+    boolean offer(T element) {
+        var position = tail.get();
+        while (true) {
+            var index = (int) position & mask;
+            var sequence = (long) SEQUENCE.getAcquire(sequences, index);
+            var difference = sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = element;
+                    SEQUENCE.setRelease(sequences, index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element. Must only be called from the consumer thread.
+     *
+     * @return the oldest element, or {@code null} if the buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable T poll() {
+        var index = (int) head & mask;
+        if ((long) SEQUENCE.getAcquire(sequences, index) != head + 1) {
+            return null;
+        }
+        var element = (T) slots[index];
+        slots[index] = null;
+        SEQUENCE.setRelease(sequences, index, head + slots.length);
+        head++;
+        return element;
+    }
+
+    /**
+     * Indicates whether the buffer holds no published element. Must only be called from the
+     * consumer thread.
+     *
+     * @return {@code true} if {@link #poll()} would return {@code null}
+     */
+    boolean isEmpty() {
+        return (long) SEQUENCE.getAcquire(sequences, (int) head & mask) != head + 1;
+    }
+}
@@ -0,0 +1,106 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent executions of the same call into one.
+ *
+ * <p>
+ * The first caller for a key becomes the leader and runs the action on its own thread; callers
+ * arriving with an equal key while it is in flight wait for it and receive the same result, or
+ * the same exception. Keys include a discriminator of the caller, so that callers told apart
+ * by the decorator never share outputs. The key is released as soon as the leader completes, so results are never
+ * reused by later calls.
+ * </p>
+ *
+ * @see CoalescingCrudProvider
+ * @see CoalescingOwnedCrudProvider
+ */
+final class SingleFlight {
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <T> T execute(Object key, Supplier<T> action) {
+        var call = new CompletableFuture<Object>();
+        var inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            return (T) await(inFlight);
+        }
+        try {
+            var result = action.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+
+    /**
+     * Builds the key of a call from the caller discriminator, the operation, its arguments and
+     * the {@link CrudOptions} bound to the calling scope.
+     */
+    static Object key(@Nullable Object caller, String operation, @Nullable Object... arguments) {
+        return new Call(caller, operation, Arrays.asList(arguments), options());
+    }
+
+    /**
+     * Returns a key component describing a pagination, as {@link Pagination} may not define equality.
+     */
+    static Object key(Pagination pagination) {
+        return pagination.isPaginated() ? List.of(pagination.getNumber(), pagination.getSize()) : List.of();
+    }
+
+    /**
+     * Returns a key component describing a sort, as {@link Sort} may not define equality.
+     */
+    static Object key(Sort sort) {
+        return sort.isSorted() ? List.copyOf(sort.orders()) : List.of();
+    }
+
+    private static Map<String, @Nullable Object> options() {
+        if (!CrudContext.hasContext()) {
+            return Map.of();
+        }
+        var options = CrudContext.current().options();
+        if (options.isEmpty()) {
+            return Map.of();
+        }
+        var snapshot = new HashMap<String, @Nullable Object>();
+        for (var key : options.keys()) {
+            snapshot.put(key, options.get(key, Object.class));
+        }
+        return snapshot;
+    }
+
+    private static Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Call(@Nullable Object caller, String operation, List<@Nullable Object> arguments, Map<String, @Nullable Object> options) {
+    }
+}
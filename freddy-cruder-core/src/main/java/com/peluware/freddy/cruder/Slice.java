@@ -0,0 +1,107 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A page of results without total count.
+ *
+ * <p>
+ * A slice only knows whether another page follows, which is all an infinite-scroll client
+ * needs. Stores compute it by fetching one row past the requested page (see
+ * {@link #ofProbe(List, Pagination, Sort)}), so no count query is issued.
+ * </p>
+ *
+ * @param content    the resources in this slice
+ * @param pagination the requested pagination
+ * @param sort       the requested sorting
+ * @param hasNext    whether more resources follow this slice
+ * @param <T>        the element type
+ * @see PageProvider#slice(String, String, Pagination, Sort)
+ */
+public record Slice<T>(List<T> content, Pagination pagination, Sort sort, boolean hasNext) {
+
+    public Slice {
+        content = List.copyOf(Objects.requireNonNull(content, "Content must not be null"));
+        Objects.requireNonNull(pagination, "Pagination must not be null");
+        Objects.requireNonNull(sort, "Sort must not be null");
+    }
+
+    /**
+     * Builds a slice from the rows of a query that fetched up to {@code size + 1} rows.
+     *
+     * <p>
+     * When the query returned more rows than the page size, the extra row is dropped and
+     * the slice reports a next page.
+     * </p>
+     *
+     * @param rows       the fetched rows, at most one more than the page size
+     * @param pagination the requested pagination
+     * @param sort       the requested sorting
+     * @param <T>        the element type
+     * @return the slice
+     */
+    public static <T> Slice<T> ofProbe(List<T> rows, Pagination pagination, Sort sort) {
+        if (pagination.isPaginated() && rows.size() > pagination.getSize()) {
+            return new Slice<>(rows.subList(0, pagination.getSize()), pagination, sort, true);
+        }
+        return new Slice<>(rows, pagination, sort, false);
+    }
+
+    /**
+     * Builds a slice from a page, using its total to decide whether another page follows.
+     *
+     * <p>
+     * Reading the total of a deferred page triggers its count query.
+     * </p>
+     *
+     * @param page the page to convert
+     * @param <T>  the element type
+     * @return the slice
+     */
+    public static <T> Slice<T> of(Page<T> page) {
+        var pagination = page.getPagination();
+        var hasNext = pagination.isPaginated()
+            && (long) (pagination.getNumber() + 1) * pagination.getSize() < page.getTotalElements();
+        return new Slice<>(page.getContent(), pagination, page.getSort(), hasNext);
+    }
+
+    /**
+     * Converts this slice into a {@link Page} without querying a total.
+     *
+     * <p>
+     * The reported total is a lower bound: the number of resources up to the end of this
+     * slice, plus one if another page follows. It is exact only on the last page.
+     * </p>
+     *
+     * @return a page holding the content of this slice
+     */
+    public Page<T> toPage() {
+        long total = content.size() + (hasNext ? 1 : 0);
+        if (pagination.isPaginated()) {
+            total += (long) pagination.getNumber() * pagination.getSize();
+        }
+        return new Page<>(content, pagination, sort, total);
+    }
+
+    /**
+     * Converts the content of this slice, keeping its pagination state.
+     *
+     * @param mapper the element conversion function
+     * @param <R>    the target element type
+     * @return a new slice with converted content
+     */
+    public <R> Slice<R> map(Function<? super T, ? extends R> mapper) {
+        var mapped = new ArrayList<R>(content.size());
+        for (var element : content) {
+            mapped.add(mapper.apply(element));
+        }
+        return new Slice<>(mapped, pagination, sort, hasNext);
+    }
+}
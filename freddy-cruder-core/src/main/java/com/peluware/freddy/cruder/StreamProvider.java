@@ -0,0 +1,32 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Sort;
+import org.jspecify.annotations.Nullable;
+
+import java.util.stream.Stream;
+
+/**
+ * Provides lazy, unpaginated listing of resources with optional search and filter criteria.
+ *
+ * <p>
+ * Unlike {@link PageProvider}, results are produced one by one as the stream is consumed,
+ * so large result sets can be processed without materializing them in memory.
+ * The returned stream may hold store resources (e.g. an open cursor) and must be closed
+ * after use, typically with try-with-resources.
+ * </p>
+ *
+ * @param <OUTPUT> the output DTO or projection type returned to the consumer
+ */
+@FunctionalInterface
+public interface StreamProvider<OUTPUT> {
+
+    /**
+     * Streams all resources matching optional search criteria and filtering expression.
+     *
+     * @param search optional text-based search (may be {@code null})
+     * @param query  additional filtering expression, may be {@code null}
+     * @param sort   sorting configuration
+     * @return a lazily populated {@link Stream} of resources, to be closed by the caller
+     */
+    Stream<OUTPUT> stream(@Nullable String search, @Nullable String query, Sort sort);
+}
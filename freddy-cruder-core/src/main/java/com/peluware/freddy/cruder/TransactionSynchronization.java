@@ -0,0 +1,18 @@
+package com.peluware.freddy.cruder;
+
+import java.util.List;
+
+/**
+ * Holder of the synchronizer returned by {@link TransactionSynchronizer#getGlobal()} and of
+ * the after-commit actions of the local transaction bound to the current scope.
+ */
+final class TransactionSynchronization {
+
+    static final ScopedValue<List<Runnable>> LOCAL = ScopedValue.newInstance();
+
+    static volatile TransactionSynchronizer global = TransactionSynchronizer.NONE;
+
+    private TransactionSynchronization() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+}
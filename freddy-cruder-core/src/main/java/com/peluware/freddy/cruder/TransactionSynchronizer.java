@@ -0,0 +1,134 @@
+package com.peluware.freddy.cruder;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Bridge to the transaction manager that defers work until the current transaction commits.
+ *
+ * <p>
+ * {@link #runAfterCommit(Runnable)} resolves the transaction of the calling thread in this order:
+ * </p>
+ *
+ * <ol>
+ *   <li>a local transaction opened through {@link #synchronize(Supplier, Runnable)} (e.g. by
+ *   {@code JpaUtils.requireTransaction} when it begins a resource-local transaction)</li>
+ *   <li>the transaction known to the {@linkplain #getGlobal() global synchronizer} (e.g. a
+ *   Spring-managed transaction)</li>
+ *   <li>no transaction at all, in which case the action runs immediately</li>
+ * </ol>
+ *
+ * <p>
+ * Actions of a transaction that rolls back are discarded.
+ * </p>
+ *
+ * @see AfterCommitEvents
+ */
+@FunctionalInterface
+public interface TransactionSynchronizer {
+
+    /**
+     * Synchronizer that never knows about a transaction.
+     */
+    TransactionSynchronizer NONE = _ -> false;
+
+    /**
+     * Registers an action to run once the transaction bound to the calling thread commits.
+     *
+     * @param action the action to run after commit
+     * @return {@code true} if the action was registered, {@code false} if no transaction is
+     * active on the calling thread
+     */
+    boolean afterCommit(Runnable action);
+
+    /**
+     * Indicates whether a transaction known to this synchronizer is active on the calling thread.
+     *
+     * @return {@code true} if a transaction is active, {@code false} by default
+     */
+    default boolean isTransactionActive() {
+        return false;
+    }
+
+    /**
+     * Returns the synchronizer consulted when no local transaction is open.
+     *
+     * @return the global synchronizer, {@link #NONE} by default
+     */
+    static TransactionSynchronizer getGlobal() {
+        return TransactionSynchronization.global;
+    }
+
+    /**
+     * Installs the synchronizer consulted when no local transaction is open.
+     *
+     * @param synchronizer the synchronizer to install, {@link #NONE} to disable it
+     */
+    static void setGlobal(TransactionSynchronizer synchronizer) {
+        TransactionSynchronization.global = Objects.requireNonNull(synchronizer, "Synchronizer must not be null");
+    }
+
+    /**
+     * Indicates whether the calling thread runs inside a local transaction opened through
+     * {@link #synchronize(Supplier, Runnable)} or a transaction known to the global synchronizer.
+     *
+     * @return {@code true} if a transaction is active on the calling thread
+     */
+    static boolean inTransaction() {
+        return TransactionSynchronization.LOCAL.isBound() || getGlobal().isTransactionActive();
+    }
+
+    /**
+     * Runs an action once the transaction of the calling thread commits, or immediately when
+     * there is no transaction.
+     *
+     * @param action the action to run after commit
+     */
+    static void runAfterCommit(Runnable action) {
+        Objects.requireNonNull(action, "Action must not be null");
+        if (TransactionSynchronization.LOCAL.isBound()) {
+            TransactionSynchronization.LOCAL.get().add(action);
+        } else if (!getGlobal().afterCommit(action)) {
+            action.run();
+        }
+    }
+
+    /**
+     * Runs the body of a local transaction and then commits it, running the actions registered
+     * through {@link #runAfterCommit(Runnable)} by the body once {@code commit} returns.
+     *
+     * <p>
+     * If {@code work} or {@code commit} throws, the registered actions are discarded. Actions
+     * run on the calling thread in registration order. As the transaction is already committed,
+     * an action that throws is reported to the uncaught exception handler of the calling thread
+     * and the remaining actions still run.
+     * </p>
+     *
+     * @param work   the body of the transaction
+     * @param commit commits the transaction
+     * @param <T>    the return type
+     * @return the result of {@code work}
+     */
+    static <T> T synchronize(Supplier<T> work, Runnable commit) {
+        var actions = new ArrayList<Runnable>();
+        var result = ScopedValue.where(TransactionSynchronization.LOCAL, actions).call(work::get);
+        commit.run();
+        for (var action : actions) {
+            runCommitted(action);
+        }
+        return result;
+    }
+
+    /**
+     * Runs an after-commit action, reporting its failure instead of propagating it.
+     */
+    private static void runCommitted(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            var thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.peluware.freddy.cruder;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Provides update of an existing resource identified by its ID.
  *
@@ -22,4 +26,25 @@ public interface UpdateProvider<ID, INPUT, OUTPUT> {
      * @throws NotFoundException if no resource exists with the given ID
      */
     OUTPUT update(@NotNull ID id, @NotNull @Valid INPUT input) throws NotFoundException;
+
+    /**
+     * Updates a batch of existing resources.
+     *
+     * <p>
+     * The default implementation calls {@link #update(Object, Object)} once per entry.
+     * Implementations backed by a store should override it to run the whole batch
+     * in a single unit of work.
+     * </p>
+     *
+     * @param inputs input DTOs keyed by the identifier of the resource to update
+     * @return the updated resources mapped to their output representation, in the iteration order of {@code inputs}
+     * @throws NotFoundException if any of the resources does not exist
+     */
+    default List<OUTPUT> updateAll(@NotNull Map<@NotNull ID, @NotNull @Valid INPUT> inputs) throws NotFoundException {
+        var outputs = new ArrayList<OUTPUT>(inputs.size());
+        for (var entry : inputs.entrySet()) {
+            outputs.add(update(entry.getKey(), entry.getValue()));
+        }
+        return outputs;
+    }
 }
@@ -0,0 +1,357 @@
+package com.peluware.freddy.cruder.utils;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * A size-bounded, expiring in-memory cache with frequency-based admission.
+ *
+ * <p>
+ * Lookups are served from a {@link ConcurrentHashMap} without locking. When the cache is
+ * full, a victim is chosen with a CLOCK (second-chance) sweep and a TinyLFU admission
+ * filter decides whether the new entry is worth keeping: the candidate replaces the victim
+ * only if it has been requested more often according to a count-min frequency sketch.
+ * Keys that are requested once never displace hot keys, which keeps the hit rate stable
+ * under scans.
+ * </p>
+ *
+ * <p>
+ * Values may be {@code null} to record a negative entry (a key known to be absent); such
+ * entries live for {@code negativeTtl} instead of {@code ttl}. When {@code refreshAfter}
+ * is set, {@link Entry#tryRefresh()} signals once per entry that it is due for an
+ * asynchronous reload while it is still served.
+ * </p>
+ *
+ * <p>
+ * Every invalidation advances a {@linkplain #stamp() stamp}. Loaders take the stamp before
+ * reading from the store and pass it to {@link #put(Object, Object, long)}, which discards
+ * the value if an invalidation happened meanwhile, so a slow load never resurrects a value
+ * that was invalidated while it was in flight.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class BoundedCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ArrayDeque<K> clock = new ArrayDeque<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong stamp = new AtomicLong();
+    private final FrequencySketch sketch;
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final long refreshAfterNanos;
+
+    /**
+     * Creates a cache without negative entries nor refresh-ahead.
+     *
+     * @param maximumSize maximum number of entries, must be positive
+     * @param ttl         time-to-live of each entry after it is written
+     */
+    public BoundedCache(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, Duration.ZERO, null);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param maximumSize  maximum number of entries, must be positive
+     * @param ttl          time-to-live of present values after they are written
+     * @param negativeTtl  time-to-live of negative ({@code null}) entries; zero disables them
+     * @param refreshAfter age after which an entry is due for refresh-ahead, or {@code null} to disable it
+     */
+    public BoundedCache(int maximumSize, Duration ttl, Duration negativeTtl, @Nullable Duration refreshAfter) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = Objects.requireNonNull(ttl, "TTL must not be null").toNanos();
+        this.negativeTtlNanos = Objects.requireNonNull(negativeTtl, "Negative TTL must not be null").toNanos();
+        this.refreshAfterNanos = refreshAfter != null ? refreshAfter.toNanos() : Long.MAX_VALUE;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Returns the live entry for the given key and records the access.
+     *
+     * @param key the key to look up
+     * @return the entry, or {@code null} if absent or expired
+     */
+    public @Nullable Entry<V> getEntry(K key) {
+        sketch.increment(key);
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        entry.referenced = true;
+        return entry;
+    }
+
+    /**
+     * Returns the current invalidation stamp, to be passed to {@link #put(Object, Object, long)}.
+     *
+     * @return the current stamp
+     */
+    public long stamp() {
+        return stamp.get();
+    }
+
+    /**
+     * Stores a value unless an invalidation happened after {@code stamp} was taken.
+     *
+     * @param key   the key
+     * @param value the value, or {@code null} for a negative entry
+     * @param stamp the stamp taken before the value was loaded
+     * @return {@code true} if the value was stored
+     */
+    public boolean put(K key, @Nullable V value, long stamp) {
+        var ttl = value != null ? ttlNanos : negativeTtlNanos;
+        if (ttl <= 0 || this.stamp.get() != stamp) {
+            return false;
+        }
+        var now = System.nanoTime();
+        var entry = new Entry<>(value, now + ttl, refreshAfterNanos == Long.MAX_VALUE ? Long.MAX_VALUE : now + refreshAfterNanos);
+        var previous = entries.put(key, entry);
+        if (this.stamp.get() != stamp) {
+            entries.remove(key, entry);
+            return false;
+        }
+        if (previous == null) {
+            return admit(key, entry);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the entry for the given key.
+     *
+     * @param key the key to invalidate
+     */
+    public void invalidate(K key) {
+        stamp.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * Removes every entry whose key matches the given predicate.
+     *
+     * @param predicate the condition selecting the keys to invalidate
+     */
+    public void invalidateIf(Predicate<? super K> predicate) {
+        stamp.incrementAndGet();
+        entries.keySet().removeIf(predicate);
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void invalidateAll() {
+        stamp.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of entries currently held, including expired entries not yet removed.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean admit(K candidate, Entry<V> entry) {
+        evictionLock.lock();
+        try {
+            clock.addLast(candidate);
+            while (entries.size() > maximumSize) {
+                var victim = nextVictim(candidate);
+                if (victim == null) {
+                    break;
+                }
+                if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+                    entries.remove(victim);
+                } else {
+                    clock.addLast(victim);
+                    entries.remove(candidate, entry);
+                    return false;
+                }
+            }
+            if (clock.size() > 2 * maximumSize + 16) {
+                compact();
+            }
+            return true;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private @Nullable K nextVictim(K candidate) {
+        var now = System.nanoTime();
+        for (int scanned = 0, limit = 2 * clock.size(); scanned < limit; scanned++) {
+            var key = clock.pollFirst();
+            if (key == null) {
+                return null;
+            }
+            if (key.equals(candidate)) {
+                clock.addLast(key);
+                continue;
+            }
+            var entry = entries.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.isExpired(now)) {
+                entries.remove(key, entry);
+                if (entries.size() <= maximumSize) {
+                    return null;
+                }
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.addLast(key);
+                continue;
+            }
+            return key;
+        }
+        return null;
+    }
+
+    private void compact() {
+        var live = new LinkedHashSet<K>(clock.size());
+        for (var key : clock) {
+            if (entries.containsKey(key)) {
+                live.add(key);
+            }
+        }
+        clock.clear();
+        clock.addAll(live);
+    }
+
+    /**
+     * A cached value together with its expiration and refresh state.
+     *
+     * @param <V> the value type
+     */
+    public static final class Entry<V> {
+
+        private final @Nullable V value;
+        private final long expiresAt;
+        private final long refreshAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile boolean referenced;
+
+        private Entry(@Nullable V value, long expiresAt, long refreshAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+
+        /**
+         * @return the cached value, or {@code null} for a negative entry
+         */
+        public @Nullable V value() {
+            return value;
+        }
+
+        /**
+         * @return {@code true} if this entry holds a value, {@code false} for a negative entry
+         */
+        public boolean isPresent() {
+            return value != null;
+        }
+
+        /**
+         * Claims the refresh of this entry if it is due and no other caller has claimed it yet.
+         *
+         * @return {@code true} if the caller should reload the entry
+         */
+        public boolean tryRefresh() {
+            return System.nanoTime() - refreshAt >= 0 && refreshing.compareAndSet(false, true);
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * Count-min sketch with 4-bit saturating counters that are halved periodically,
+     * so that frequencies reflect recent popularity. Updates are not synchronized:
+     * concurrent increments may be lost, which only makes the estimates coarser.
+     */
+    private static final class FrequencySketch {
+
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private final byte[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int maximumSize) {
+            var capacity = Integer.highestOneBit(Math.clamp(maximumSize, 16, 1 << 20) * 2 - 1) << 2;
+            this.table = new byte[capacity];
+            this.mask = capacity - 1;
+            this.sampleSize = 10 * Math.max(16, maximumSize);
+        }
+
+        private void increment(Object key) {
+            var hash = spread(key.hashCode());
+            var added = false;
+            for (var seed : SEEDS) {
+                var index = indexOf(hash, seed);
+                if (table[index] < MAX_COUNT) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private int frequency(Object key) {
+            var hash = spread(key.hashCode());
+            var frequency = MAX_COUNT;
+            for (var seed : SEEDS) {
+                frequency = Math.min(frequency, table[indexOf(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (byte) (table[i] >>> 1);
+            }
+            additions = 0;
+        }
+
+        private int indexOf(int hash, int seed) {
+            var h = (hash ^ seed) * seed;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private static int spread(int hash) {
+            var h = hash * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
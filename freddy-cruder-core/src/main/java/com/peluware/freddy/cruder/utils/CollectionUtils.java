@@ -0,0 +1,38 @@
+package com.peluware.freddy.cruder.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CollectionUtils {
+
+    private CollectionUtils() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Splits a list into consecutive sublists of at most {@code size} elements.
+     *
+     * <p>
+     * The returned chunks are views over the original list; they must not be used
+     * after the source list has been structurally modified.
+     * </p>
+     *
+     * @param list the list to split
+     * @param size the maximum size of each chunk (must be positive)
+     * @param <T>  the element type
+     * @return the list of chunks, empty if the source list is empty
+     */
+    public static <T> List<List<T>> partition(List<T> list, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + size);
+        }
+        if (list.size() <= size) {
+            return list.isEmpty() ? List.of() : List.of(list);
+        }
+        var chunks = new ArrayList<List<T>>((list.size() + size - 1) / size);
+        for (int from = 0; from < list.size(); from += size) {
+            chunks.add(list.subList(from, Math.min(from + size, list.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,193 @@
+package com.peluware.freddy.cruder.utils;
+
+import com.peluware.freddy.cruder.InvalidCursorException;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Encodes and decodes the opaque tokens used by keyset (cursor) pagination.
+ *
+ * <p>
+ * A token holds the sort key values of the last element of a window, each one encoded
+ * as URL-safe Base64 and joined with {@code '.'}; {@code null} values are encoded as
+ * {@code '~'}, which is not part of the Base64 alphabet. The first segment is a signature of
+ * the sort keys the token was built for, so that a cursor issued for one ordering is rejected
+ * when replayed with another.
+ * </p>
+ *
+ * <p>
+ * Only the key types listed by {@link #isSupported(Class)} can be carried. Legacy
+ * {@link Date} and {@link Calendar} values are encoded as an {@link Instant}, keeping the
+ * nanoseconds of {@link Timestamp}s, so that every value decodes to the exact instant that was
+ * encoded whatever the default time zone. {@link Date} keys decode to {@link Timestamp}s, as
+ * persistence providers may read timestamp columns mapped to {@link Date} with sub-millisecond
+ * precision.
+ * </p>
+ */
+public final class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String SEPARATOR = ".";
+    private static final String NULL = "~";
+
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(
+        String.class, Long.class, long.class, Integer.class, int.class, Short.class, short.class,
+        Byte.class, byte.class, Double.class, double.class, Float.class, float.class,
+        Boolean.class, boolean.class, Character.class, char.class, BigDecimal.class, BigInteger.class,
+        UUID.class, Instant.class, LocalDate.class, LocalDateTime.class, LocalTime.class,
+        OffsetDateTime.class, OffsetTime.class, ZonedDateTime.class, Year.class,
+        Date.class, java.sql.Date.class, Time.class, Timestamp.class, Calendar.class
+    );
+
+    private CursorCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Indicates whether values of the given attribute type can be carried by a cursor.
+     *
+     * @param type the attribute type
+     * @return {@code true} for the supported scalar, temporal and enum types
+     */
+    public static boolean isSupported(Class<?> type) {
+        return SUPPORTED_TYPES.contains(type) || type.isEnum();
+    }
+
+    /**
+     * Builds a cursor token from the given key values.
+     *
+     * @param signature description of the sort keys, e.g. {@code "name:ASC,id:ASC"}
+     * @param values    the key values of the last element, in sort key order; may contain {@code null}
+     * @return the opaque cursor token
+     * @throws InvalidCursorException if the type of a key value is not {@linkplain #isSupported(Class) supported}
+     */
+    public static String encode(String signature, List<?> values) {
+        var builder = new StringBuilder(encodeSegment(signature));
+        for (var value : values) {
+            builder.append(SEPARATOR).append(value == null ? NULL : encodeSegment(stringify(value)));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Extracts the raw key values from a cursor token.
+     *
+     * @param signature    description of the sort keys the cursor must have been built for
+     * @param cursor       the opaque cursor token
+     * @param expectedKeys the number of key values the cursor must hold
+     * @return the raw key values in sort key order, {@code null} for null keys
+     * @throws InvalidCursorException if the cursor is malformed or was built for another ordering
+     */
+    public static List<@Nullable String> decode(String signature, String cursor, int expectedKeys) {
+        var segments = cursor.split("\\" + SEPARATOR, -1);
+        if (segments.length != expectedKeys + 1) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+        var decoded = new ArrayList<@Nullable String>(segments.length);
+        try {
+            for (var segment : segments) {
+                decoded.add(segment.equals(NULL) ? null : decodeSegment(segment));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor, e);
+        }
+        if (!signature.equals(decoded.getFirst())) {
+            throw new InvalidCursorException("Cursor does not match the requested sort: " + cursor);
+        }
+        return decoded.subList(1, decoded.size());
+    }
+
+    /**
+     * Converts a raw key value back to the Java type of its attribute.
+     *
+     * @param value the raw key value, or {@code null} for a null key
+     * @param type  the attribute type
+     * @return the typed key value, or {@code null} if {@code value} is {@code null}
+     * @throws InvalidCursorException if the value cannot be converted or the type is not supported
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static @Nullable Object convert(@Nullable String value, Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (type == String.class) return value;
+            if (type == Long.class || type == long.class) return Long.valueOf(value);
+            if (type == Integer.class || type == int.class) return Integer.valueOf(value);
+            if (type == Short.class || type == short.class) return Short.valueOf(value);
+            if (type == Byte.class || type == byte.class) return Byte.valueOf(value);
+            if (type == Double.class || type == double.class) return Double.valueOf(value);
+            if (type == Float.class || type == float.class) return Float.valueOf(value);
+            if (type == Boolean.class || type == boolean.class) return Boolean.valueOf(value);
+            if (type == Character.class || type == char.class) return value.charAt(0);
+            if (type == BigDecimal.class) return new BigDecimal(value);
+            if (type == BigInteger.class) return new BigInteger(value);
+            if (type == UUID.class) return UUID.fromString(value);
+            if (type == Instant.class) return Instant.parse(value);
+            if (type == LocalDate.class) return LocalDate.parse(value);
+            if (type == LocalDateTime.class) return LocalDateTime.parse(value);
+            if (type == LocalTime.class) return LocalTime.parse(value);
+            if (type == OffsetDateTime.class) return OffsetDateTime.parse(value);
+            if (type == OffsetTime.class) return OffsetTime.parse(value);
+            if (type == ZonedDateTime.class) return ZonedDateTime.parse(value);
+            if (type == Year.class) return Year.parse(value);
+            if (type == Timestamp.class || type == Date.class) return Timestamp.from(Instant.parse(value));
+            if (type == java.sql.Date.class) return new java.sql.Date(Instant.parse(value).toEpochMilli());
+            if (type == Time.class) return new Time(Instant.parse(value).toEpochMilli());
+            if (type == Calendar.class) {
+                var calendar = new GregorianCalendar();
+                calendar.setTimeInMillis(Instant.parse(value).toEpochMilli());
+                return calendar;
+            }
+            if (type.isEnum()) return Enum.valueOf((Class<Enum>) type.asSubclass(Enum.class), value);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor value for type " + type.getSimpleName() + ": " + value, e);
+        }
+        throw new InvalidCursorException("Unsupported cursor key type: " + type.getSimpleName());
+    }
+
+    private static String stringify(Object value) {
+        return switch (value) {
+            case Enum<?> e -> e.name();
+            case Timestamp timestamp -> timestamp.toInstant().toString();
+            case Date date -> Instant.ofEpochMilli(date.getTime()).toString();
+            case Calendar calendar -> calendar.toInstant().toString();
+            default -> {
+                if (!isSupported(value.getClass())) {
+                    throw new InvalidCursorException("Unsupported cursor key type: " + value.getClass().getSimpleName());
+                }
+                yield value.toString();
+            }
+        };
+    }
+
+    private static String encodeSegment(String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeSegment(String segment) {
+        return new String(DECODER.decode(segment), StandardCharsets.UTF_8);
+    }
+}
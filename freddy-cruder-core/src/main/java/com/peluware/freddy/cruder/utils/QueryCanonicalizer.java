@@ -0,0 +1,300 @@
+package com.peluware.freddy.cruder.utils;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Rewrites RSQL / FIQL query expressions into a canonical form, so that semantically equal
+ * queries written differently produce the same string and the same fingerprint.
+ *
+ * <p>
+ * The query is parsed into an expression tree and printed back with:
+ * </p>
+ *
+ * <ul>
+ *   <li>no whitespace between tokens, and {@code ;} / {@code ,} instead of {@code and} / {@code or}</li>
+ *   <li>nested groups of the same logical operator flattened, and redundant parentheses removed</li>
+ *   <li>the operands of every {@code AND} / {@code OR} group sorted and deduplicated</li>
+ *   <li>the arguments of {@code =in=} / {@code =out=} sorted and deduplicated</li>
+ * </ul>
+ *
+ * <p>
+ * Selectors, operators and arguments are kept verbatim, quotes included, so the rewritten query
+ * is read by the query engine exactly as the original. Expressions that cannot be parsed are
+ * returned trimmed but otherwise untouched, leaving the error to the query engine.
+ * </p>
+ */
+public final class QueryCanonicalizer {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private QueryCanonicalizer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns the canonical form of a query expression.
+     *
+     * @param query the query expression, or {@code null}
+     * @return the canonical expression, or {@code null} if the query is {@code null} or blank
+     */
+    public static @Nullable String canonicalize(@Nullable String query) {
+        if (StringUtils.isBlank(query)) {
+            return null;
+        }
+        try {
+            return new Parser(query).parse().toString();
+        } catch (IllegalArgumentException e) {
+            return query.trim();
+        }
+    }
+
+    /**
+     * Returns a stable 64-bit fingerprint of the canonical form of a query expression.
+     *
+     * <p>
+     * The fingerprint is the FNV-1a hash of the UTF-8 bytes of {@link #canonicalize(String)}, so
+     * it does not change across JVMs and restarts. It is meant for logging and for compact cache
+     * keys; equal fingerprints do not guarantee equal queries.
+     * </p>
+     *
+     * @param query the query expression, or {@code null}
+     * @return the fingerprint, {@code 0} if the query is {@code null} or blank
+     */
+    public static long fingerprint(@Nullable String query) {
+        var canonical = canonicalize(query);
+        if (canonical == null) {
+            return 0;
+        }
+        var hash = FNV_OFFSET_BASIS;
+        for (var b : canonical.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private sealed interface Node permits Group, Comparison {
+    }
+
+    /**
+     * An {@code AND} ({@code ;}) or {@code OR} ({@code ,}) group with sorted, distinct operands.
+     */
+    private record Group(char operator, List<Node> operands) implements Node {
+
+        @Override
+        public String toString() {
+            var joiner = new StringJoiner(String.valueOf(operator));
+            for (var operand : operands) {
+                var nested = operand instanceof Group && operator == ';';
+                joiner.add(nested ? "(" + operand + ")" : operand.toString());
+            }
+            return joiner.toString();
+        }
+    }
+
+    private record Comparison(String selector, String operator, List<String> arguments) implements Node {
+
+        @Override
+        public String toString() {
+            if (arguments.size() == 1 && !isMultiValue(operator)) {
+                return selector + operator + arguments.getFirst();
+            }
+            return selector + operator + "(" + String.join(",", arguments) + ")";
+        }
+    }
+
+    private static boolean isMultiValue(String operator) {
+        var lower = operator.toLowerCase(Locale.ROOT);
+        return lower.equals("=in=") || lower.equals("=out=");
+    }
+
+    private static Node group(char operator, List<Node> operands) {
+        var distinct = new TreeMap<String, Node>();
+        for (var operand : operands) {
+            if (operand instanceof Group group && group.operator() == operator) {
+                group.operands().forEach(child -> distinct.putIfAbsent(child.toString(), child));
+            } else {
+                distinct.putIfAbsent(operand.toString(), operand);
+            }
+        }
+        if (distinct.size() == 1) {
+            return distinct.firstEntry().getValue();
+        }
+        return new Group(operator, List.copyOf(distinct.values()));
+    }
+
+    /**
+     * Recursive descent parser for the RSQL grammar:
+     *
+     * <pre>
+     * or         = and , { ( "," | " or " ) , and }
+     * and        = constraint , { ( ";" | " and " ) , constraint }
+     * constraint = "(" , or , ")" | comparison
+     * comparison = selector , operator , ( argument | "(" , argument , { "," , argument } , ")" )
+     * </pre>
+     */
+    private static final class Parser {
+
+        private static final String RESERVED = "\"'();,=!~<> \t\r\n";
+
+        private final String input;
+        private int position;
+
+        private Parser(String input) {
+            this.input = input;
+        }
+
+        private Node parse() {
+            var node = parseOr();
+            skipWhitespace();
+            if (position != input.length()) {
+                throw error();
+            }
+            return node;
+        }
+
+        private Node parseOr() {
+            var operands = new ArrayList<Node>();
+            operands.add(parseAnd());
+            while (acceptOperator(',', "or")) {
+                operands.add(parseAnd());
+            }
+            return operands.size() == 1 ? operands.getFirst() : group(',', operands);
+        }
+
+        private Node parseAnd() {
+            var operands = new ArrayList<Node>();
+            operands.add(parseConstraint());
+            while (acceptOperator(';', "and")) {
+                operands.add(parseConstraint());
+            }
+            return operands.size() == 1 ? operands.getFirst() : group(';', operands);
+        }
+
+        private Node parseConstraint() {
+            skipWhitespace();
+            if (accept('(')) {
+                var node = parseOr();
+                skipWhitespace();
+                expect(')');
+                return node;
+            }
+            return parseComparison();
+        }
+
+        private Node parseComparison() {
+            var selector = unreserved();
+            skipWhitespace();
+            var operator = operator();
+            skipWhitespace();
+            var arguments = new ArrayList<String>();
+            if (accept('(')) {
+                do {
+                    skipWhitespace();
+                    arguments.add(argument());
+                    skipWhitespace();
+                } while (accept(','));
+                expect(')');
+            } else {
+                arguments.add(argument());
+            }
+            if (isMultiValue(operator)) {
+                arguments = new ArrayList<>(new TreeSet<>(arguments));
+            }
+            return new Comparison(selector, operator, List.copyOf(arguments));
+        }
+
+        private String operator() {
+            var start = position;
+            if (accept('<') || accept('>')) {
+                accept('=');
+            } else if (accept('!')) {
+                expect('=');
+            } else {
+                expect('=');
+                while (position < input.length() && (Character.isLetter(input.charAt(position)) || input.charAt(position) == '-')) {
+                    position++;
+                }
+                expect('=');
+            }
+            return input.substring(start, position);
+        }
+
+        private String argument() {
+            if (position < input.length() && (input.charAt(position) == '\'' || input.charAt(position) == '"')) {
+                var quote = input.charAt(position);
+                var start = position++;
+                while (position < input.length() && input.charAt(position) != quote) {
+                    position += input.charAt(position) == '\\' ? 2 : 1;
+                }
+                expect(quote);
+                return input.substring(start, position);
+            }
+            return unreserved();
+        }
+
+        private String unreserved() {
+            var start = position;
+            while (position < input.length() && RESERVED.indexOf(input.charAt(position)) < 0) {
+                position++;
+            }
+            if (start == position) {
+                throw error();
+            }
+            return input.substring(start, position);
+        }
+
+        /**
+         * Consumes a logical operator, either as its symbol or as its keyword surrounded by whitespace.
+         */
+        private boolean acceptOperator(char symbol, String keyword) {
+            var start = position;
+            skipWhitespace();
+            if (accept(symbol)) {
+                return true;
+            }
+            if (position > start && input.startsWith(keyword, position)) {
+                var end = position + keyword.length();
+                if (end < input.length() && Character.isWhitespace(input.charAt(end))) {
+                    position = end;
+                    return true;
+                }
+            }
+            position = start;
+            return false;
+        }
+
+        private boolean accept(char expected) {
+            if (position < input.length() && input.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char expected) {
+            if (!accept(expected)) {
+                throw error();
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error() {
+            return new IllegalArgumentException("Invalid query at position " + position + ": " + input);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.peluware.freddy.cruder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncEventDispatcherTest {
+
+    @Test
+    void runsTasksWithTheSameKeyInDispatchOrder() {
+        var keys = 8;
+        var perKey = 2_000;
+        var runs = new ArrayList<List<Integer>>();
+        for (int k = 0; k < keys; k++) {
+            runs.add(Collections.synchronizedList(new ArrayList<>()));
+        }
+
+        try (var dispatcher = new AsyncEventDispatcher(16, 4, AsyncEventDispatcher.Backpressure.BLOCK)) {
+            var producers = new ArrayList<CompletableFuture<Void>>();
+            for (int k = 0; k < keys; k++) {
+                var run = runs.get(k);
+                var key = "key-" + k;
+                producers.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < perKey; i++) {
+                        var sequence = i;
+                        dispatcher.dispatch(key, () -> run.add(sequence));
+                    }
+                }));
+            }
+            producers.forEach(CompletableFuture::join);
+        }
+
+        for (var run : runs) {
+            assertEquals(perKey, run.size());
+            for (int i = 0; i < perKey; i++) {
+                assertEquals(i, run.get(i));
+            }
+        }
+    }
+
+    @Test
+    void dropsTasksWhenTheRingIsFull() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var ran = new AtomicInteger();
+        try (var dispatcher = new AsyncEventDispatcher(2, 1, AsyncEventDispatcher.Backpressure.DROP)) {
+            occupyWorker(dispatcher, release);
+            assertTrue(dispatcher.dispatch(null, ran::incrementAndGet));
+            assertTrue(dispatcher.dispatch(null, ran::incrementAndGet));
+
+            assertFalse(dispatcher.dispatch(null, ran::incrementAndGet));
+            assertEquals(1, dispatcher.getDropped());
+            release.countDown();
+        }
+        assertEquals(2, ran.get());
+    }
+
+    @Test
+    void runsTasksOnTheCallerWhenTheRingIsFull() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var caller = Thread.currentThread();
+        var ranOn = new ArrayList<Thread>();
+        try (var dispatcher = new AsyncEventDispatcher(2, 1, AsyncEventDispatcher.Backpressure.CALLER_RUNS)) {
+            occupyWorker(dispatcher, release);
+            dispatcher.dispatch(null, () -> { });
+            dispatcher.dispatch(null, () -> { });
+
+            assertTrue(dispatcher.dispatch(null, () -> ranOn.add(Thread.currentThread())));
+            assertEquals(List.of(caller), ranOn);
+            release.countDown();
+        }
+    }
+
+    @Test
+    void blocksDispatchersUntilTheWorkerFreesASlot() throws Exception {
+        var release = new CountDownLatch(1);
+        var ran = new AtomicInteger();
+        try (var dispatcher = new AsyncEventDispatcher(2, 1, AsyncEventDispatcher.Backpressure.BLOCK)) {
+            occupyWorker(dispatcher, release);
+            dispatcher.dispatch(null, ran::incrementAndGet);
+            dispatcher.dispatch(null, ran::incrementAndGet);
+
+            var blocked = CompletableFuture.supplyAsync(() -> dispatcher.dispatch(null, ran::incrementAndGet));
+            assertThrows(TimeoutException.class, () -> blocked.get(100, TimeUnit.MILLISECONDS));
+            release.countDown();
+            assertTrue(blocked.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(3, ran.get());
+    }
+
+    @Test
+    void drainsDispatchedTasksOnClose() {
+        var ran = new AtomicInteger();
+        var dispatcher = new AsyncEventDispatcher(1024, 2, AsyncEventDispatcher.Backpressure.BLOCK);
+        for (int i = 0; i < 10_000; i++) {
+            dispatcher.dispatch("key-" + i % 16, ran::incrementAndGet);
+        }
+
+        dispatcher.close();
+
+        assertEquals(10_000, ran.get());
+        assertThrows(IllegalStateException.class, () -> dispatcher.dispatch(null, ran::incrementAndGet));
+    }
+
+    @Test
+    void keepsRunningTasksAfterOneThrows() {
+        var ran = new AtomicInteger();
+        var failure = new IllegalStateException("boom");
+        var reported = new ArrayList<Throwable>();
+        try (var dispatcher = new AsyncEventDispatcher(16, 1, AsyncEventDispatcher.Backpressure.BLOCK)) {
+            dispatcher.dispatch(null, () -> {
+                Thread.currentThread().setUncaughtExceptionHandler((_, e) -> reported.add(e));
+                throw failure;
+            });
+            dispatcher.dispatch(null, ran::incrementAndGet);
+        }
+
+        assertEquals(1, ran.get());
+        assertEquals(1, reported.size());
+        assertSame(failure, reported.getFirst());
+    }
+
+    /**
+     * Dispatches a task that keeps the single worker busy until {@code release} opens, and waits
+     * until the worker has taken it out of the ring.
+     */
+    private static void occupyWorker(AsyncEventDispatcher dispatcher, CountDownLatch release) throws InterruptedException {
+        var started = new CountDownLatch(1);
+        dispatcher.dispatch(null, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+}
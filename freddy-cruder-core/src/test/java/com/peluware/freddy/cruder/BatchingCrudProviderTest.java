@@ -0,0 +1,159 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchingCrudProviderTest {
+
+    private static final ThreadLocal<String> CALLER = new ThreadLocal<>();
+
+    @Test
+    void batchesOnlyCallsOfTheSameCaller() throws InterruptedException {
+        var store = new Store();
+        var batching = new CallerAwareBatchingProvider(store);
+        warmUp(batching);
+
+        try (var executor = Executors.newCachedThreadPool()) {
+            var alice = findAs(executor, batching, "alice", 1L);
+            var bob = findAs(executor, batching, "bob", 2L);
+            Thread.sleep(200);
+            var alice2 = findAs(executor, batching, "alice", 3L);
+            var bob2 = findAs(executor, batching, "bob", 4L);
+
+            assertEquals("item-1", alice.join());
+            assertEquals("item-2", bob.join());
+            assertEquals("item-3", alice2.join());
+            assertEquals("item-4", bob2.join());
+        }
+
+        assertEquals(Map.of("alice", Set.of(1L, 3L), "bob", Set.of(2L, 4L)), store.batches);
+    }
+
+    @Test
+    void raisesTheNotFoundExceptionOfTheDelegateForIdsMissingFromABatch() throws InterruptedException {
+        var store = new Store();
+        var batching = new CallerAwareBatchingProvider(store);
+        warmUp(batching);
+
+        try (var executor = Executors.newCachedThreadPool()) {
+            var found = findAs(executor, batching, "alice", 1L);
+            Thread.sleep(200);
+            var missing = findAs(executor, batching, "alice", 404L);
+
+            assertEquals("item-1", found.join());
+            var error = assertThrows(CompletionException.class, missing::join);
+            var notFound = assertInstanceOf(NotFoundEntityException.class, error.getCause());
+            assertEquals(String.class, notFound.getEntityClass());
+            assertEquals(404L, notFound.getId());
+        }
+
+        assertEquals(Map.of("alice", Set.of(1L, 404L)), store.batches);
+    }
+
+    /**
+     * Issues close sequential calls, so that the next leader waits for other callers.
+     */
+    private static void warmUp(BatchingCrudProvider<Long, String, String> batching) {
+        batching.find(1L);
+        batching.find(2L);
+    }
+
+    private static CompletableFuture<String> findAs(ExecutorService executor, BatchingCrudProvider<Long, String, String> batching, String caller, Long id) {
+        return CompletableFuture.supplyAsync(() -> {
+            CALLER.set(caller);
+            try {
+                return batching.find(id);
+            } finally {
+                CALLER.remove();
+            }
+        }, executor);
+    }
+
+    static class CallerAwareBatchingProvider extends BatchingCrudProvider<Long, String, String> {
+
+        CallerAwareBatchingProvider(CrudProvider<Long, String, String> delegate) {
+            super(delegate, Duration.ofSeconds(10), 2);
+        }
+
+        @Override
+        protected @Nullable Object getCallerKey() {
+            return CALLER.get();
+        }
+    }
+
+    /**
+     * Store holding every identifier below {@code 100}, recording the identifiers of each batch by
+     * the caller that loaded it.
+     */
+    static class Store implements CrudProvider<Long, String, String> {
+
+        final Map<String, Set<Long>> batches = new ConcurrentHashMap<>();
+
+        @Override
+        public String find(Long id) throws NotFoundException {
+            if (id >= 100) {
+                throw new NotFoundEntityException(String.class, id);
+            }
+            return "item-" + id;
+        }
+
+        @Override
+        public FindAllResult<Long, String> findAll(Collection<Long> ids) {
+            batches.put(CALLER.get(), Set.copyOf(ids));
+            var found = new ConcurrentHashMap<Long, String>();
+            for (var id : ids) {
+                if (id < 100) {
+                    found.put(id, "item-" + id);
+                }
+            }
+            return FindAllResult.of(ids, found);
+        }
+
+        @Override
+        public boolean exists(Long id) {
+            return id < 100;
+        }
+
+        @Override
+        public Page<String> page(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long count(@Nullable String search, @Nullable String query) {
+            return 100;
+        }
+
+        @Override
+        public String create(String input) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String update(Long id, String input) throws NotFoundException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(Long id) throws NotFoundException {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
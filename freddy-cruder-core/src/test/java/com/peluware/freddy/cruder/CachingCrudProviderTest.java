@@ -0,0 +1,123 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import com.peluware.freddy.cruder.utils.BoundedCache;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CachingCrudProviderTest {
+
+    record Item(Long id, String name) {
+    }
+
+    @Test
+    void evictsValuesReadBetweenFlushAndCommitOfDecoratorWrites() {
+        var cache = new BoundedCache<Long, String>(100, Duration.ofMinutes(10));
+        var store = new Store(EntityCrudEvents.getDefault());
+        var cached = new CachingCrudProvider<>(store, cache);
+        store.put(1L, "v1");
+        assertEquals("v1", cached.find(1L));
+
+        TransactionSynchronizer.synchronize(() -> {
+            cached.update(1L, "v2");
+            return readConcurrently(cached, 1L);
+        }, store::commit);
+
+        assertEquals("v2", cached.find(1L));
+    }
+
+    @Test
+    void evictsValuesReadBetweenFlushAndCommitOfProviderWrites() {
+        var cache = new BoundedCache<Long, String>(100, Duration.ofMinutes(10));
+        var store = new Store(CachingCrudProvider.invalidating(cache, Item::id, EntityCrudEvents.getDefault()));
+        var cached = new CachingCrudProvider<>(store, cache);
+        store.put(1L, "v1");
+        assertEquals("v1", cached.find(1L));
+
+        TransactionSynchronizer.synchronize(() -> {
+            store.update(1L, "v2");
+            return readConcurrently(cached, 1L);
+        }, store::commit);
+
+        assertEquals("v2", cached.find(1L));
+    }
+
+    private static String readConcurrently(CachingCrudProvider<Long, String, String> cached, Long id) {
+        var value = CompletableFuture.supplyAsync(() -> cached.find(id)).join();
+        assertEquals("v1", value, "the write must not be visible before commit");
+        return value;
+    }
+
+    /**
+     * Store whose writes stay pending, invisible to other threads, until {@link #commit()}.
+     */
+    static class Store implements CrudProvider<Long, String, String> {
+
+        private final Map<Long, String> committed = new ConcurrentHashMap<>();
+        private final Map<Long, String> pending = new ConcurrentHashMap<>();
+        private final EntityCrudEvents<Item, Long, String> events;
+
+        Store(EntityCrudEvents<Item, Long, String> events) {
+            this.events = events;
+        }
+
+        void put(Long id, String value) {
+            committed.put(id, value);
+        }
+
+        void commit() {
+            committed.putAll(pending);
+            pending.clear();
+        }
+
+        @Override
+        public String find(Long id) throws NotFoundException {
+            var value = committed.get(id);
+            if (value == null) {
+                throw new NotFoundException(id);
+            }
+            return value;
+        }
+
+        @Override
+        public boolean exists(Long id) {
+            return committed.containsKey(id);
+        }
+
+        @Override
+        public String update(Long id, String input) throws NotFoundException {
+            pending.put(id, input);
+            events.onAfterUpdate(input, new Item(id, input));
+            return input;
+        }
+
+        @Override
+        public Page<String> page(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long count(@Nullable String search, @Nullable String query) {
+            return committed.size();
+        }
+
+        @Override
+        public String create(String input) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(Long id) throws NotFoundException {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescingCrudProviderTest {
+
+    private static final ThreadLocal<String> CALLER = new ThreadLocal<>();
+
+    @Test
+    void coalescesOnlyCallsOfTheSameCaller() throws InterruptedException {
+        var store = new Store();
+        var coalescing = new CoalescingCrudProvider<>(store) {
+            @Override
+            protected @Nullable Object getCallerKey() {
+                return CALLER.get();
+            }
+        };
+
+        try (var executor = Executors.newCachedThreadPool()) {
+            var alice = findAs(executor, coalescing, "alice");
+            var bob = findAs(executor, coalescing, "bob");
+            assertTrue(store.awaitCalls(2));
+            var alice2 = findAs(executor, coalescing, "alice");
+            Thread.sleep(200);
+            store.release.countDown();
+
+            assertEquals("alice", alice.join());
+            assertEquals("bob", bob.join());
+            assertEquals("alice", alice2.join());
+        }
+
+        assertEquals(2, store.calls.get());
+    }
+
+    private static CompletableFuture<String> findAs(ExecutorService executor, CrudProvider<Long, String, String> provider, String caller) {
+        return CompletableFuture.supplyAsync(() -> {
+            CALLER.set(caller);
+            try {
+                return provider.find(1L);
+            } finally {
+                CALLER.remove();
+            }
+        }, executor);
+    }
+
+    /**
+     * Store answering {@code find} with the caller it runs for, once {@link #release} opens.
+     */
+    static class Store implements CrudProvider<Long, String, String> {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch started = new CountDownLatch(2);
+
+        boolean awaitCalls(int count) throws InterruptedException {
+            return started.await(5, TimeUnit.SECONDS) && calls.get() == count;
+        }
+
+        @Override
+        public String find(Long id) throws NotFoundException {
+            calls.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return CALLER.get();
+        }
+
+        @Override
+        public boolean exists(Long id) {
+            return true;
+        }
+
+        @Override
+        public Page<String> page(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long count(@Nullable String search, @Nullable String query) {
+            return 1;
+        }
+
+        @Override
+        public String create(String input) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String update(Long id, String input) throws NotFoundException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(Long id) throws NotFoundException {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
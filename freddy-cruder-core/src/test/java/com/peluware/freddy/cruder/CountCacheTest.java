@@ -0,0 +1,211 @@
+package com.peluware.freddy.cruder;
+
+import com.peluware.domain.Page;
+import com.peluware.domain.Pagination;
+import com.peluware.domain.Sort;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CountCacheTest {
+
+    static class Item {
+        String name = "";
+    }
+
+    @Test
+    void evictsCountsReadBetweenWriteAndCommit() {
+        var store = new Store();
+        var provider = new ItemProvider(store, new CountCache(100, Duration.ofMinutes(10)));
+        store.committed.add(new Item());
+        assertEquals(1, provider.count(null, null));
+
+        TransactionSynchronizer.synchronize(() -> {
+            provider.create("b");
+            return countConcurrently(() -> provider.count(null, null));
+        }, store::commit);
+
+        assertEquals(2, provider.count(null, null));
+    }
+
+    @Test
+    void evictsOwnedCountsReadBetweenWriteAndCommit() {
+        var store = new Store();
+        var provider = new OwnedItemProvider(store, new CountCache(100, Duration.ofMinutes(10)));
+        store.committed.add(new Item());
+        assertEquals(1, provider.count(7L, null, null));
+
+        TransactionSynchronizer.synchronize(() -> {
+            provider.create(7L, "b");
+            return countConcurrently(() -> provider.count(7L, null, null));
+        }, store::commit);
+
+        assertEquals(2, provider.count(7L, null, null));
+    }
+
+    private static long countConcurrently(LongSupplier count) {
+        var value = CompletableFuture.supplyAsync(count::getAsLong).join();
+        assertEquals(1, value, "the write must not be visible before commit");
+        return value;
+    }
+
+    /**
+     * Store whose writes stay pending, invisible to other threads, until {@link #commit()}.
+     */
+    static class Store {
+
+        final List<Item> committed = new CopyOnWriteArrayList<>();
+        final List<Item> pending = new CopyOnWriteArrayList<>();
+
+        Item create(Item item) {
+            pending.add(item);
+            return item;
+        }
+
+        void commit() {
+            committed.addAll(pending);
+            pending.clear();
+        }
+    }
+
+    static class ItemProvider extends EntityCrudProvider<Item, Long, String, String> {
+
+        private final Store store;
+        private final CountCache countCache;
+
+        ItemProvider(Store store, CountCache countCache) {
+            super(Item.class);
+            this.store = store;
+            this.countCache = countCache;
+        }
+
+        @Override
+        protected CountCache getCountCache() {
+            return countCache;
+        }
+
+        @Override
+        protected Item newEntity() {
+            return new Item();
+        }
+
+        @Override
+        protected void mapInput(String input, Item entity, boolean isNew) {
+            entity.name = input;
+        }
+
+        @Override
+        protected String mapOutput(Item entity) {
+            return entity.name;
+        }
+
+        @Override
+        protected long internalCount(@Nullable String search, @Nullable String query) {
+            return store.committed.size();
+        }
+
+        @Override
+        protected Item internalCreate(Item entity) {
+            return store.create(entity);
+        }
+
+        @Override
+        protected Item internalFind(Long id) throws NotFoundEntityException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Page<Item> internalPage(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected boolean internalExists(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Item internalUpdate(Item entity) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void internalDelete(Item entity) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    static class OwnedItemProvider extends OwnedEntityCrudProvider<Item, Long, Long, String, String> {
+
+        private final Store store;
+        private final CountCache countCache;
+
+        OwnedItemProvider(Store store, CountCache countCache) {
+            super(Item.class);
+            this.store = store;
+            this.countCache = countCache;
+        }
+
+        @Override
+        protected CountCache getCountCache() {
+            return countCache;
+        }
+
+        @Override
+        protected Item newEntity() {
+            return new Item();
+        }
+
+        @Override
+        protected void mapInput(Long ownerId, String input, Item entity, boolean isNew) {
+            entity.name = input;
+        }
+
+        @Override
+        protected String mapOutput(Long ownerId, Item entity) {
+            return entity.name;
+        }
+
+        @Override
+        protected long internalCount(Long ownerId, @Nullable String search, @Nullable String query) {
+            return store.committed.size();
+        }
+
+        @Override
+        protected Item internalCreate(Long ownerId, Item entity) {
+            return store.create(entity);
+        }
+
+        @Override
+        protected Item internalFind(Long ownerId, Long id) throws NotFoundException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Page<Item> internalPage(Long ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected boolean internalExists(Long ownerId, Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Item internalUpdate(Long ownerId, Item entity) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected void internalDelete(Long ownerId, Item entity) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
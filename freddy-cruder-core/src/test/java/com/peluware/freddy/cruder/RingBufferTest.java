@@ -0,0 +1,96 @@
+package com.peluware.freddy.cruder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferTest {
+
+    @Test
+    void pollsInOfferOrder() {
+        var ring = new RingBuffer<Integer>(8);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(ring.offer(i));
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, ring.poll());
+        }
+        assertNull(ring.poll());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void rejectsOffersWhenFullUntilTheConsumerFreesASlot() {
+        var ring = new RingBuffer<Integer>(3);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i), "capacity is rounded up to a power of two");
+        }
+
+        assertFalse(ring.offer(4));
+        assertEquals(0, ring.poll());
+        assertTrue(ring.offer(4));
+        assertFalse(ring.offer(5));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, ring.poll());
+        }
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void keepsTheOrderOfEachProducerUnderContention() throws InterruptedException {
+        var producers = 4;
+        var perProducer = 10_000;
+        var ring = new RingBuffer<Long>(64);
+        var start = new CountDownLatch(1);
+        var threads = new ArrayList<Thread>();
+        for (int p = 0; p < producers; p++) {
+            var producer = p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                await(start);
+                for (int i = 0; i < perProducer; i++) {
+                    var element = (long) producer << 32 | i;
+                    while (!ring.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+
+        start.countDown();
+        var next = new int[producers];
+        for (int received = 0; received < producers * perProducer; ) {
+            var element = ring.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            var producer = (int) (element >>> 32);
+            assertEquals(next[producer], (int) (long) element, "producer " + producer + " out of order");
+            next[producer]++;
+            received++;
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(ring.isEmpty());
+        for (var count : next) {
+            assertEquals(perProducer, count);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
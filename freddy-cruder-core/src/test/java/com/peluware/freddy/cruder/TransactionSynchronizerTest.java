@@ -0,0 +1,70 @@
+package com.peluware.freddy.cruder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionSynchronizerTest {
+
+    @Test
+    void runsActionsInRegistrationOrderAfterCommit() {
+        var events = new ArrayList<String>();
+
+        var result = TransactionSynchronizer.synchronize(() -> {
+            TransactionSynchronizer.runAfterCommit(() -> events.add("first"));
+            TransactionSynchronizer.runAfterCommit(() -> events.add("second"));
+            events.add("work");
+            return "result";
+        }, () -> events.add("commit"));
+
+        assertEquals("result", result);
+        assertEquals(List.of("work", "commit", "first", "second"), events);
+    }
+
+    @Test
+    void isolatesFailingActions() {
+        var events = new ArrayList<String>();
+        var failure = new IllegalStateException("boom");
+        var reported = new ArrayList<Throwable>();
+        var thread = Thread.currentThread();
+        var handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((_, e) -> reported.add(e));
+        try {
+            var result = TransactionSynchronizer.synchronize(() -> {
+                TransactionSynchronizer.runAfterCommit(() -> {
+                    throw failure;
+                });
+                TransactionSynchronizer.runAfterCommit(() -> events.add("second"));
+                return "result";
+            }, () -> events.add("commit"));
+
+            assertEquals("result", result);
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+
+        assertEquals(List.of("commit", "second"), events);
+        assertEquals(1, reported.size());
+        assertSame(failure, reported.getFirst());
+    }
+
+    @Test
+    void discardsActionsWhenTheCommitFails() {
+        var events = new ArrayList<String>();
+
+        assertThrows(IllegalStateException.class, () -> TransactionSynchronizer.synchronize(() -> {
+            TransactionSynchronizer.runAfterCommit(() -> events.add("action"));
+            return null;
+        }, () -> {
+            throw new IllegalStateException("Rollback");
+        }));
+
+        assertTrue(events.isEmpty());
+    }
+}
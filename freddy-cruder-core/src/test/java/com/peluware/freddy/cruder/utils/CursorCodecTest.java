@@ -0,0 +1,138 @@
+package com.peluware.freddy.cruder.utils;
+
+import com.peluware.freddy.cruder.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorCodecTest {
+
+    private static final String SIGNATURE = "name:ASC,id:ASC";
+
+    enum Status { ACTIVE, INACTIVE }
+
+    @Test
+    void roundTripsScalarValues() {
+        var values = List.of("Zoë.~/+ é", 42L, 7, new BigDecimal("12.50"), true, UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), Status.INACTIVE);
+        var types = List.<Class<?>>of(String.class, Long.class, int.class, BigDecimal.class, Boolean.class, UUID.class, Status.class);
+
+        assertEquals(values, roundTrip(values, types));
+    }
+
+    @Test
+    void roundTripsTemporalValues() {
+        var instant = Instant.parse("2026-03-01T10:15:30.123456789Z");
+        var values = List.of(
+            instant,
+            LocalDate.of(2026, 3, 1),
+            LocalDateTime.of(2026, 3, 1, 10, 15, 30, 123_000_000),
+            OffsetDateTime.of(2026, 3, 1, 10, 15, 30, 0, ZoneOffset.ofHours(-5)),
+            OffsetTime.of(10, 15, 30, 5, ZoneOffset.ofHours(2)),
+            Year.of(2026),
+            Timestamp.from(instant),
+            new java.sql.Date(instant.toEpochMilli()),
+            new Time(instant.toEpochMilli())
+        );
+        var types = List.<Class<?>>of(
+            Instant.class, LocalDate.class, LocalDateTime.class, OffsetDateTime.class, OffsetTime.class,
+            Year.class, Timestamp.class, java.sql.Date.class, Time.class
+        );
+
+        assertEquals(values, roundTrip(values, types));
+    }
+
+    @Test
+    void decodesLegacyDatesToTheExactInstant() {
+        var timestamp = Timestamp.from(Instant.parse("2026-03-01T10:15:30.123456789Z"));
+        var calendar = new GregorianCalendar();
+        calendar.setTimeInMillis(1_700_000_000_123L);
+
+        var decoded = roundTrip(Arrays.asList(timestamp, calendar), List.of(Date.class, Calendar.class));
+
+        var date = assertInstanceOf(Timestamp.class, decoded.get(0));
+        assertEquals(timestamp, date);
+        assertEquals(calendar.getTimeInMillis(), ((Calendar) decoded.get(1)).getTimeInMillis());
+    }
+
+    @Test
+    void roundTripsNullValues() {
+        var values = Arrays.asList(null, 5L);
+
+        var decoded = roundTrip(values, List.of(String.class, Long.class));
+
+        assertNull(decoded.get(0));
+        assertEquals(5L, decoded.get(1));
+    }
+
+    @Test
+    void distinguishesNullFromEmptyString() {
+        var decoded = CursorCodec.decode(SIGNATURE, CursorCodec.encode(SIGNATURE, Arrays.asList("", null)), 2);
+
+        assertEquals("", decoded.get(0));
+        assertNull(decoded.get(1));
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherSort() {
+        var cursor = CursorCodec.encode("name:DESC,id:ASC", List.of("a", 1L));
+
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(SIGNATURE, cursor, 2));
+    }
+
+    @Test
+    void rejectsTamperedCursors() {
+        var cursor = CursorCodec.encode(SIGNATURE, List.of("a", 1L));
+
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(SIGNATURE, cursor + ".AA", 2));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(SIGNATURE, cursor.substring(0, cursor.lastIndexOf('.')), 2));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(SIGNATURE, cursor.replace('.', '!'), 2));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(SIGNATURE, "%%%.$$$.***", 2));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.decode(SIGNATURE, "", 2));
+    }
+
+    @Test
+    void rejectsValuesThatDoNotMatchTheKeyType() {
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.convert("not-a-number", Long.class));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.convert("2026-13-45", LocalDate.class));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.convert("DELETED", Status.class));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.convert("", Character.class));
+    }
+
+    @Test
+    void refusesUnsupportedKeyTypes() {
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.encode(SIGNATURE, List.of(new Object(), 1L)));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.convert("x", Object.class));
+        assertFalse(CursorCodec.isSupported(Object.class));
+    }
+
+    private static List<Object> roundTrip(List<?> values, List<Class<?>> types) {
+        var raw = CursorCodec.decode(SIGNATURE, CursorCodec.encode(SIGNATURE, values), values.size());
+        var decoded = new ArrayList<>();
+        for (int i = 0; i < raw.size(); i++) {
+            decoded.add(CursorCodec.convert(raw.get(i), types.get(i)));
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,79 @@
+package com.peluware.freddy.cruder.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class QueryCanonicalizerTest {
+
+    @Test
+    void rewritesKeywordOperatorsAsSymbols() {
+        assertEquals("age=gt=5;name==a", QueryCanonicalizer.canonicalize("name==a and age=gt=5"));
+        assertEquals("age=gt=5,name==a", QueryCanonicalizer.canonicalize("name==a or age=gt=5"));
+        assertEquals("age=gt=5;name==a", QueryCanonicalizer.canonicalize(" name == a ; age =gt= 5 "));
+    }
+
+    @Test
+    void sortsAndDeduplicatesOperands() {
+        assertEquals("a==1;b==2", QueryCanonicalizer.canonicalize("b==2;a==1;b==2"));
+        assertEquals("a==1", QueryCanonicalizer.canonicalize("a==1,a==1"));
+        assertEquals("a<=1;b!=2;c=ge=3", QueryCanonicalizer.canonicalize("c=ge=3;b!=2;a<=1"));
+    }
+
+    @Test
+    void flattensNestedGroupsOfTheSameOperator() {
+        assertEquals("a==1;b==2;c==3", QueryCanonicalizer.canonicalize("(a==1;(b==2;c==3))"));
+        assertEquals("a==1,b==2,c==3", QueryCanonicalizer.canonicalize("c==3,(b==2,(a==1))"));
+        assertEquals("a==1", QueryCanonicalizer.canonicalize("((a==1))"));
+    }
+
+    @Test
+    void keepsTheParenthesesOfOrGroupsNestedInAndGroups() {
+        assertEquals("(a==1,b==2);c==3", QueryCanonicalizer.canonicalize("c==3 and (b==2 or a==1)"));
+        assertEquals("a==1;b==2,c==3", QueryCanonicalizer.canonicalize("c==3,(b==2;a==1)"));
+    }
+
+    @Test
+    void sortsAndDeduplicatesMultiValueArguments() {
+        assertEquals("status=in=(a,b)", QueryCanonicalizer.canonicalize("status=in=(b, a, b)"));
+        assertEquals("status=out=(a,c)", QueryCanonicalizer.canonicalize("status=out=(c,a,c,a)"));
+        assertEquals("status=in=(a)", QueryCanonicalizer.canonicalize("status=in=a"));
+    }
+
+    @Test
+    void keepsQuotedArgumentsVerbatim() {
+        assertEquals("name=='a;b,(c) and d'", QueryCanonicalizer.canonicalize("name=='a;b,(c) and d'"));
+        assertEquals("age==1;name==\"x = y\"", QueryCanonicalizer.canonicalize("name==\"x = y\" and age==1"));
+        assertEquals("name=='it\\'s'", QueryCanonicalizer.canonicalize("name=='it\\'s'"));
+        assertEquals("tag=in=(\"c)\",'a,b')", QueryCanonicalizer.canonicalize("tag=in=('a,b', \"c)\", 'a,b')"));
+    }
+
+    @Test
+    void returnsUnparsableQueriesTrimmed() {
+        assertEquals("name==", QueryCanonicalizer.canonicalize("  name==  "));
+        assertEquals("(a==1;b==2", QueryCanonicalizer.canonicalize(" (a==1;b==2 "));
+        assertEquals("name=='open", QueryCanonicalizer.canonicalize("name=='open\t"));
+        assertEquals("a==1;;b==2", QueryCanonicalizer.canonicalize("a==1;;b==2"));
+    }
+
+    @Test
+    void returnsNullForBlankQueries() {
+        assertNull(QueryCanonicalizer.canonicalize(null));
+        assertNull(QueryCanonicalizer.canonicalize(" \t"));
+    }
+
+    @Test
+    void fingerprintsEquivalentQueriesEqually() {
+        assertEquals(
+            QueryCanonicalizer.fingerprint("b==2 and (a==1)"),
+            QueryCanonicalizer.fingerprint("a==1;b==2")
+        );
+        assertNotEquals(
+            QueryCanonicalizer.fingerprint("a==1;b==2"),
+            QueryCanonicalizer.fingerprint("a==1,b==2")
+        );
+        assertEquals(0, QueryCanonicalizer.fingerprint(null));
+    }
+}
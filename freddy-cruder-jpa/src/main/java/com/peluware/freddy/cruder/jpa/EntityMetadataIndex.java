@@ -0,0 +1,290 @@
+package com.peluware.freddy.cruder.jpa;
+
+import com.peluware.freddy.cruder.EntityFactory;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable metadata of an entity type, resolved once from the JPA {@link Metamodel}.
+ *
+ * <p>
+ * The index holds the identifier and version attributes, and the attribute paths usable for
+ * sorting together with the joins they require: every basic attribute of the entity, of its
+ * embeddables, and of the entities it references through a to-one association (one hop, e.g.
+ * {@code "category.name"}). It also holds the {@link EntityFactory} of the entity. Paths not
+ * indexed, such as paths crossing collections or several associations, are resolved against
+ * the metamodel on each use.
+ * </p>
+ *
+ * <p>
+ * Indexes are built on first use and kept for the lifetime of the class loader, so JPA
+ * providers and query executors resolve metadata with a single map lookup. {@link #all()}
+ * exposes the built indexes for diagnostics.
+ * </p>
+ *
+ * @param entityClass      the entity class
+ * @param idAttribute      the name of the identifier attribute, or {@code null} if the entity
+ *                         declares an {@code @IdClass}
+ * @param idType           the identifier type, the id class for {@code @IdClass} entities
+ * @param embeddedId       whether the identifier is an {@code @EmbeddedId}
+ * @param versionAttribute the name of the {@code @Version} attribute, or {@code null}
+ * @param paths            the sortable attribute paths, keyed by dotted path
+ * @param factory          the factory creating new entity instances
+ * @param <E>              the entity type
+ * @see JpaUtils#findPath(String, Path, Metamodel)
+ */
+public record EntityMetadataIndex<E>(
+    Class<E> entityClass,
+    @Nullable String idAttribute,
+    Class<?> idType,
+    boolean embeddedId,
+    @Nullable String versionAttribute,
+    Map<String, AttributePath> paths,
+    EntityFactory<E> factory
+) {
+
+    private static final Map<Class<?>, EntityMetadataIndex<?>> INDEXES = new ConcurrentHashMap<>();
+
+    public EntityMetadataIndex {
+        paths = Collections.unmodifiableMap(new LinkedHashMap<>(paths));
+    }
+
+    /**
+     * Returns the index of an entity class, building it on first use.
+     *
+     * @param metamodel   the metamodel declaring the entity
+     * @param entityClass the entity class
+     * @param <E>         the entity type
+     * @return the metadata index of the entity
+     * @throws IllegalArgumentException if the class is not an entity of the metamodel
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> EntityMetadataIndex<E> of(Metamodel metamodel, Class<E> entityClass) {
+        return (EntityMetadataIndex<E>) INDEXES.computeIfAbsent(entityClass, _ -> build(metamodel, entityClass));
+    }
+
+    /**
+     * Returns every index built so far, for diagnostics.
+     *
+     * @return a snapshot of the built indexes
+     */
+    public static Collection<EntityMetadataIndex<?>> all() {
+        return List.copyOf(INDEXES.values());
+    }
+
+    /**
+     * Returns the name of the identifier attribute.
+     *
+     * @return the identifier attribute
+     * @throws IllegalStateException if the entity declares an {@code @IdClass}
+     */
+    public String requireIdAttribute() {
+        if (idAttribute == null) {
+            throw new IllegalStateException("Entity " + entityClass.getName() + " declares an @IdClass and has no single identifier attribute");
+        }
+        return idAttribute;
+    }
+
+    /**
+     * Returns the indexed paths whose value is a string, usable for full-text search.
+     *
+     * @return the searchable attribute paths
+     */
+    public List<AttributePath> searchablePaths() {
+        return paths.values().stream()
+            .filter(AttributePath::isSearchable)
+            .toList();
+    }
+
+    /**
+     * Returns the path of an attribute, from the index or resolved against the metamodel.
+     *
+     * @param metamodel the metamodel declaring the entity
+     * @param property  the dotted attribute path, e.g. {@code "category.name"}
+     * @return the attribute path
+     * @throws IllegalArgumentException if an attribute of the path does not exist
+     */
+    public AttributePath path(Metamodel metamodel, String property) {
+        var path = paths.get(property);
+        if (path != null) {
+            return path;
+        }
+        return resolve(metamodel, metamodel.entity(entityClass), property);
+    }
+
+    private static <E> EntityMetadataIndex<E> build(Metamodel metamodel, Class<E> entityClass) {
+        var entityType = metamodel.entity(entityClass);
+        String idAttribute = null;
+        var embeddedId = false;
+        if (entityType.hasSingleIdAttribute()) {
+            var id = entityType.getId(entityType.getIdType().getJavaType());
+            idAttribute = id.getName();
+            embeddedId = id.getPersistentAttributeType() == Attribute.PersistentAttributeType.EMBEDDED;
+        }
+        var paths = new LinkedHashMap<String, AttributePath>();
+        collect(metamodel, entityType, "", List.of(), false, paths);
+        return new EntityMetadataIndex<>(
+            entityClass,
+            idAttribute,
+            entityType.getIdType().getJavaType(),
+            embeddedId,
+            versionAttribute(entityType),
+            paths,
+            EntityFactory.of(entityClass)
+        );
+    }
+
+    private static @Nullable String versionAttribute(EntityType<?> entityType) {
+        if (!entityType.hasVersionAttribute()) {
+            return null;
+        }
+        for (var attribute : entityType.getSingularAttributes()) {
+            if (attribute.isVersion()) {
+                return attribute.getName();
+            }
+        }
+        return null;
+    }
+
+    private static void collect(Metamodel metamodel, ManagedType<?> type, String prefix, List<Step> steps, boolean viaAssociation, Map<String, AttributePath> paths) {
+        for (var attribute : type.getSingularAttributes()) {
+            var name = prefix + attribute.getName();
+            switch (attribute.getPersistentAttributeType()) {
+                case BASIC -> paths.put(name, new AttributePath(name, append(steps, attribute.getName(), false), attribute.getJavaType()));
+                case EMBEDDED -> {
+                    if (attribute.getType() instanceof ManagedType<?> embeddable) {
+                        collect(metamodel, embeddable, name + ".", append(steps, attribute.getName(), false), viaAssociation, paths);
+                    }
+                }
+                case MANY_TO_ONE, ONE_TO_ONE -> {
+                    if (!viaAssociation && attribute.getType() instanceof ManagedType<?> target) {
+                        collect(metamodel, target, name + ".", append(steps, attribute.getName(), true), true, paths);
+                    }
+                }
+                default -> {
+                    // Not sortable
+                }
+            }
+        }
+    }
+
+    private static AttributePath resolve(Metamodel metamodel, ManagedType<?> root, String property) {
+        var steps = List.<Step>of();
+        ManagedType<?> type = root;
+        Class<?> javaType = root.getJavaType();
+        for (var segment : property.split("\\.")) {
+            if (type == null) {
+                throw new IllegalArgumentException("Cannot traverse basic attribute in path [" + property + "] of " + root.getJavaType().getName());
+            }
+            var attribute = type.getAttribute(segment);
+            var join = attribute.isAssociation() || attribute.isCollection();
+            steps = append(steps, segment, join);
+            var target = switch (attribute) {
+                case PluralAttribute<?, ?, ?> plural -> plural.getElementType();
+                case SingularAttribute<?, ?> singular -> singular.getType();
+                default -> null;
+            };
+            type = target instanceof ManagedType<?> managed ? managed : null;
+            javaType = target != null ? target.getJavaType() : attribute.getJavaType();
+        }
+        return new AttributePath(property, steps, javaType);
+    }
+
+    /**
+     * Appends a step; a join step turns the embeddable steps right before it into joins, since
+     * an association can only be joined from a join.
+     */
+    private static List<Step> append(List<Step> steps, String attribute, boolean join) {
+        var result = new ArrayList<>(steps);
+        if (join) {
+            for (var i = result.size() - 1; i >= 0 && !result.get(i).join(); i--) {
+                result.set(i, new Step(result.get(i).attribute(), true));
+            }
+        }
+        result.add(new Step(attribute, join));
+        return List.copyOf(result);
+    }
+
+    /**
+     * An attribute path and the way to reach it from the entity root.
+     *
+     * @param path     the dotted attribute path
+     * @param steps    the attributes traversed, in order
+     * @param javaType the type of the value at the end of the path
+     */
+    public record AttributePath(String path, List<Step> steps, Class<?> javaType) {
+
+        public AttributePath {
+            steps = List.copyOf(steps);
+        }
+
+        /**
+         * Indicates whether reaching the attribute requires joining other tables.
+         *
+         * @return {@code true} if any step is a join
+         */
+        public boolean requiresJoin() {
+            return steps.stream().anyMatch(Step::join);
+        }
+
+        /**
+         * Indicates whether the attribute holds text, usable for full-text search.
+         *
+         * @return {@code true} for string attributes
+         */
+        public boolean isSearchable() {
+            return javaType == String.class;
+        }
+
+        /**
+         * Builds the criteria path of the attribute from a query root, reusing the left joins
+         * already present on the root.
+         *
+         * @param root the path of the entity, usually the query root
+         * @return the criteria path of the attribute
+         */
+        public Path<?> apply(Path<?> root) {
+            Path<?> current = root;
+            for (var step : steps) {
+                current = step.join() && current instanceof From<?, ?> from
+                    ? join(from, step.attribute())
+                    : current.get(step.attribute());
+            }
+            return current;
+        }
+
+        private static From<?, ?> join(From<?, ?> from, String attribute) {
+            for (var join : from.getJoins()) {
+                if (join.getJoinType() == JoinType.LEFT && join.getAttribute().getName().equals(attribute)) {
+                    return join;
+                }
+            }
+            return from.join(attribute, JoinType.LEFT);
+        }
+    }
+
+    /**
+     * One attribute traversed by an {@link AttributePath}.
+     *
+     * @param attribute the attribute name
+     * @param join      whether the attribute is reached through a left join
+     */
+    public record Step(String attribute, boolean join) {
+    }
+}
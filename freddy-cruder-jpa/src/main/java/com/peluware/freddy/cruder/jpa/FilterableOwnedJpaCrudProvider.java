@@ -3,19 +3,32 @@ package com.peluware.freddy.cruder.jpa;
 import com.peluware.domain.Page;
 import com.peluware.domain.Pagination;
 import com.peluware.domain.Sort;
+import com.peluware.freddy.cruder.CountResult;
+import com.peluware.freddy.cruder.CountStrategy;
+import com.peluware.freddy.cruder.CursorPage;
 import com.peluware.freddy.cruder.EntityCrudEvents;
 import com.peluware.freddy.cruder.NotFoundEntityException;
 import com.peluware.freddy.cruder.OwnedEntityCrudProvider;
 import com.peluware.freddy.cruder.OwnedId;
+import com.peluware.freddy.cruder.Slice;
+import com.peluware.freddy.cruder.utils.CollectionUtils;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * JPA-specific implementation of {@link OwnedEntityCrudProvider} that builds all queries
@@ -153,7 +166,8 @@ public abstract class FilterableOwnedJpaCrudProvider<ENTITY, OWNER_ID, ID, INPUT
 
     /**
      * Retrieves a paginated list of entities belonging to the given owner, matching
-     * the given search and query filters. Uses a deferred count strategy.
+     * the given search and query filters. Uses a deferred count strategy resolved through
+     * {@link #countTotal}, which honors the count cache when one is configured.
      */
     @Override
     protected Page<ENTITY> internalPage(OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
@@ -166,7 +180,120 @@ public abstract class FilterableOwnedJpaCrudProvider<ENTITY, OWNER_ID, ID, INPUT
             content,
             pagination,
             sort,
-            () -> internalCount(ownerId, search, query)
+            () -> countTotal(ownerId, search, query)
+        );
+    }
+
+    /**
+     * Retrieves a page of entities belonging to the given owner without count query through
+     * {@link JpaCriteriaExecutor#slice}, fetching one extra row to detect whether another page follows.
+     */
+    @Override
+    protected Slice<ENTITY> internalSlice(OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return runQuery(
+            entityClass,
+            (root, cb) -> cb.and(buildOwnerPredicate(root, cb, ownerId), buildSearchPredicate(root, cb, search, query)),
+            JpaCriteriaExecutor.slice(sort, pagination)
+        );
+    }
+
+    /**
+     * Retrieves a page of outputs belonging to the given owner, selected through
+     * {@link #getProjection()}, with the same deferred count as {@link #internalPage}.
+     */
+    @Override
+    protected Page<OUTPUT> internalProjectedPage(OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        var projection = requireProjection();
+        var content = runQuery(
+            projection.getType(),
+            (root, cb) -> cb.and(buildOwnerPredicate(root, cb, ownerId), buildSearchPredicate(root, cb, search, query)),
+            JpaCriteriaExecutor.list(projection, sort, pagination)
+        );
+        return Page.deferred(
+            content,
+            pagination,
+            sort,
+            () -> countTotal(ownerId, search, query)
+        );
+    }
+
+    /**
+     * Retrieves a page of outputs belonging to the given owner, selected through
+     * {@link #getProjection()} without count query.
+     */
+    @Override
+    protected Slice<OUTPUT> internalProjectedSlice(OWNER_ID ownerId, @Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        var projection = requireProjection();
+        return runQuery(
+            projection.getType(),
+            (root, cb) -> cb.and(buildOwnerPredicate(root, cb, ownerId), buildSearchPredicate(root, cb, search, query)),
+            JpaCriteriaExecutor.slice(projection, sort, pagination)
+        );
+    }
+
+    /**
+     * Finds the output of an entity by owner and identifier, selected through {@link #getProjection()}.
+     *
+     * @throws NotFoundEntityException if no entity matches both identifiers
+     */
+    @Override
+    protected OUTPUT internalProjectedFind(OWNER_ID ownerId, ID id) throws NotFoundEntityException {
+        var projection = requireProjection();
+        return runQuery(
+            projection.getType(),
+            (root, cb) -> cb.and(buildOwnerPredicate(root, cb, ownerId), buildIdPredicate(root, cb, id)),
+            JpaCriteriaExecutor.first(projection)
+        ).orElseThrow(() -> new NotFoundEntityException(entityClass, new OwnedId<>(ownerId, id)));
+    }
+
+    /**
+     * Reads the outputs within the owner's scope selected through {@link #getProjection()} with
+     * one {@code IN} query per chunk of {@link #getInListLimit()} identifiers, selecting the
+     * identifier alongside.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Map<ID, OUTPUT> internalProjectedFindAll(OWNER_ID ownerId, List<ID> ids) {
+        var projection = requireProjection();
+        var idFieldName = JpaUtils.getIdFieldName(entityManager.getMetamodel(), entityClass);
+        var outputs = new HashMap<ID, OUTPUT>();
+        for (var chunk : CollectionUtils.partition(ids, getInListLimit())) {
+            var rows = runQuery(
+                Tuple.class,
+                (root, cb) -> cb.and(buildOwnerPredicate(root, cb, ownerId), buildIdsPredicate(root, cb, chunk)),
+                JpaCriteriaExecutor.keyed(projection, idFieldName)
+            );
+            rows.forEach((id, output) -> outputs.put((ID) id, output));
+        }
+        return outputs;
+    }
+
+    /**
+     * Retrieves a window of entities belonging to the given owner using keyset pagination
+     * through {@link JpaCriteriaExecutor#keyset}, seeking on the sort keys and the identifier
+     * instead of skipping rows with an offset.
+     */
+    @Override
+    protected CursorPage<ENTITY> internalPageByCursor(OWNER_ID ownerId, @Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) {
+        return runQuery(
+            Tuple.class,
+            (root, cb) -> cb.and(buildOwnerPredicate(root, cb, ownerId), buildSearchPredicate(root, cb, search, query)),
+            JpaCriteriaExecutor.keyset(sort, JpaUtils.getIdFieldName(entityManager.getMetamodel(), entityClass), cursor, size)
+        );
+    }
+
+    /**
+     * Streams entities belonging to the given owner matching the given search and query filters
+     * through a cursor-backed {@link jakarta.persistence.TypedQuery#getResultStream()}, applying a
+     * JDBC fetch size of {@link #getFetchSize()} rows unless {@link #getQueryHints()} already sets one.
+     */
+    @Override
+    protected Stream<ENTITY> internalStream(OWNER_ID ownerId, @Nullable String search, @Nullable String query, Sort sort) {
+        return runQuery(
+            entityClass,
+            (root, cb) -> cb.and(buildOwnerPredicate(root, cb, ownerId), buildSearchPredicate(root, cb, search, query)),
+            JpaCriteriaExecutor.stream(sort),
+            JpaUtils.withFetchSize(getQueryHints(), getFetchSize())
         );
     }
 
@@ -182,6 +309,19 @@ public abstract class FilterableOwnedJpaCrudProvider<ENTITY, OWNER_ID, ID, INPUT
         );
     }
 
+    /**
+     * Counts entities belonging to the given owner with a capped or estimated strategy through
+     * {@link JpaCriteriaExecutor#count(CountStrategy, String)}.
+     */
+    @Override
+    protected CountResult internalCount(OWNER_ID ownerId, @Nullable String search, @Nullable String query, CountStrategy strategy) {
+        return runQuery(
+            Long.class,
+            (root, cb) -> cb.and(buildOwnerPredicate(root, cb, ownerId), buildSearchPredicate(root, cb, search, query)),
+            JpaCriteriaExecutor.count(strategy, JpaUtils.getIdFieldName(entityManager.getMetamodel(), entityClass))
+        );
+    }
+
     /**
      * Checks whether an entity with the given identifier exists within the owner's scope.
      */
@@ -194,6 +334,48 @@ public abstract class FilterableOwnedJpaCrudProvider<ENTITY, OWNER_ID, ID, INPUT
         );
     }
 
+    /**
+     * Loads the entities within the owner's scope with one {@code IN} query per chunk of {@link #getInListLimit()}
+     * identifiers, keying them through {@link jakarta.persistence.PersistenceUnitUtil#getIdentifier}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Map<ID, ENTITY> internalFindAll(OWNER_ID ownerId, List<ID> ids) {
+        var util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        var entities = new HashMap<ID, ENTITY>();
+        for (var chunk : CollectionUtils.partition(ids, getInListLimit())) {
+            var content = runQuery(
+                entityClass,
+                (root, cb) -> cb.and(buildOwnerPredicate(root, cb, ownerId), buildIdsPredicate(root, cb, chunk)),
+                JpaCriteriaExecutor.list()
+            );
+            for (var entity : content) {
+                entities.put((ID) util.getIdentifier(entity), entity);
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Selects the existing identifiers within the owner's scope with one {@code IN} query per chunk of
+     * {@link #getInListLimit()} identifiers, without loading entities.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Set<ID> internalExistsAll(OWNER_ID ownerId, List<ID> ids) {
+        var idFieldName = JpaUtils.getIdFieldName(entityManager.getMetamodel(), entityClass);
+        var existing = new HashSet<ID>();
+        for (var chunk : CollectionUtils.partition(ids, getInListLimit())) {
+            var found = runQuery(
+                Object.class,
+                (root, cb) -> cb.and(buildOwnerPredicate(root, cb, ownerId), buildIdsPredicate(root, cb, chunk)),
+                JpaCriteriaExecutor.ids(idFieldName)
+            );
+            found.forEach(id -> existing.add((ID) id));
+        }
+        return existing;
+    }
+
     /**
      * Persists a new entity via {@link EntityManager#persist}.
      */
@@ -227,6 +409,101 @@ public abstract class FilterableOwnedJpaCrudProvider<ENTITY, OWNER_ID, ID, INPUT
         return JpaUtils.requireTransaction(entityManager, function);
     }
 
+    /**
+     * Returns the JDBC batch size configured for the persistence unit
+     * ({@value JpaUtils#BATCH_SIZE_PROPERTY}), falling back to {@value JpaUtils#DEFAULT_BATCH_SIZE}.
+     */
+    @Override
+    protected int getBatchSize() {
+        return JpaUtils.getBatchSize(entityManager, JpaUtils.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the JDBC fetch size applied to streaming reads.
+     *
+     * <p>
+     * The default implementation returns {@value JpaUtils#DEFAULT_FETCH_SIZE}. Subclasses may
+     * override to trade round trips for driver-side buffering; non-positive values leave the
+     * driver default in place.
+     * </p>
+     *
+     * @return the number of rows fetched per round trip
+     */
+    protected int getFetchSize() {
+        return JpaUtils.DEFAULT_FETCH_SIZE;
+    }
+
+    /**
+     * Returns the maximum number of identifiers bound to a single {@code IN} list by
+     * {@code findAll} and {@code existsAll}.
+     *
+     * <p>
+     * The default implementation resolves the limit of the configured database through
+     * {@link JpaUtils#getInListLimit}, falling back to {@value JpaUtils#DEFAULT_IN_LIST_LIMIT}.
+     * </p>
+     *
+     * @return the chunk size of bulk lookups, must be positive
+     */
+    protected int getInListLimit() {
+        return JpaUtils.getInListLimit(entityManager, JpaUtils.DEFAULT_IN_LIST_LIMIT);
+    }
+
+    /**
+     * Allows parallel mapping only when every attribute of the entities is already loaded
+     * (see {@link JpaUtils#isFullyLoaded}), since the persistence context is bound to the
+     * calling thread and must not lazily load from worker threads.
+     */
+    @Override
+    protected boolean isParallelMappingSafe(List<ENTITY> entities) {
+        return JpaUtils.isFullyLoaded(entityManager, entityClass, entities);
+    }
+
+    /**
+     * Returns the projection used to read outputs without loading entities, or {@code null} to
+     * map entities through {@code mapOutput}.
+     *
+     * <p>
+     * When a projection is returned, {@code page}, {@code slice} and {@code find} select its
+     * attribute paths directly into {@code OUTPUT} instances, applying the search predicate,
+     * {@link #predicateFilter} and the sort exactly as entity reads do. Entity events and
+     * {@code mapOutput} are skipped for those reads. The default implementation returns
+     * {@code null}.
+     * </p>
+     *
+     * @return the output projection, or {@code null}
+     */
+    protected @Nullable JpaProjection<OUTPUT> getProjection() {
+        return null;
+    }
+
+    /**
+     * Enables projection mode when {@link #getProjection()} returns a projection.
+     */
+    @Override
+    protected boolean isProjectionEnabled() {
+        return getProjection() != null;
+    }
+
+    private JpaProjection<OUTPUT> requireProjection() {
+        return Objects.requireNonNull(getProjection(), "Projection mode requires getProjection() to return a projection");
+    }
+
+    /**
+     * Flushes the persistence context so that each bulk chunk is sent as a JDBC batch.
+     */
+    @Override
+    protected void internalFlush() {
+        entityManager.flush();
+    }
+
+    /**
+     * Detaches the entity from the persistence context via {@link EntityManager#detach}.
+     */
+    @Override
+    protected void internalDetach(ENTITY entity) {
+        entityManager.detach(entity);
+    }
+
     // ------------------------------------------------------------
     // QUERY INFRASTRUCTURE
     // ------------------------------------------------------------
@@ -285,7 +562,7 @@ public abstract class FilterableOwnedJpaCrudProvider<ENTITY, OWNER_ID, ID, INPUT
      * Applies global predicate filters to every read query before execution.
      *
      * <p>
-     * This hook is called for all read operations ({@code find}, {@code page},
+     * This hook is called for all read operations ({@code find}, {@code page}, {@code stream},
      * {@code count}, {@code exists}) but <strong>not</strong> for write operations
      * ({@code create}, {@code update}, {@code delete}), which bypass the Criteria API.
      * </p>
@@ -359,6 +636,19 @@ public abstract class FilterableOwnedJpaCrudProvider<ENTITY, OWNER_ID, ID, INPUT
         return cb.equal(root.get(idFieldName), id);
     }
 
+    /**
+     * Builds a predicate matching the entity's identifier field against any of the given {@code ids}.
+     *
+     * @param root the query root
+     * @param cb   the criteria builder
+     * @param ids  the identifier values to match
+     * @return an {@code IN} predicate on the ID field
+     */
+    protected Predicate buildIdsPredicate(Root<ENTITY> root, CriteriaBuilder cb, Collection<ID> ids) {
+        var idFieldName = JpaUtils.getIdFieldName(entityManager.getMetamodel(), entityClass);
+        return root.get(idFieldName).in(ids);
+    }
+
     /**
      * Returns JPA query hints to apply to every query executed by this provider.
      *
@@ -1,17 +1,33 @@
 package com.peluware.freddy.cruder.jpa;
 
+import com.peluware.domain.Order;
 import com.peluware.domain.Pagination;
 import com.peluware.domain.Sort;
-import com.peluware.omnisearch.jpa.JpaUtils;
+import com.peluware.freddy.cruder.CountResult;
+import com.peluware.freddy.cruder.CountStrategy;
+import com.peluware.freddy.cruder.CursorPage;
+import com.peluware.freddy.cruder.InvalidCursorException;
+import com.peluware.freddy.cruder.Slice;
+import com.peluware.freddy.cruder.utils.CursorCodec;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @FunctionalInterface
@@ -44,6 +60,104 @@ public interface JpaCriteriaExecutor<SELECTED, RESULT, RETURN> {
         };
     }
 
+    /**
+     * Offset pagination without count query.
+     *
+     * <p>
+     * Fetches one row past the requested page to detect whether another page follows,
+     * so the caller never needs a {@code COUNT} to build the result.
+     * </p>
+     *
+     * @param sort       the requested ordering
+     * @param pagination the requested page
+     * @param <SELECTED> the selected entity type
+     * @return an executor producing the slice
+     * @see Slice#ofProbe(List, Pagination, Sort)
+     */
+    static <SELECTED> JpaCriteriaExecutor<SELECTED, SELECTED, Slice<SELECTED>> slice(Sort sort, Pagination pagination) {
+        return (cq, root, em, hints) -> {
+            CriteriaBuilder cb = em.getCriteriaBuilder();
+            cq.select(root);
+
+            if (sort.isSorted()) {
+                cq.orderBy(JpaUtils.getOrders(sort, root, cb, em.getMetamodel()));
+            }
+
+            TypedQuery<SELECTED> query = createTypedQuery(cq, em, hints);
+
+            if (pagination.isPaginated()) {
+                query
+                    .setFirstResult(pagination.getNumber() * pagination.getSize())
+                    .setMaxResults(pagination.getSize() + 1);
+            }
+
+            return Slice.ofProbe(query.getResultList(), pagination, sort);
+        };
+    }
+
+    /**
+     * Offset pagination selecting a {@link JpaProjection} instead of the entity.
+     *
+     * @param projection the projection to select
+     * @param sort       the requested ordering
+     * @param pagination the requested page
+     * @param <SELECTED> the selected entity type
+     * @param <RESULT>   the projected type
+     * @return an executor producing the projected rows
+     */
+    static <SELECTED, RESULT> JpaCriteriaExecutor<SELECTED, RESULT, List<RESULT>> list(JpaProjection<RESULT> projection, Sort sort, Pagination pagination) {
+        return (cq, root, em, hints) -> {
+            CriteriaBuilder cb = em.getCriteriaBuilder();
+            cq.select(projection.select(cb, root, em.getMetamodel()));
+
+            if (sort.isSorted()) {
+                cq.orderBy(JpaUtils.getOrders(sort, root, cb, em.getMetamodel()));
+            }
+
+            TypedQuery<RESULT> query = createTypedQuery(cq, em, hints);
+
+            if (pagination.isPaginated()) {
+                query
+                    .setFirstResult(pagination.getNumber() * pagination.getSize())
+                    .setMaxResults(pagination.getSize());
+            }
+
+            return query.getResultList();
+        };
+    }
+
+    /**
+     * Offset pagination without count query selecting a {@link JpaProjection} instead of the
+     * entity, fetching one extra row like {@link #slice(Sort, Pagination)}.
+     *
+     * @param projection the projection to select
+     * @param sort       the requested ordering
+     * @param pagination the requested page
+     * @param <SELECTED> the selected entity type
+     * @param <RESULT>   the projected type
+     * @return an executor producing the slice of projected rows
+     */
+    static <SELECTED, RESULT> JpaCriteriaExecutor<SELECTED, RESULT, Slice<RESULT>> slice(JpaProjection<RESULT> projection, Sort sort, Pagination pagination) {
+        return (cq, root, em, hints) -> {
+            CriteriaBuilder cb = em.getCriteriaBuilder();
+            cq.select(projection.select(cb, root, em.getMetamodel()));
+
+            if (sort.isSorted()) {
+                cq.orderBy(JpaUtils.getOrders(sort, root, cb, em.getMetamodel()));
+            }
+
+            TypedQuery<RESULT> query = createTypedQuery(cq, em, hints);
+
+            if (pagination.isPaginated()) {
+                query
+                    .setFirstResult(pagination.getNumber() * pagination.getSize())
+                    .setMaxResults(pagination.getSize() + 1);
+            }
+
+            return Slice.ofProbe(query.getResultList(), pagination, sort);
+        };
+    }
+
     static <SELECTED> JpaCriteriaExecutor<SELECTED, SELECTED, List<SELECTED>> list(Sort sort) {
         return list(sort, Pagination.unpaginated());
     }
@@ -67,6 +181,55 @@ public interface JpaCriteriaExecutor<SELECTED, RESULT, RETURN> {
         };
     }
 
+    /**
+     * Count executed with the restriction narrowed to match no row.
+     *
+     * <p>
+     * The persistence provider translates a criteria query to SQL when it is executed, so a
+     * warm-up has to run the query to compile its shape. The restriction is combined with an
+     * always-false predicate, which the database resolves without reading the table; the
+     * result is always {@code 0}.
+     * </p>
+     *
+     * @param <SELECTED> the selected entity type
+     * @return an executor counting no row
+     * @see JpaWarmUp
+     */
+    static <SELECTED> JpaCriteriaExecutor<SELECTED, Long, Long> countNone() {
+        return (cq, root, em, hints) -> {
+            CriteriaBuilder cb = em.getCriteriaBuilder();
+            var restriction = cq.getRestriction();
+            cq.where(restriction != null ? cb.and(restriction, cb.disjunction()) : cb.disjunction());
+            cq.select(cb.count(root));
+
+            return createTypedQuery(cq, em, hints).getSingleResult();
+        };
+    }
+
+    /**
+     * Count following the given {@link CountStrategy}.
+     *
+     * <p>
+     * {@link CountStrategy.Capped} selects a constant for at most {@code limit + 1} matching rows,
+     * so the database stops scanning once the limit is exceeded; the limit is then reported as a
+     * lower bound. {@link CountStrategy.Estimated} reads the bounds of {@code idAttribute}, counts
+     * the matches within a random id range covering the sample ratio of that span, and scales the
+     * result up. Entities whose identifier is not an integral number are counted exactly.
+     * </p>
+     *
+     * @param strategy    the count strategy
+     * @param idAttribute the identifier attribute used to sample ranges
+     * @param <SELECTED>  the selected entity type
+     * @return an executor producing the count and its accuracy
+     */
+    static <SELECTED> JpaCriteriaExecutor<SELECTED, Long, CountResult> count(CountStrategy strategy, String idAttribute) {
+        return (cq, path, em, hints) -> switch (strategy) {
+            case CountStrategy.Exact _ -> CountResult.exact(JpaCriteriaExecutor.<SELECTED>count().exec(cq, path, em, hints));
+            case CountStrategy.Capped capped -> countCapped(cq, em, hints, capped.limit());
+            case CountStrategy.Estimated estimated -> countEstimated(cq, path, em, hints, idAttribute, estimated.sampleRatio());
+        };
+    }
+
     static <SELECTED> JpaCriteriaExecutor<SELECTED, Long, Boolean> exists() {
         return (cq, _, em, hints) -> {
             CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -81,6 +244,23 @@ public interface JpaCriteriaExecutor<SELECTED, RESULT, RETURN> {
         };
     }
 
+    /**
+     * Identifiers of the matching rows, selecting only {@code idAttribute} instead of the entity.
+     *
+     * @param idAttribute the identifier attribute to select
+     * @param <SELECTED>  the selected entity type
+     * @return an executor producing the matching identifiers
+     */
+    static <SELECTED> JpaCriteriaExecutor<SELECTED, Object, List<Object>> ids(String idAttribute) {
+        return (cq, path, em, hints) -> {
+            cq.select(path.get(idAttribute));
+
+            TypedQuery<Object> query = createTypedQuery(cq, em, hints);
+
+            return query.getResultList();
+        };
+    }
+
     static <SELECTED> JpaCriteriaExecutor<SELECTED, SELECTED, Optional<SELECTED>> first() {
         return (cq, root, em, hints) -> {
             cq.select(root);
@@ -95,6 +275,51 @@ public interface JpaCriteriaExecutor<SELECTED, RESULT, RETURN> {
         };
     }
 
+    /**
+     * First row selecting a {@link JpaProjection} instead of the entity.
+     *
+     * @param projection the projection to select
+     * @param <SELECTED> the selected entity type
+     * @param <RESULT>   the projected type
+     * @return an executor producing the first projected row, if any
+     */
+    static <SELECTED, RESULT> JpaCriteriaExecutor<SELECTED, RESULT, Optional<RESULT>> first(JpaProjection<RESULT> projection) {
+        return (cq, root, em, hints) -> {
+            cq.select(projection.select(em.getCriteriaBuilder(), root, em.getMetamodel()));
+
+            TypedQuery<RESULT> query = createTypedQuery(cq, em, hints);
+
+            return query
+                .setMaxResults(1)
+                .getResultList()
+                .stream()
+                .findFirst();
+        };
+    }
+
+    /**
+     * Rows selecting a {@link JpaProjection} together with the identifier, keyed by identifier.
+     *
+     * @param projection  the projection to select
+     * @param idAttribute the name of the identifier attribute
+     * @param <SELECTED>  the selected entity type
+     * @param <RESULT>    the projected type
+     * @return an executor producing the projected rows keyed by identifier
+     */
+    static <SELECTED, RESULT> JpaCriteriaExecutor<SELECTED, Tuple, Map<Object, RESULT>> keyed(JpaProjection<RESULT> projection, String idAttribute) {
+        return (cq, root, em, hints) -> {
+            cq.multiselect(root.get(idAttribute), projection.select(em.getCriteriaBuilder(), root, em.getMetamodel()));
+
+            TypedQuery<Tuple> query = createTypedQuery(cq, em, hints);
+
+            var rows = new HashMap<Object, RESULT>();
+            for (var tuple : query.getResultList()) {
+                rows.put(tuple.get(0), projection.getType().cast(tuple.get(1)));
+            }
+            return rows;
+        };
+    }
+
     static <SELECTED> JpaCriteriaExecutor<SELECTED, SELECTED, SELECTED> one() {
         return (cq, path, em, hints) -> {
             cq.select(path);
@@ -117,6 +342,245 @@ public interface JpaCriteriaExecutor<SELECTED, RESULT, RETURN> {
         };
     }
 
+    static <SELECTED> JpaCriteriaExecutor<SELECTED, SELECTED, Stream<SELECTED>> stream(Sort sort) {
+        return (cq, root, em, hints) -> {
+            CriteriaBuilder cb = em.getCriteriaBuilder();
+            cq.select(root);
+
+            if (sort.isSorted()) {
+                cq.orderBy(JpaUtils.getOrders(sort, root, cb, em.getMetamodel()));
+            }
+
+            TypedQuery<SELECTED> query = createTypedQuery(cq, em, hints);
+
+            return query
+                .getResultStream();
+        };
+    }
+
+    /**
+     * Keyset (seek) pagination over the selected path.
+     *
+     * <p>
+     * The sort orders are extended with {@code idAttribute} as a tie-breaker, and the window
+     * starts right after the key values carried by {@code cursor}, through a predicate of the form
+     * {@code (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...} combined with the existing restriction.
+     * One extra row is fetched to detect whether a next window exists, so no {@code OFFSET}
+     * and no count query are issued.
+     * </p>
+     *
+     * <p>
+     * Null key values are ordered after every other value in ascending order and before them in
+     * descending order, whatever the database default: keys that may be null are ordered by a
+     * {@code CASE WHEN k IS NULL} rank first, and compared with {@code IS NULL} /
+     * {@code IS NOT NULL} in the seek predicate. Keys mapped to a non-optional attribute of the
+     * entity itself, such as the identifier, are ordered and compared directly.
+     * </p>
+     *
+     * @param sort        the requested ordering
+     * @param idAttribute the identifier attribute appended as tie-breaker
+     * @param cursor      the cursor of the previous window, or {@code null} for the first one
+     * @param size        maximum number of elements in the window
+     * @param <SELECTED>  the selected entity type
+     * @return an executor producing the window and the cursor of the next one
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another sort, or
+     *                                if a sort key has a type cursors cannot carry
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <SELECTED> JpaCriteriaExecutor<SELECTED, Tuple, CursorPage<SELECTED>> keyset(Sort sort, String idAttribute, @Nullable String cursor, int size) {
+        return (cq, path, em, hints) -> {
+            CriteriaBuilder cb = em.getCriteriaBuilder();
+
+            var orders = new ArrayList<Order>();
+            if (sort.isSorted()) {
+                orders.addAll(sort.orders());
+            }
+            if (orders.stream().noneMatch(order -> order.property().equals(idAttribute))) {
+                orders.add(new Order(idAttribute, Order.Direction.ASC));
+            }
+
+            var keys = new ArrayList<Path<?>>(orders.size());
+            var nullable = new boolean[orders.size()];
+            for (int i = 0; i < orders.size(); i++) {
+                var key = JpaUtils.findPath(orders.get(i).property(), path, em.getMetamodel());
+                if (!CursorCodec.isSupported(key.getJavaType())) {
+                    throw new InvalidCursorException("Unsupported cursor key type " + key.getJavaType().getSimpleName() + " for sort property [" + orders.get(i).property() + "]");
+                }
+                keys.add(key);
+                nullable[i] = isNullable(key, path);
+            }
+
+            var signature = orders.stream()
+                .map(order -> order.property() + ":" + order.direction())
+                .collect(Collectors.joining(","));
+
+            if (cursor != null) {
+                var raw = CursorCodec.decode(signature, cursor, keys.size());
+                var values = new ArrayList<@Nullable Object>(keys.size());
+                for (int i = 0; i < keys.size(); i++) {
+                    values.add(CursorCodec.convert(raw.get(i), keys.get(i).getJavaType()));
+                }
+                var seek = new ArrayList<Predicate>(keys.size());
+                for (int i = 0; i < keys.size(); i++) {
+                    var after = after((Expression<Comparable>) keys.get(i), (Comparable) values.get(i), orders.get(i).direction(), nullable[i], cb);
+                    if (after == null) {
+                        continue;
+                    }
+                    var conjunction = new ArrayList<Predicate>(i + 1);
+                    for (int j = 0; j < i; j++) {
+                        var value = values.get(j);
+                        conjunction.add(value == null ? cb.isNull(keys.get(j)) : cb.equal(keys.get(j), value));
+                    }
+                    conjunction.add(after);
+                    seek.add(cb.and(conjunction.toArray(Predicate[]::new)));
+                }
+                var after = seek.isEmpty() ? cb.disjunction() : cb.or(seek.toArray(Predicate[]::new));
+                var restriction = cq.getRestriction();
+                cq.where(restriction != null ? cb.and(restriction, after) : after);
+            }
+
+            var selections = new ArrayList<Selection<?>>(keys.size() + 1);
+            selections.add(path);
+            selections.addAll(keys);
+            cq.multiselect(selections);
+
+            var jpaOrders = new ArrayList<jakarta.persistence.criteria.Order>(keys.size() * 2);
+            for (int i = 0; i < keys.size(); i++) {
+                var ascending = orders.get(i).direction() == Order.Direction.ASC;
+                if (nullable[i]) {
+                    var nullRank = cb.<Integer>selectCase()
+                        .when(cb.isNull(keys.get(i)), 1)
+                        .otherwise(0);
+                    jpaOrders.add(ascending ? cb.asc(nullRank) : cb.desc(nullRank));
+                }
+                jpaOrders.add(ascending ? cb.asc(keys.get(i)) : cb.desc(keys.get(i)));
+            }
+            cq.orderBy(jpaOrders);
+
+            List<Tuple> rows = createTypedQuery(cq, em, hints)
+                .setMaxResults(size + 1)
+                .getResultList();
+
+            var hasNext = rows.size() > size;
+            var window = hasNext ? rows.subList(0, size) : rows;
+
+            var content = new ArrayList<SELECTED>(window.size());
+            for (var row : window) {
+                content.add((SELECTED) row.get(0));
+            }
+
+            if (!hasNext) {
+                return new CursorPage<>(content, null);
+            }
+
+            var last = window.getLast();
+            var values = new ArrayList<@Nullable Object>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                values.add(last.get(i + 1));
+            }
+            return new CursorPage<>(content, CursorCodec.encode(signature, values));
+        };
+    }
+
+    /**
+     * Predicate selecting the rows ordered strictly after {@code value} on one key, nulls being
+     * greater than every other value; {@code null} when no row can follow.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @Nullable Predicate after(Expression<Comparable> key, @Nullable Comparable value, Order.Direction direction, boolean nullable, CriteriaBuilder cb) {
+        if (direction == Order.Direction.ASC) {
+            if (value == null) {
+                return null;
+            }
+            return nullable
+                ? cb.or(cb.greaterThan(key, value), cb.isNull(key))
+                : cb.greaterThan(key, value);
+        }
+        return value == null
+            ? cb.isNotNull(key)
+            : cb.lessThan(key, value);
+    }
+
+    /**
+     * Indicates whether a sort key may hold null: only primitives and non-optional attributes of
+     * the entity itself are known to be non-null.
+     */
+    private static boolean isNullable(Path<?> key, Path<?> root) {
+        if (key.getJavaType().isPrimitive()) {
+            return false;
+        }
+        return !(key.getParentPath() == root && key.getModel() instanceof SingularAttribute<?, ?> attribute && !attribute.isOptional());
+    }
+
+    private static CountResult countCapped(CriteriaQuery<Long> cq, EntityManager em, Map<String, Object> hints, long limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        cq.select(cb.literal(1L));
+
+        var matches = createTypedQuery(cq, em, hints)
+            .setMaxResults((int) Math.min(limit + 1, Integer.MAX_VALUE))
+            .getResultList()
+            .size();
+
+        return matches > limit
+            ? CountResult.atLeast(limit)
+            : CountResult.exact(matches);
+    }
+
+    private static <SELECTED> CountResult countEstimated(CriteriaQuery<Long> cq, Path<SELECTED> path, EntityManager em, Map<String, Object> hints, String idAttribute, double sampleRatio) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        Path<Number> id = path.get(idAttribute);
+        var idType = id.getJavaType();
+
+        if (!isIntegral(idType)) {
+            return CountResult.exact(JpaCriteriaExecutor.<SELECTED>count().exec(cq, path, em, hints));
+        }
+
+        var bounds = cb.createTupleQuery();
+        Path<Number> boundsId = bounds.from(path.getJavaType()).get(idAttribute);
+        bounds.multiselect(cb.min(boundsId), cb.max(boundsId));
+
+        var row = createTypedQuery(bounds, em, hints).getSingleResult();
+        var min = row.get(0, Number.class);
+        var max = row.get(1, Number.class);
+        if (min == null || max == null) {
+            return CountResult.exact(0);
+        }
+
+        var span = max.longValue() - min.longValue() + 1;
+        var window = (long) Math.ceil(span * sampleRatio);
+        if (window >= span) {
+            return CountResult.exact(JpaCriteriaExecutor.<SELECTED>count().exec(cq, path, em, hints));
+        }
+
+        var start = min.longValue() + ThreadLocalRandom.current().nextLong(span - window + 1);
+        var range = cb.and(
+            cb.ge(id, narrow(start, idType)),
+            cb.le(id, narrow(start + window - 1, idType))
+        );
+        var restriction = cq.getRestriction();
+        cq.where(restriction != null ? cb.and(restriction, range) : range);
+        cq.select(cb.count(path));
+
+        long sampled = createTypedQuery(cq, em, hints).getSingleResult();
+        return CountResult.estimated(Math.round(sampled * ((double) span / window)));
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == Long.class || type == long.class
+            || type == Integer.class || type == int.class
+            || type == Short.class || type == short.class;
+    }
+
+    private static Number narrow(long value, Class<?> type) {
+        if (type == Integer.class || type == int.class) {
+            return (int) value;
+        }
+        if (type == Short.class || type == short.class) {
+            return (short) value;
+        }
+        return value;
+    }
+
     static <T> TypedQuery<T> createTypedQuery(CriteriaQuery<T> cq, EntityManager em, Map<String, Object> hints) {
         TypedQuery<T> query = em.createQuery(cq);
         hints.forEach(query::setHint);
@@ -3,16 +3,30 @@ package com.peluware.freddy.cruder.jpa;
 import com.peluware.domain.Page;
 import com.peluware.domain.Pagination;
 import com.peluware.domain.Sort;
+import com.peluware.freddy.cruder.CountResult;
+import com.peluware.freddy.cruder.CountStrategy;
+import com.peluware.freddy.cruder.CursorPage;
 import com.peluware.freddy.cruder.EntityCrudEvents;
 import com.peluware.freddy.cruder.EntityCrudProvider;
 import com.peluware.freddy.cruder.NotFoundEntityException;
+import com.peluware.freddy.cruder.NotFoundException;
+import com.peluware.freddy.cruder.Slice;
+import com.peluware.freddy.cruder.utils.CollectionUtils;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * JPA-specific implementation of {@link EntityCrudProvider} that provides
@@ -36,7 +50,7 @@ import java.util.function.Supplier;
  * @param <INPUT>  the input DTO type for create/update operations
  * @param <OUTPUT> the output DTO or projection type
  */
-public abstract class JpaCrudProvider<ENTITY, ID, INPUT, OUTPUT> extends EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> {
+public abstract class JpaCrudProvider<ENTITY, ID, INPUT, OUTPUT> extends EntityCrudProvider<ENTITY, ID, INPUT, OUTPUT> implements JpaWarmUp {
 
     protected final EntityManager entityManager;
     protected final SearchPredicateBuilder searchPredicateBuilder;
@@ -142,7 +156,8 @@ public abstract class JpaCrudProvider<ENTITY, ID, INPUT, OUTPUT> extends EntityC
 
     /**
      * Retrieves a paginated list of entities matching the given search and query filters.
-     * Uses a deferred count strategy — the total count is only resolved if needed.
+     * Uses a deferred count strategy — the total is only resolved if needed, through
+     * {@link #countTotal} so that it is served from the count cache when one is configured.
      */
     @Override
     protected Page<ENTITY> internalPage(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
@@ -157,7 +172,55 @@ public abstract class JpaCrudProvider<ENTITY, ID, INPUT, OUTPUT> extends EntityC
             content,
             pagination,
             sort,
-            () -> internalCount(search, query)
+            () -> countTotal(search, query)
+        );
+    }
+
+    /**
+     * Retrieves a page of entities without count query through {@link JpaCriteriaExecutor#slice},
+     * fetching one extra row to detect whether another page follows.
+     */
+    @Override
+    protected Slice<ENTITY> internalSlice(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return JpaQueryHelpers.query(
+            entityManager,
+            entityClass,
+            entityClass,
+            (root, cb) -> searchPredicateBuilder.build(root, cb, entityManager.getMetamodel(), search, query),
+            JpaCriteriaExecutor.slice(sort, pagination)
+        );
+    }
+
+    /**
+     * Retrieves a window of entities using keyset pagination through
+     * {@link JpaCriteriaExecutor#keyset}, seeking on the sort keys and the identifier
+     * instead of skipping rows with an offset.
+     */
+    @Override
+    protected CursorPage<ENTITY> internalPageByCursor(@Nullable String search, @Nullable String query, @Nullable String cursor, int size, Sort sort) {
+        return JpaQueryHelpers.query(
+            entityManager,
+            entityClass,
+            Tuple.class,
+            (root, cb) -> searchPredicateBuilder.build(root, cb, entityManager.getMetamodel(), search, query),
+            JpaCriteriaExecutor.keyset(sort, JpaUtils.getIdFieldName(entityManager.getMetamodel(), entityClass), cursor, size)
+        );
+    }
+
+    /**
+     * Streams entities matching the given search and query filters through a cursor-backed
+     * {@link jakarta.persistence.TypedQuery#getResultStream()}, applying a JDBC fetch size of
+     * {@link #getFetchSize()} rows.
+     */
+    @Override
+    protected Stream<ENTITY> internalStream(@Nullable String search, @Nullable String query, Sort sort) {
+        return JpaQueryHelpers.query(
+            entityManager,
+            entityClass,
+            entityClass,
+            (root, cb) -> searchPredicateBuilder.build(root, cb, entityManager.getMetamodel(), search, query),
+            JpaCriteriaExecutor.stream(sort),
+            JpaUtils.withFetchSize(Map.of(), getFetchSize())
         );
     }
 
@@ -175,6 +238,21 @@ public abstract class JpaCrudProvider<ENTITY, ID, INPUT, OUTPUT> extends EntityC
         );
     }
 
+    /**
+     * Counts entities with a capped or estimated strategy through
+     * {@link JpaCriteriaExecutor#count(CountStrategy, String)}.
+     */
+    @Override
+    protected CountResult internalCount(@Nullable String search, @Nullable String query, CountStrategy strategy) {
+        return JpaQueryHelpers.query(
+            entityManager,
+            entityClass,
+            Long.class,
+            (root, cb) -> searchPredicateBuilder.build(root, cb, entityManager.getMetamodel(), search, query),
+            JpaCriteriaExecutor.count(strategy, JpaUtils.getIdFieldName(entityManager.getMetamodel(), entityClass))
+        );
+    }
+
     /**
      * Checks if an entity exists by its identifier.
      */
@@ -189,6 +267,52 @@ public abstract class JpaCrudProvider<ENTITY, ID, INPUT, OUTPUT> extends EntityC
         );
     }
 
+    /**
+     * Loads the entities with one {@code IN} query per chunk of {@link #getInListLimit()}
+     * identifiers, keying them through {@link jakarta.persistence.PersistenceUnitUtil#getIdentifier}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Map<ID, ENTITY> internalFindAll(List<ID> ids) {
+        var util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        var entities = new HashMap<ID, ENTITY>();
+        for (var chunk : CollectionUtils.partition(ids, getInListLimit())) {
+            var content = JpaQueryHelpers.query(
+                entityManager,
+                entityClass,
+                entityClass,
+                (root, cb) -> buildIdsPredicate(root, cb, chunk),
+                JpaCriteriaExecutor.list()
+            );
+            for (var entity : content) {
+                entities.put((ID) util.getIdentifier(entity), entity);
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Selects the existing identifiers with one {@code IN} query per chunk of
+     * {@link #getInListLimit()} identifiers, without loading entities.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Set<ID> internalExistsAll(List<ID> ids) {
+        var idFieldName = JpaUtils.getIdFieldName(entityManager.getMetamodel(), entityClass);
+        var existing = new HashSet<ID>();
+        for (var chunk : CollectionUtils.partition(ids, getInListLimit())) {
+            var found = JpaQueryHelpers.query(
+                entityManager,
+                entityClass,
+                Object.class,
+                (root, cb) -> buildIdsPredicate(root, cb, chunk),
+                JpaCriteriaExecutor.ids(idFieldName)
+            );
+            found.forEach(id -> existing.add((ID) id));
+        }
+        return existing;
+    }
+
     /**
      * Persists a new entity.
      */
@@ -222,8 +346,112 @@ public abstract class JpaCrudProvider<ENTITY, ID, INPUT, OUTPUT> extends EntityC
         return JpaUtils.requireTransaction(entityManager, function);
     }
 
+    /**
+     * Returns the JDBC batch size configured for the persistence unit
+     * ({@value JpaUtils#BATCH_SIZE_PROPERTY}), falling back to {@value JpaUtils#DEFAULT_BATCH_SIZE}.
+     */
+    @Override
+    protected int getBatchSize() {
+        return JpaUtils.getBatchSize(entityManager, JpaUtils.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the JDBC fetch size applied to streaming reads.
+     *
+     * <p>
+     * The default implementation returns {@value JpaUtils#DEFAULT_FETCH_SIZE}. Subclasses may
+     * override to trade round trips for driver-side buffering; non-positive values leave the
+     * driver default in place.
+     * </p>
+     *
+     * @return the number of rows fetched per round trip
+     */
+    protected int getFetchSize() {
+        return JpaUtils.DEFAULT_FETCH_SIZE;
+    }
+
+    /**
+     * Returns the maximum number of identifiers bound to a single {@code IN} list by
+     * {@code findAll} and {@code existsAll}.
+     *
+     * <p>
+     * The default implementation resolves the limit of the configured database through
+     * {@link JpaUtils#getInListLimit}, falling back to {@value JpaUtils#DEFAULT_IN_LIST_LIMIT}.
+     * </p>
+     *
+     * @return the chunk size of bulk lookups, must be positive
+     */
+    protected int getInListLimit() {
+        return JpaUtils.getInListLimit(entityManager, JpaUtils.DEFAULT_IN_LIST_LIMIT);
+    }
+
+    /**
+     * Allows parallel mapping only when every attribute of the entities is already loaded
+     * (see {@link JpaUtils#isFullyLoaded}), since the persistence context is bound to the
+     * calling thread and must not lazily load from worker threads.
+     */
+    @Override
+    protected boolean isParallelMappingSafe(List<ENTITY> entities) {
+        return JpaUtils.isFullyLoaded(entityManager, entityClass, entities);
+    }
+
+    /**
+     * Flushes the persistence context so that each bulk chunk is sent as a JDBC batch.
+     */
+    @Override
+    protected void internalFlush() {
+        entityManager.flush();
+    }
+
+    /**
+     * Detaches the entity from the persistence context via {@link EntityManager#detach}.
+     */
+    @Override
+    protected void internalDetach(ENTITY entity) {
+        entityManager.detach(entity);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Builds the {@link EntityMetadataIndex} of the entity and runs a one-row slice. When
+     * {@link JpaUtils#getSampleId} supports the identifier type, it also runs a find and an
+     * exists on the sample identifier. The count and search query shapes are run through
+     * {@link JpaCriteriaExecutor#countNone()}, which matches no row, so no table is scanned.
+     * No event is fired and nothing is written.
+     * </p>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void warmUp() {
+        var metamodel = entityManager.getMetamodel();
+        var metadata = EntityMetadataIndex.of(metamodel, entityClass);
+        internalSlice(null, null, Pagination.of(0, 1), Sort.unsorted());
+        var sampleId = JpaUtils.getSampleId(metadata.idType());
+        if (sampleId != null) {
+            internalExists((ID) sampleId);
+            try {
+                internalFind((ID) sampleId);
+            } catch (NotFoundException e) {
+                // Expected, the sample identifier is not meant to exist
+            }
+        }
+        JpaQueryHelpers.query(
+            entityManager,
+            entityClass,
+            Long.class,
+            (root, cb) -> searchPredicateBuilder.build(root, cb, metamodel, JpaWarmUp.SAMPLE_SEARCH, null),
+            JpaCriteriaExecutor.countNone()
+        );
+    }
+
     protected Predicate buildIdPredicate(Root<ENTITY> root, CriteriaBuilder cb, ID id) {
         return cb.equal(root.get(JpaUtils.getIdFieldName(entityManager.getMetamodel(), entityClass)), id);
     }
 
+    protected Predicate buildIdsPredicate(Root<ENTITY> root, CriteriaBuilder cb, Collection<ID> ids) {
+        return root.get(JpaUtils.getIdFieldName(entityManager.getMetamodel(), entityClass)).in(ids);
+    }
+
 }
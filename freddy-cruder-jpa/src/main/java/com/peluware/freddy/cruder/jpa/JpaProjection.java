@@ -0,0 +1,76 @@
+package com.peluware.freddy.cruder.jpa;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Metamodel;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Constructor projection of an entity onto an output type.
+ *
+ * <p>
+ * The query selects the declared attribute paths (dot notation traverses associations through
+ * left joins) and passes them, in order, to a constructor of the output type, e.g. the canonical
+ * constructor of a record. Rows are returned as outputs: no entity is loaded into the
+ * persistence context.
+ * </p>
+ *
+ * <pre>{@code
+ * JpaProjection.of(ProductOutput.class, "id", "name", "price", "category.name")
+ * }</pre>
+ *
+ * @param <T> the output type
+ * @see FilterableJpaCrudProvider#getProjection()
+ */
+public final class JpaProjection<T> {
+
+    private final Class<T> type;
+    private final List<String> attributePaths;
+
+    private JpaProjection(Class<T> type, List<String> attributePaths) {
+        this.type = Objects.requireNonNull(type, "Projection type must not be null");
+        if (attributePaths.isEmpty()) {
+            throw new IllegalArgumentException("Projection of " + type.getName() + " must declare at least one attribute path");
+        }
+        this.attributePaths = List.copyOf(attributePaths);
+    }
+
+    /**
+     * Creates a projection onto {@code type}.
+     *
+     * @param type           the output type, with a constructor matching the attribute paths
+     * @param attributePaths the attribute paths passed to the constructor, in order
+     * @param <T>            the output type
+     * @return the projection
+     */
+    public static <T> JpaProjection<T> of(Class<T> type, String... attributePaths) {
+        return new JpaProjection<>(type, List.of(attributePaths));
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public List<String> getAttributePaths() {
+        return attributePaths;
+    }
+
+    /**
+     * Builds the constructor selection of this projection.
+     *
+     * @param cb        the criteria builder
+     * @param path      the selected entity path
+     * @param metamodel the JPA metamodel, used to resolve attribute paths
+     * @return the constructor selection
+     */
+    public Selection<T> select(CriteriaBuilder cb, Path<?> path, Metamodel metamodel) {
+        var selections = new Selection<?>[attributePaths.size()];
+        for (int i = 0; i < selections.length; i++) {
+            selections[i] = JpaUtils.findPath(attributePaths.get(i), path, metamodel);
+        }
+        return cb.construct(type, selections);
+    }
+}
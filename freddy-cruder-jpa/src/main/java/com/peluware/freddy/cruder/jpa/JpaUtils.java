@@ -1,11 +1,20 @@
 package com.peluware.freddy.cruder.jpa;
 
+import com.peluware.domain.Order;
+import com.peluware.domain.Sort;
+import com.peluware.freddy.cruder.TransactionSynchronizer;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.metamodel.Metamodel;
+import org.jspecify.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 import java.util.function.Supplier;
 
 public class JpaUtils {
@@ -14,13 +23,246 @@ public class JpaUtils {
         throw new UnsupportedOperationException("Utility class");
     }
 
-    private static final Map<Class<?>, String> ID_FIELD_CACHE = new ConcurrentHashMap<>();
+    /**
+     * Hibernate configuration property holding the JDBC batch size.
+     */
+    public static final String BATCH_SIZE_PROPERTY = "hibernate.jdbc.batch_size";
 
+    /**
+     * Chunk size used by bulk operations when {@value #BATCH_SIZE_PROPERTY} is not configured.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    /**
+     * Hibernate query hint controlling the JDBC fetch size of a query.
+     */
+    public static final String FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+
+    /**
+     * JDBC fetch size used by streaming reads unless a provider configures another one.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    /**
+     * Configuration property overriding the maximum number of identifiers bound to a single
+     * {@code IN} list by bulk lookups.
+     */
+    public static final String IN_LIST_LIMIT_PROPERTY = "freddy.cruder.in_list_limit";
+
+    /**
+     * Maximum {@code IN} list size used when neither {@value #IN_LIST_LIMIT_PROPERTY} nor a known
+     * database is configured. Matches the strictest common limit (Oracle).
+     */
+    public static final int DEFAULT_IN_LIST_LIMIT = 1000;
+
+    /**
+     * Properties naming the database of a persistence unit, checked in order.
+     */
+    private static final List<String> DATABASE_PROPERTIES = List.of(
+        "hibernate.dialect",
+        "jakarta.persistence.database-product-name",
+        "jakarta.persistence.jdbc.url",
+        "hibernate.connection.url"
+    );
+
+    /**
+     * Safe {@code IN} list sizes keyed by a fragment of the database name, leaving room for the
+     * other parameters of the query.
+     */
+    private static final Map<String, Integer> IN_LIST_LIMITS = Map.of(
+        "oracle", 1000,
+        "sqlserver", 2000,
+        "sql server", 2000,
+        "sybase", 2000,
+        "postgres", 30_000,
+        "mysql", 30_000,
+        "mariadb", 30_000
+    );
+
+    /**
+     * Returns the name of the identifier attribute of an entity, read from its
+     * {@link EntityMetadataIndex}.
+     *
+     * @param metamodel   the metamodel declaring the entity
+     * @param entityClass the entity class
+     * @return the identifier attribute name
+     * @throws IllegalStateException if the entity declares an {@code @IdClass}
+     */
     public static String getIdFieldName(Metamodel metamodel, Class<?> entityClass) {
-        return ID_FIELD_CACHE.computeIfAbsent(entityClass, cls -> {
-            var et = metamodel.entity(cls);
-            return et.getId(et.getIdType().getJavaType()).getName();
-        });
+        return EntityMetadataIndex.of(metamodel, entityClass).requireIdAttribute();
+    }
+
+    /**
+     * Resolves a dotted attribute path, e.g. {@code "category.name"}, from an entity path.
+     *
+     * <p>
+     * The path is read from the {@link EntityMetadataIndex} of the entity when indexed and
+     * resolved against the metamodel otherwise. Associations and collections are traversed
+     * through left joins, reusing the ones already present on {@code path}.
+     * </p>
+     *
+     * @param property  the dotted attribute path
+     * @param path      the entity path, usually the query root
+     * @param metamodel the metamodel declaring the entity
+     * @return the criteria path of the attribute
+     * @throws IllegalArgumentException if an attribute of the path does not exist
+     */
+    public static Path<?> findPath(String property, Path<?> path, Metamodel metamodel) {
+        return EntityMetadataIndex.of(metamodel, path.getJavaType())
+            .path(metamodel, property)
+            .apply(path);
+    }
+
+    /**
+     * Builds the criteria orders of a sort, resolving each property through
+     * {@link #findPath(String, Path, Metamodel)}.
+     *
+     * @param sort      the requested ordering
+     * @param path      the entity path, usually the query root
+     * @param cb        the criteria builder
+     * @param metamodel the metamodel declaring the entity
+     * @return the criteria orders, in sort order
+     */
+    public static List<jakarta.persistence.criteria.Order> getOrders(Sort sort, Path<?> path, CriteriaBuilder cb, Metamodel metamodel) {
+        return sort.orders().stream()
+            .map(order -> {
+                var attribute = findPath(order.property(), path, metamodel);
+                return order.direction() == Order.Direction.ASC
+                    ? cb.asc(attribute)
+                    : cb.desc(attribute);
+            })
+            .toList();
+    }
+
+    /**
+     * Indicates whether every attribute of the given entities is loaded, so that reading them
+     * cannot trigger lazy loading through the persistence context.
+     *
+     * <p>
+     * Checks the attributes declared by the entity type through
+     * {@link jakarta.persistence.PersistenceUnitUtil#isLoaded(Object, String)}: uninitialized
+     * lazy associations, collections and basic attributes make the result {@code false}. The
+     * state of associated entities is not inspected.
+     * </p>
+     *
+     * @param em          the entity manager that loaded the entities
+     * @param entityClass the entity class
+     * @param entities    the entities to inspect
+     * @return {@code true} if no attribute of the entities remains to be loaded
+     */
+    public static boolean isFullyLoaded(EntityManager em, Class<?> entityClass, List<?> entities) {
+        var util = em.getEntityManagerFactory().getPersistenceUnitUtil();
+        var attributes = em.getMetamodel().entity(entityClass).getAttributes();
+        for (var entity : entities) {
+            for (var attribute : attributes) {
+                if (!util.isLoaded(entity, attribute.getName())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolves the JDBC batch size configured for the persistence unit of the given entity manager.
+     *
+     * <p>
+     * Reads {@value #BATCH_SIZE_PROPERTY} from {@link EntityManager#getProperties()}, accepting both
+     * numeric and string values. Missing, blank or non-positive values resolve to {@code defaultValue}.
+     * </p>
+     *
+     * @param em           the entity manager whose properties are inspected
+     * @param defaultValue the value returned when no valid batch size is configured
+     * @return the configured batch size, or {@code defaultValue}
+     */
+    public static int getBatchSize(EntityManager em, int defaultValue) {
+        return positiveInt(em.getProperties().get(BATCH_SIZE_PROPERTY), defaultValue);
+    }
+
+    /**
+     * Resolves how many identifiers bulk lookups bind to a single {@code IN} list.
+     *
+     * <p>
+     * An explicit {@value #IN_LIST_LIMIT_PROPERTY} in {@link EntityManager#getProperties()} wins.
+     * Otherwise the database is recognized from the configured dialect, product name or JDBC URL,
+     * and its parameter limit is used: 1000 for Oracle, 2000 for SQL Server and Sybase, and
+     * 30000 for PostgreSQL, MySQL and MariaDB. Unknown databases resolve to {@code defaultValue}.
+     * </p>
+     *
+     * @param em           the entity manager whose properties are inspected
+     * @param defaultValue the value returned when no limit can be resolved
+     * @return the maximum number of identifiers per {@code IN} list
+     */
+    public static int getInListLimit(EntityManager em, int defaultValue) {
+        var properties = em.getProperties();
+        var configured = positiveInt(properties.get(IN_LIST_LIMIT_PROPERTY), -1);
+        if (configured > 0) {
+            return configured;
+        }
+        for (var property : DATABASE_PROPERTIES) {
+            var value = properties.get(property);
+            if (value == null) {
+                continue;
+            }
+            var database = (value instanceof Class<?> type ? type.getName() : value.toString()).toLowerCase(Locale.ROOT);
+            for (var limit : IN_LIST_LIMITS.entrySet()) {
+                if (database.contains(limit.getKey())) {
+                    return limit.getValue();
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Returns an identifier value of the given type usable to exercise lookups by identifier,
+     * e.g. during warm-ups. The value is not expected to match any entity.
+     *
+     * @param idType the identifier type
+     * @return zero for numeric types, an empty string, the nil UUID, or {@code null} for other types
+     */
+    public static @Nullable Object getSampleId(Class<?> idType) {
+        return switch (idType.getName()) {
+            case "java.lang.Long", "long" -> 0L;
+            case "java.lang.Integer", "int" -> 0;
+            case "java.lang.Short", "short" -> (short) 0;
+            case "java.lang.String" -> "";
+            case "java.util.UUID" -> new UUID(0, 0);
+            default -> null;
+        };
+    }
+
+    private static int positiveInt(@Nullable Object value, int defaultValue) {
+        int size;
+        if (value instanceof Number number) {
+            size = number.intValue();
+        } else if (value instanceof String string && !string.isBlank()) {
+            try {
+                size = Integer.parseInt(string.trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        } else {
+            return defaultValue;
+        }
+        return size > 0 ? size : defaultValue;
+    }
+
+    /**
+     * Returns a copy of {@code hints} with {@value #FETCH_SIZE_HINT} set to {@code fetchSize},
+     * unless the hint is already present. Non-positive sizes leave the hints unchanged.
+     *
+     * @param hints     the base query hints
+     * @param fetchSize the JDBC fetch size to apply
+     * @return the query hints including the fetch size
+     */
+    public static Map<String, Object> withFetchSize(Map<String, Object> hints, int fetchSize) {
+        if (fetchSize <= 0 || hints.containsKey(FETCH_SIZE_HINT)) {
+            return hints;
+        }
+        var result = new HashMap<String, Object>(hints);
+        result.put(FETCH_SIZE_HINT, fetchSize);
+        return result;
     }
 
     /**
@@ -43,6 +285,13 @@ public class JpaUtils {
      * delegating transaction management to the JTA coordinator.
      * </p>
      *
+     * <p>
+     * After-commit actions registered through {@link TransactionSynchronizer#runAfterCommit(Runnable)}
+     * follow the resource-local transaction begun here; within an external transaction they are
+     * handed to {@link TransactionSynchronizer#getGlobal()} (e.g. Spring transaction
+     * synchronization).
+     * </p>
+     *
      * @param em       the entity manager whose transaction context is checked
      * @param function the operation to execute
      * @param <T>      the return type
@@ -60,21 +309,33 @@ public class JpaUtils {
         }
     }
 
+    /**
+     * Executes the given function inside a resource-local transaction, beginning and committing
+     * it unless it is already active.
+     *
+     * <p>
+     * When this method begins the transaction, actions registered by the function through
+     * {@link TransactionSynchronizer#runAfterCommit(Runnable)} run once the commit succeeds
+     * and are discarded on rollback. Each action runs in isolation: a failing one is reported
+     * to the uncaught exception handler of the calling thread, the others still run and the
+     * committed result is returned.
+     * </p>
+     *
+     * @param transaction the resource-local transaction
+     * @param function    the operation to execute
+     * @param <T>         the return type
+     * @return the result of the function
+     */
     public static <T> T requireTransaction(EntityTransaction transaction, Supplier<T> function) {
         boolean weStartedIt = !transaction.isActive();
 
         try {
-            if (weStartedIt) {
-                transaction.begin();
-            }
-
-            T result = function.get();
-
-            if (weStartedIt) {
-                transaction.commit();
+            if (!weStartedIt) {
+                return function.get();
             }
 
-            return result;
+            transaction.begin();
+            return TransactionSynchronizer.synchronize(function, transaction::commit);
         } catch (RuntimeException e) {
             if (weStartedIt && transaction.isActive()) {
                 transaction.rollback();
@@ -0,0 +1,29 @@
+package com.peluware.freddy.cruder.jpa;
+
+/**
+ * Component able to exercise its query shapes once, ahead of live traffic.
+ *
+ * <p>
+ * The first requests served by a fresh application pay for lazy work: metamodel lookups, class
+ * loading, criteria interpretation and SQL translation by the persistence provider, search
+ * expression parsing and connection pool filling. A warm-up performs that work at startup with
+ * cheap, read-only queries. Implementations must not write and should not scan tables; callers
+ * typically run them inside a transaction that is rolled back.
+ * </p>
+ *
+ * @see JpaCrudProvider#warmUp()
+ * @see FilterableJpaCrudProvider#warmUp()
+ */
+@FunctionalInterface
+public interface JpaWarmUp {
+
+    /**
+     * Search text used to exercise search predicates during warm-ups.
+     */
+    String SAMPLE_SEARCH = "warm-up";
+
+    /**
+     * Exercises the query shapes of this component.
+     */
+    void warmUp();
+}
@@ -1,5 +1,6 @@
 package com.peluware.freddy.cruder.jpa;
 
+import com.peluware.freddy.cruder.utils.StringUtils;
 import com.peluware.omnisearch.OmniSearchBaseOptions;
 import com.peluware.omnisearch.jpa.DefaultJpaOmniSearchPredicateBuilder;
 import com.peluware.omnisearch.jpa.JpaOmniSearchPredicateBuilder;
@@ -37,6 +38,19 @@ import java.util.Set;
  * via {@link #ofDefault()} and {@link #ofDefault(Set)}.
  * </p>
  *
+ * <p>
+ * When a {@link SearchPlanCache} is given, each distinct filter is compiled once into a
+ * {@link SearchPlan} holding its search options, and the page and count queries of every request
+ * using that filter bind the cached plan: the delegate receives the same options instance each
+ * time, so builders memoizing their parsed query and resolved attributes per options instance
+ * skip that work. Requests without search text and without query never reach the delegate and
+ * are answered with an always-true predicate.
+ * </p>
+ *
+ * <pre>{@code
+ * SearchPredicateBuilder builder = new OmniSearchPredicateAdapter(myCustomBuilder, Set.of(), new SearchPlanCache(1_024, Duration.ofHours(1)));
+ * }</pre>
+ *
  * @see SearchPredicateBuilder
  * @see JpaOmniSearchPredicateBuilder
  */
@@ -44,6 +58,22 @@ public final class OmniSearchPredicateAdapter implements SearchPredicateBuilder
 
     private final JpaOmniSearchPredicateBuilder delegate;
     private final Set<String> propagations;
+    private final @Nullable SearchPlanCache planCache;
+
+    /**
+     * Creates an adapter wrapping the given {@link JpaOmniSearchPredicateBuilder}
+     * with the specified join propagations applied to every search query, reusing the
+     * plans held by {@code planCache}.
+     *
+     * @param delegate     the predicate builder to delegate to
+     * @param propagations join associations to include in every search query
+     * @param planCache    cache of compiled plans, or {@code null} to compile a plan per query
+     */
+    public OmniSearchPredicateAdapter(JpaOmniSearchPredicateBuilder delegate, Set<String> propagations, @Nullable SearchPlanCache planCache) {
+        this.delegate = delegate;
+        this.propagations = Set.copyOf(propagations);
+        this.planCache = planCache;
+    }
 
     /**
      * Creates an adapter wrapping the given {@link JpaOmniSearchPredicateBuilder}
@@ -53,8 +83,7 @@ public final class OmniSearchPredicateAdapter implements SearchPredicateBuilder
      * @param propagations join associations to include in every search query
      */
     public OmniSearchPredicateAdapter(JpaOmniSearchPredicateBuilder delegate, Set<String> propagations) {
-        this.delegate = delegate;
-        this.propagations = propagations;
+        this(delegate, propagations, null);
     }
 
     /**
@@ -90,11 +119,26 @@ public final class OmniSearchPredicateAdapter implements SearchPredicateBuilder
 
     @Override
     public <E> Predicate build(From<?, E> root, CriteriaBuilder cb, Metamodel metamodel, @Nullable String search, @Nullable String query) {
-        return delegate.buildPredicate(
-            root,
-            new OmniSearchBaseOptions().search(search).query(query).propagations(propagations),
-            cb,
-            metamodel
-        );
+        var entityType = root.getJavaType();
+        var plan = planCache != null
+            ? planCache.get(entityType, search, query, propagations, () -> compile(entityType, metamodel, search, query))
+            : compile(entityType, metamodel, search, query);
+        return plan.bind(root, cb);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Builds the search options once; binding the plan hands them to the delegate.
+     * </p>
+     */
+    @Override
+    public SearchPlan compile(Class<?> entityType, Metamodel metamodel, @Nullable String search, @Nullable String query) {
+        if (StringUtils.isBlank(search) && StringUtils.isBlank(query)) {
+            return (_, cb) -> cb.conjunction();
+        }
+        var options = new OmniSearchBaseOptions().search(search).query(query).propagations(propagations);
+        return (root, cb) -> delegate.buildPredicate(root, options, cb, metamodel);
     }
 }
@@ -0,0 +1,32 @@
+package com.peluware.freddy.cruder.jpa;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.metamodel.Metamodel;
+
+/**
+ * A search string and query expression compiled for an entity type, ready to be bound to the
+ * root of each criteria query.
+ *
+ * <p>
+ * A plan holds no reference to a query root or criteria builder, so the plan compiled once for
+ * a filter can be bound by concurrent requests, and by both the page and the count query of a
+ * request.
+ * </p>
+ *
+ * @see SearchPredicateBuilder#compile(Class, Metamodel, String, String)
+ * @see SearchPlanCache
+ */
+@FunctionalInterface
+public interface SearchPlan {
+
+    /**
+     * Builds the predicate of this plan for the given query root.
+     *
+     * @param root the query root of the entity being queried
+     * @param cb   the criteria builder
+     * @return a predicate to apply to the query; must not be {@code null}
+     */
+    Predicate bind(From<?, ?> root, CriteriaBuilder cb);
+}
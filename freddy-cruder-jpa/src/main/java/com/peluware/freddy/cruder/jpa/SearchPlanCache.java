@@ -0,0 +1,67 @@
+package com.peluware.freddy.cruder.jpa;
+
+import com.peluware.freddy.cruder.utils.BoundedCache;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, expiring cache of compiled {@link SearchPlan}s.
+ *
+ * <p>
+ * Plans are keyed by entity type, search string, query expression and join propagations, so
+ * repeated filters are parsed and resolved against the metamodel once, instead of once per page
+ * and once more per deferred count. A single instance may be shared by several builders.
+ * </p>
+ *
+ * @see OmniSearchPredicateAdapter
+ */
+public final class SearchPlanCache {
+
+    private final BoundedCache<Key, SearchPlan> cache;
+
+    /**
+     * Creates a search plan cache.
+     *
+     * @param maximumSize maximum number of cached plans
+     * @param ttl         time after which a cached plan is compiled again
+     */
+    public SearchPlanCache(int maximumSize, Duration ttl) {
+        this.cache = new BoundedCache<>(maximumSize, ttl);
+    }
+
+    /**
+     * Returns the cached plan for the given filter, compiling and caching it if absent.
+     *
+     * @param entityType   the entity type of the query root
+     * @param search       normalized full-text search string, or {@code null}
+     * @param query        filtering expression, or {@code null}
+     * @param propagations join associations included in the search
+     * @param compiler     compiles the plan on a miss
+     * @return the plan for the given filter
+     */
+    public SearchPlan get(Class<?> entityType, @Nullable String search, @Nullable String query, Set<String> propagations, Supplier<SearchPlan> compiler) {
+        var key = new Key(entityType, search, query, propagations);
+        var entry = cache.getEntry(key);
+        var cached = entry != null ? entry.value() : null;
+        if (cached != null) {
+            return cached;
+        }
+        var stamp = cache.stamp();
+        var plan = compiler.get();
+        cache.put(key, plan, stamp);
+        return plan;
+    }
+
+    /**
+     * Evicts every cached plan.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private record Key(Class<?> entityType, @Nullable String search, @Nullable String query, Set<String> propagations) {
+    }
+}
@@ -40,4 +40,24 @@ public interface SearchPredicateBuilder {
      * @return a predicate to apply to the query; must not be {@code null}
      */
     <E> Predicate build(From<?, E> root, CriteriaBuilder cb, Metamodel metamodel, @Nullable String search, @Nullable String query);
+
+    /**
+     * Compiles a search string and RSQL query expression for an entity type into a
+     * {@link SearchPlan} that can be bound to any number of query roots.
+     *
+     * <p>
+     * Implementations able to parse the query and resolve its attributes ahead of a query root
+     * override this method to do that work once per plan. The default defers everything to
+     * {@link #build} each time the plan is bound.
+     * </p>
+     *
+     * @param entityType the entity type of the query roots the plan is bound to
+     * @param metamodel  the JPA metamodel, used to resolve entity attributes
+     * @param search     normalized full-text search string, or {@code null}
+     * @param query      RSQL filter expression, or {@code null}
+     * @return the compiled plan
+     */
+    default SearchPlan compile(Class<?> entityType, Metamodel metamodel, @Nullable String search, @Nullable String query) {
+        return (root, cb) -> build(root, cb, metamodel, search, query);
+    }
 }
@@ -0,0 +1,109 @@
+package com.peluware.freddy.cruder.jpa;
+
+import com.peluware.omnisearch.OmniSearchBaseOptions;
+import com.peluware.omnisearch.jpa.JpaOmniSearchPredicateBuilder;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.metamodel.Metamodel;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OmniSearchPredicateAdapterTest {
+
+    private static final Predicate CONJUNCTION = stub(Predicate.class, Map.of());
+    private static final Predicate MATCH = stub(Predicate.class, Map.of());
+    private static final CriteriaBuilder CB = stub(CriteriaBuilder.class, Map.of("conjunction", CONJUNCTION));
+    private static final Metamodel METAMODEL = stub(Metamodel.class, Map.of());
+
+    static class Item {
+    }
+
+    static class Tag {
+    }
+
+    @Test
+    void reusesTheCompiledPlanOfRepeatedFilters() {
+        var delegate = new RecordingBuilder();
+        var adapter = new OmniSearchPredicateAdapter(delegate, Set.of("tags"), new SearchPlanCache(100, Duration.ofMinutes(10)));
+
+        assertSame(MATCH, adapter.build(root(Item.class), CB, METAMODEL, null, "name==a"));
+        adapter.build(root(Item.class), CB, METAMODEL, null, "name==a");
+        adapter.build(root(Item.class), CB, METAMODEL, null, "name==b");
+        adapter.build(root(Tag.class), CB, METAMODEL, null, "name==a");
+
+        var options = delegate.options;
+        assertEquals(4, options.size());
+        assertSame(options.get(0), options.get(1));
+        assertNotSame(options.get(0), options.get(2));
+        assertNotSame(options.get(0), options.get(3));
+    }
+
+    @Test
+    void compilesAPlanPerQueryWithoutCache() {
+        var delegate = new RecordingBuilder();
+        var adapter = new OmniSearchPredicateAdapter(delegate);
+
+        adapter.build(root(Item.class), CB, METAMODEL, "text", null);
+        adapter.build(root(Item.class), CB, METAMODEL, "text", null);
+
+        assertNotSame(delegate.options.get(0), delegate.options.get(1));
+    }
+
+    @Test
+    void answersUnfilteredRequestsWithoutTheDelegate() {
+        var delegate = new RecordingBuilder();
+        var adapter = new OmniSearchPredicateAdapter(delegate, Set.of(), new SearchPlanCache(100, Duration.ofMinutes(10)));
+
+        assertSame(CONJUNCTION, adapter.build(root(Item.class), CB, METAMODEL, null, null));
+        assertSame(CONJUNCTION, adapter.build(root(Item.class), CB, METAMODEL, " ", ""));
+        assertTrue(delegate.options.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> From<?, E> root(Class<E> type) {
+        return stub(From.class, Map.of("getJavaType", type));
+    }
+
+    /**
+     * Creates a proxy answering the given methods by name and rejecting every other one.
+     */
+    private static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> switch (method.getName()) {
+            case "toString" -> type.getSimpleName();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> {
+                if (!answers.containsKey(method.getName())) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                yield answers.get(method.getName());
+            }
+        }));
+    }
+
+    /**
+     * Builder recording the options instance of every call.
+     */
+    static class RecordingBuilder implements JpaOmniSearchPredicateBuilder {
+
+        final List<OmniSearchBaseOptions> options = new CopyOnWriteArrayList<>();
+
+        @Override
+        public <E> Predicate buildPredicate(From<?, E> root, OmniSearchBaseOptions options, CriteriaBuilder cb, Metamodel metamodel) {
+            this.options.add(options);
+            return MATCH;
+        }
+    }
+}
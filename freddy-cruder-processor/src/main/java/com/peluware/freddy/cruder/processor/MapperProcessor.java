@@ -0,0 +1,383 @@
+package com.peluware.freddy.cruder.processor;
+
+import org.jspecify.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the {@code EntityMapper} of the providers annotated with {@code @GenerateMapper}.
+ *
+ * <p>
+ * The generated mappers only contain accessor and constructor calls resolved at compile time,
+ * so mapping a page costs the same as hand-written code.
+ * </p>
+ */
+@SupportedAnnotationTypes(MapperProcessor.GENERATE_MAPPER)
+public class MapperProcessor extends AbstractProcessor {
+
+    static final String GENERATE_MAPPER = "com.peluware.freddy.cruder.GenerateMapper";
+
+    private static final String ENTITY_MAPPER = "com.peluware.freddy.cruder.EntityMapper";
+    private static final String ENTITY_PROVIDER = "com.peluware.freddy.cruder.EntityCrudProvider";
+    private static final String OWNED_ENTITY_PROVIDER = "com.peluware.freddy.cruder.OwnedEntityCrudProvider";
+    private static final String GENERATED = "javax.annotation.processing.Generated";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        var annotation = processingEnv.getElementUtils().getTypeElement(GENERATE_MAPPER);
+        if (annotation == null) {
+            return false;
+        }
+        for (var element : round.getElementsAnnotatedWith(annotation)) {
+            try {
+                if (element.getKind() != ElementKind.CLASS) {
+                    throw new MappingException("@GenerateMapper is only supported on provider classes", element);
+                }
+                generate((TypeElement) element);
+            } catch (MappingException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write mapper: " + e.getMessage(), element);
+            }
+        }
+        return true;
+    }
+
+    // ------------------------------------------------------------
+    // GENERATION
+    // ------------------------------------------------------------
+
+    private void generate(TypeElement provider) throws MappingException, IOException {
+        var providerType = findProviderType(provider.asType());
+        if (providerType == null) {
+            throw new MappingException("@GenerateMapper requires a subclass of EntityCrudProvider or OwnedEntityCrudProvider", provider);
+        }
+
+        var owned = qualifiedName(providerType).equals(OWNED_ENTITY_PROVIDER);
+        var arguments = providerType.getTypeArguments();
+        var entity = concrete(arguments.get(0), "ENTITY", provider);
+        var input = concrete(arguments.get(owned ? 3 : 2), "INPUT", provider);
+        var output = concrete(arguments.get(owned ? 4 : 3), "OUTPUT", provider);
+
+        var packageName = processingEnv.getElementUtils().getPackageOf(provider).getQualifiedName().toString();
+        var mapperName = flatName(provider) + "Mapper";
+
+        var source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        if (processingEnv.getElementUtils().getTypeElement(GENERATED) != null) {
+            source.append("@").append(GENERATED).append("(\"").append(MapperProcessor.class.getName()).append("\")\n");
+        }
+        source.append("public final class ").append(mapperName)
+            .append(" implements ").append(ENTITY_MAPPER)
+            .append('<').append(typeName(entity)).append(", ").append(typeName(input)).append(", ").append(typeName(output)).append("> {\n\n")
+            .append("    public static final ").append(mapperName).append(" INSTANCE = new ").append(mapperName).append("();\n\n")
+            .append("    private ").append(mapperName).append("() {\n    }\n\n");
+
+        source.append("    @Override\n")
+            .append("    public void mapInput(").append(typeName(input)).append(" input, ").append(typeName(entity)).append(" entity, boolean isNew) {\n");
+        for (var statement : mapInputStatements(provider, entity, input)) {
+            source.append("        ").append(statement).append('\n');
+        }
+        source.append("    }\n\n");
+
+        source.append("    @Override\n")
+            .append("    public ").append(typeName(output)).append(" mapOutput(").append(typeName(entity)).append(" entity) {\n");
+        for (var statement : mapOutputStatements(provider, entity, output)) {
+            source.append("        ").append(statement).append('\n');
+        }
+        source.append("    }\n}\n");
+
+        var qualifiedName = packageName.isEmpty() ? mapperName : packageName + "." + mapperName;
+        var file = processingEnv.getFiler().createSourceFile(qualifiedName, provider);
+        try (var writer = new PrintWriter(file.openWriter())) {
+            writer.print(source);
+        }
+    }
+
+    private List<String> mapInputStatements(TypeElement provider, DeclaredType entity, DeclaredType input) {
+        var ignored = ignoredProperties(provider);
+        var inputReaders = readers(input);
+        var entityWriters = writers(entity);
+        var statements = new ArrayList<String>();
+
+        for (var property : ignored) {
+            if (!inputReaders.containsKey(property)) {
+                warning("Ignored property '" + property + "' is not readable on " + typeName(input), provider);
+            }
+        }
+        for (var reader : inputReaders.values()) {
+            if (ignored.contains(reader.property())) {
+                continue;
+            }
+            var writer = entityWriters.get(reader.property());
+            if (writer == null) {
+                continue;
+            }
+            if (!processingEnv.getTypeUtils().isAssignable(reader.type(), writer.type())) {
+                warning("Input property '" + reader.property() + "' of type " + reader.type()
+                    + " is not assignable to " + writer.type() + " and is not mapped", provider);
+                continue;
+            }
+            statements.add("entity." + writer.method() + "(input." + reader.method() + "());");
+        }
+        return statements;
+    }
+
+    private List<String> mapOutputStatements(TypeElement provider, DeclaredType entity, DeclaredType output) throws MappingException {
+        var outputElement = (TypeElement) output.asElement();
+        var entityReaders = readers(entity);
+        var statements = new ArrayList<String>();
+
+        if (outputElement.getKind() == ElementKind.RECORD) {
+            var arguments = new ArrayList<String>();
+            for (var component : outputElement.getRecordComponents()) {
+                var name = component.getSimpleName().toString();
+                var componentType = memberType(output, component.getAccessor()).getReturnType();
+                var reader = entityReaders.get(name);
+                if (reader == null || !processingEnv.getTypeUtils().isAssignable(reader.type(), componentType)) {
+                    throw new MappingException("Output component '" + name + "' of " + typeName(output)
+                        + " has no readable property of type " + componentType + " on " + typeName(entity), provider);
+                }
+                arguments.add("entity." + reader.method() + "()");
+            }
+            statements.add(arguments.isEmpty()
+                ? "return new " + typeName(output) + "();"
+                : "return new " + typeName(output) + "(\n            " + String.join(",\n            ", arguments) + "\n        );");
+            return statements;
+        }
+
+        var instantiable = !outputElement.getModifiers().contains(Modifier.ABSTRACT)
+            && ElementFilter.constructorsIn(outputElement.getEnclosedElements()).stream()
+            .anyMatch(constructor -> constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+        if (!instantiable) {
+            throw new MappingException("Output " + typeName(output) + " must be a record or have a non-private no-arg constructor", provider);
+        }
+
+        statements.add("var output = new " + typeName(output) + "();");
+        for (var writer : writers(output).values()) {
+            var reader = entityReaders.get(writer.property());
+            if (reader != null && processingEnv.getTypeUtils().isAssignable(reader.type(), writer.type())) {
+                statements.add("output." + writer.method() + "(entity." + reader.method() + "());");
+            }
+        }
+        statements.add("return output;");
+        return statements;
+    }
+
+    // ------------------------------------------------------------
+    // TYPE RESOLUTION
+    // ------------------------------------------------------------
+
+    private @Nullable DeclaredType findProviderType(TypeMirror type) {
+        for (var supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (supertype instanceof DeclaredType declared) {
+                var name = qualifiedName(declared);
+                if (name.equals(ENTITY_PROVIDER) || name.equals(OWNED_ENTITY_PROVIDER)) {
+                    return declared;
+                }
+                var found = findProviderType(declared);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static DeclaredType concrete(TypeMirror type, String parameter, TypeElement provider) throws MappingException {
+        if (type instanceof DeclaredType declared) {
+            return declared;
+        }
+        throw new MappingException("@GenerateMapper requires " + parameter + " to be bound to a class, found " + type, provider);
+    }
+
+    private Set<String> ignoredProperties(TypeElement provider) {
+        var ignored = new HashSet<String>();
+        for (AnnotationMirror mirror : provider.getAnnotationMirrors()) {
+            if (!qualifiedName(mirror.getAnnotationType()).equals(GENERATE_MAPPER)) {
+                continue;
+            }
+            for (var entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("ignore") && entry.getValue().getValue() instanceof List<?> values) {
+                    for (var value : values) {
+                        ignored.add(String.valueOf(((AnnotationValue) value).getValue()));
+                    }
+                }
+            }
+        }
+        return ignored;
+    }
+
+    // ------------------------------------------------------------
+    // PROPERTIES
+    // ------------------------------------------------------------
+
+    private record Accessor(String property, String method, TypeMirror type) {
+    }
+
+    /**
+     * Readable properties: record components, or public {@code getX()} / {@code isX()} methods.
+     */
+    private Map<String, Accessor> readers(DeclaredType type) {
+        var element = (TypeElement) type.asElement();
+        var readers = new LinkedHashMap<String, Accessor>();
+
+        if (element.getKind() == ElementKind.RECORD) {
+            for (var component : element.getRecordComponents()) {
+                var name = component.getSimpleName().toString();
+                var accessor = component.getAccessor();
+                readers.put(name, new Accessor(name, accessor.getSimpleName().toString(), memberType(type, accessor).getReturnType()));
+            }
+            return readers;
+        }
+
+        for (var method : accessibleMethods(element)) {
+            if (!method.getParameters().isEmpty()) {
+                continue;
+            }
+            var name = method.getSimpleName().toString();
+            var returnType = memberType(type, method).getReturnType();
+            String property = null;
+            if (name.length() > 3 && name.startsWith("get") && returnType.getKind() != TypeKind.VOID && !name.equals("getClass")) {
+                property = decapitalize(name.substring(3));
+            } else if (name.length() > 2 && name.startsWith("is") && returnType.getKind() == TypeKind.BOOLEAN) {
+                property = decapitalize(name.substring(2));
+            }
+            if (property != null) {
+                readers.putIfAbsent(property, new Accessor(property, name, returnType));
+            }
+        }
+        return readers;
+    }
+
+    /**
+     * Writable properties: public {@code setX(value)} methods.
+     */
+    private Map<String, Accessor> writers(DeclaredType type) {
+        var writers = new LinkedHashMap<String, Accessor>();
+        for (var method : accessibleMethods((TypeElement) type.asElement())) {
+            var name = method.getSimpleName().toString();
+            if (name.length() > 3 && name.startsWith("set") && method.getParameters().size() == 1) {
+                var property = decapitalize(name.substring(3));
+                writers.putIfAbsent(property, new Accessor(property, name, memberType(type, method).getParameterTypes().getFirst()));
+            }
+        }
+        return writers;
+    }
+
+    private List<ExecutableElement> accessibleMethods(TypeElement element) {
+        return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(element)).stream()
+            .filter(method -> method.getModifiers().contains(Modifier.PUBLIC))
+            .filter(method -> !method.getModifiers().contains(Modifier.STATIC))
+            .toList();
+    }
+
+    private ExecutableType memberType(DeclaredType type, ExecutableElement method) {
+        return (ExecutableType) processingEnv.getTypeUtils().asMemberOf(type, method);
+    }
+
+    /**
+     * Follows {@code java.beans.Introspector.decapitalize}: {@code URL} stays {@code URL}.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    // ------------------------------------------------------------
+    // NAMES
+    // ------------------------------------------------------------
+
+    /**
+     * Source name of a type without type-use annotations.
+     */
+    private static String typeName(TypeMirror type) {
+        return switch (type.getKind()) {
+            case DECLARED -> {
+                var declared = (DeclaredType) type;
+                var name = qualifiedName(declared);
+                yield declared.getTypeArguments().isEmpty()
+                    ? name
+                    : name + declared.getTypeArguments().stream().map(MapperProcessor::typeName).collect(Collectors.joining(", ", "<", ">"));
+            }
+            case ARRAY -> typeName(((ArrayType) type).getComponentType()) + "[]";
+            case WILDCARD -> {
+                var wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    yield "? extends " + typeName(wildcard.getExtendsBound());
+                }
+                if (wildcard.getSuperBound() != null) {
+                    yield "? super " + typeName(wildcard.getSuperBound());
+                }
+                yield "?";
+            }
+            default -> type.getKind().isPrimitive() ? type.getKind().name().toLowerCase(Locale.ROOT) : type.toString();
+        };
+    }
+
+    private static String qualifiedName(DeclaredType type) {
+        return ((TypeElement) type.asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Simple name of the provider prefixed by its enclosing classes, e.g. {@code Outer_ProductCrud}.
+     */
+    private static String flatName(TypeElement provider) {
+        var name = provider.getSimpleName().toString();
+        for (Element enclosing = provider.getEnclosingElement(); enclosing instanceof TypeElement type; enclosing = type.getEnclosingElement()) {
+            name = type.getSimpleName() + "_" + name;
+        }
+        return name;
+    }
+
+    private void warning(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    private static final class MappingException extends Exception {
+
+        private final transient Element element;
+
+        MappingException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
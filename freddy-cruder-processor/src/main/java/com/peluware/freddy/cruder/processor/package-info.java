@@ -0,0 +1,4 @@
+@NullMarked
+package com.peluware.freddy.cruder.processor;
+
+import org.jspecify.annotations.NullMarked;
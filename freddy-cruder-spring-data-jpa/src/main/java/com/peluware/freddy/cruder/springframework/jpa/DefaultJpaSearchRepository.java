@@ -1,9 +1,12 @@
 package com.peluware.freddy.cruder.springframework.jpa;
 
 import com.peluware.freddy.cruder.springframework.DefaultSearchRepository;
+import com.peluware.freddy.cruder.CountResult;
+import com.peluware.freddy.cruder.CountStrategy;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.core.support.RepositoryMetadataAccess;
 
 /**
@@ -20,8 +23,18 @@ public class DefaultJpaSearchRepository<T> extends DefaultSearchRepository<T> im
         return super.findAllBySearch(search, query, pageable);
     }
 
+    @Override
+    public Slice<T> findSliceBySearch(@Nullable String search, @Nullable String query, Pageable pageable) {
+        return super.findSliceBySearch(search, query, pageable);
+    }
+
     @Override
     public long countBySearch(@Nullable String search, @Nullable String query) {
         return super.countBySearch(search, query);
     }
+
+    @Override
+    public CountResult countBySearch(@Nullable String search, @Nullable String query, CountStrategy strategy) {
+        return super.countBySearch(search, query, strategy);
+    }
 }
@@ -1,9 +1,12 @@
 package com.peluware.freddy.cruder.springframework.jpa;
 
 import com.peluware.freddy.cruder.springframework.SearchRepository;
+import com.peluware.freddy.cruder.CountResult;
+import com.peluware.freddy.cruder.CountStrategy;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * JPA fragment interface for paginated search and count.
@@ -18,6 +21,12 @@ public interface JpaSearchRepository<T> extends SearchRepository<T> {
     @Override
     Page<T> findAllBySearch(@Nullable String search, @Nullable String query, Pageable pageable);
 
+    @Override
+    Slice<T> findSliceBySearch(@Nullable String search, @Nullable String query, Pageable pageable);
+
     @Override
     long countBySearch(@Nullable String search, @Nullable String query);
+
+    @Override
+    CountResult countBySearch(@Nullable String search, @Nullable String query, CountStrategy strategy);
 }
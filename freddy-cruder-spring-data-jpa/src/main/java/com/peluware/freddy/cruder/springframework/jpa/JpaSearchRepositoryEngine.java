@@ -1,26 +1,32 @@
 package com.peluware.freddy.cruder.springframework.jpa;
 
+import com.peluware.freddy.cruder.CountResult;
+import com.peluware.freddy.cruder.CountStrategy;
+import com.peluware.freddy.cruder.jpa.EntityMetadataIndex;
 import com.peluware.freddy.cruder.jpa.JpaCriteriaExecutor;
 import com.peluware.freddy.cruder.jpa.JpaQueryHelpers;
+import com.peluware.freddy.cruder.jpa.JpaUtils;
+import com.peluware.freddy.cruder.jpa.JpaWarmUp;
 import com.peluware.freddy.cruder.jpa.SearchPredicateBuilder;
 import com.peluware.freddy.cruder.springframework.SearchRepositoryEngine;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.metamodel.Metamodel;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
 
 import static com.peluware.freddy.cruder.jpa.JpaCriteriaExecutor.createTypedQuery;
-import static com.peluware.omnisearch.jpa.JpaUtils.findPath;
 
 /**
  * {@link SearchRepositoryEngine} backed by JPA Criteria API.
@@ -55,6 +61,22 @@ public class JpaSearchRepositoryEngine implements SearchRepositoryEngine {
         );
     }
 
+    @Override
+    public <T> Slice<T> findSliceBySearch(Class<T> entityType, @Nullable String search, @Nullable String query, Pageable pageable) {
+        var content = JpaQueryHelpers.query(
+            entityManager,
+            entityType,
+            entityType,
+            (root, cb) -> searchPredicateBuilder.build(root, cb, entityManager.getMetamodel(), search, query),
+            list(pageable, 1)
+        );
+        var hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
     @Override
     public <T> long countBySearch(Class<T> entityType, @Nullable String search, @Nullable String query) {
         return JpaQueryHelpers.query(
@@ -66,7 +88,50 @@ public class JpaSearchRepositoryEngine implements SearchRepositoryEngine {
         );
     }
 
+    @Override
+    public <T> CountResult countBySearch(Class<T> entityType, @Nullable String search, @Nullable String query, CountStrategy strategy) {
+        return JpaQueryHelpers.query(
+            entityManager,
+            entityType,
+            Long.class,
+            (root, cb) -> searchPredicateBuilder.build(root, cb, entityManager.getMetamodel(), search, query),
+            JpaCriteriaExecutor.count(strategy, JpaUtils.getIdFieldName(entityManager.getMetamodel(), entityType))
+        );
+    }
+
+    /**
+     * Exercises the query shapes of the search fragment for an entity type, ahead of live traffic.
+     *
+     * <p>
+     * Builds the {@link EntityMetadataIndex} of the entity and runs a one-row slice; the count
+     * and search query shapes are run with a restriction matching no row, so no table is scanned.
+     * </p>
+     *
+     * @param entityType the entity type of a {@link JpaSearchRepository}
+     * @see JpaWarmUp
+     */
+    public void warmUp(Class<?> entityType) {
+        var metamodel = entityManager.getMetamodel();
+        EntityMetadataIndex.of(metamodel, entityType);
+        findSliceBySearch(entityType, null, null, PageRequest.of(0, 1));
+        JpaQueryHelpers.query(
+            entityManager,
+            entityType,
+            Long.class,
+            (root, cb) -> searchPredicateBuilder.build(root, cb, metamodel, JpaWarmUp.SAMPLE_SEARCH, null),
+            JpaCriteriaExecutor.countNone()
+        );
+    }
+
     static <SELECTED> JpaCriteriaExecutor<SELECTED, SELECTED, List<SELECTED>> list(Pageable pageable) {
+        return list(pageable, 0);
+    }
+
+    /**
+     * Lists a page of entities, fetching {@code extraRows} past the page size so callers can
+     * probe for a next page without a count query.
+     */
+    static <SELECTED> JpaCriteriaExecutor<SELECTED, SELECTED, List<SELECTED>> list(Pageable pageable, int extraRows) {
         return (cq, root, em, hints) -> {
             CriteriaBuilder cb = em.getCriteriaBuilder();
             cq.select(root);
@@ -81,7 +146,7 @@ public class JpaSearchRepositoryEngine implements SearchRepositoryEngine {
             if (pageable.isPaged()) {
                 query
                     .setFirstResult(pageable.getPageNumber() * pageable.getPageSize())
-                    .setMaxResults(pageable.getPageSize());
+                    .setMaxResults(pageable.getPageSize() + extraRows);
             }
 
             return query.getResultList();
@@ -91,7 +156,7 @@ public class JpaSearchRepositoryEngine implements SearchRepositoryEngine {
     public static List<Order> getOrders(Sort sort, Path<?> root, CriteriaBuilder cb, Metamodel metamodel) {
         return sort.stream()
             .map(order -> {
-                var path = findPath(order.getProperty(), root, metamodel, JoinType.LEFT);
+                var path = JpaUtils.findPath(order.getProperty(), root, metamodel);
                 return order.getDirection() == Sort.Direction.ASC
                     ? cb.asc(path)
                     : cb.desc(path);
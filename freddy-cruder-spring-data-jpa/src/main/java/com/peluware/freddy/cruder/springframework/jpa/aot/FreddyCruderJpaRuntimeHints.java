@@ -0,0 +1,26 @@
+package com.peluware.freddy.cruder.springframework.jpa.aot;
+
+import com.peluware.freddy.cruder.springframework.jpa.DefaultJpaSearchRepository;
+import com.peluware.freddy.cruder.springframework.jpa.JpaSearchRepository;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints for the JPA search fragment, needed to run in a GraalVM native image.
+ *
+ * <p>{@link DefaultJpaSearchRepository} is registered in {@code META-INF/spring.factories} and
+ * instantiated reflectively by Spring Data when a repository extends {@link JpaSearchRepository};
+ * its methods are then invoked reflectively by the repository proxy.</p>
+ */
+public class FreddyCruderJpaRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        hints.resources().registerPattern("META-INF/spring.factories");
+        hints.reflection()
+            .registerType(JpaSearchRepository.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(DefaultJpaSearchRepository.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package com.peluware.freddy.cruder.springframework.jpa.aot;
+
+import org.jspecify.annotations.NullMarked;
@@ -1,6 +1,7 @@
 package com.peluware.freddy.cruder.springframework.jpa.autoconfigure;
 
 import com.peluware.freddy.cruder.jpa.OmniSearchPredicateAdapter;
+import com.peluware.freddy.cruder.jpa.SearchPlanCache;
 import com.peluware.freddy.cruder.jpa.SearchPredicateBuilder;
 import com.peluware.freddy.cruder.springframework.SearchRepositoryEngine;
 import com.peluware.freddy.cruder.springframework.jpa.JpaSearchRepositoryEngine;
@@ -14,6 +15,9 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.Set;
+
 @AutoConfiguration
 @ConditionalOnClass({EntityManager.class})
 public class FreddyCruderJpaSearchAutoConfiguration {
@@ -36,8 +40,14 @@ public class FreddyCruderJpaSearchAutoConfiguration {
 
         @Bean
         @ConditionalOnMissingBean
-        public SearchPredicateBuilder searchPredicateBuilder(JpaOmniSearchPredicateBuilder jpaOmniSearchPredicateBuilder) {
-            return new OmniSearchPredicateAdapter(jpaOmniSearchPredicateBuilder);
+        public SearchPlanCache searchPlanCache() {
+            return new SearchPlanCache(1_024, Duration.ofHours(1));
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public SearchPredicateBuilder searchPredicateBuilder(JpaOmniSearchPredicateBuilder jpaOmniSearchPredicateBuilder, SearchPlanCache searchPlanCache) {
+            return new OmniSearchPredicateAdapter(jpaOmniSearchPredicateBuilder, Set.of(), searchPlanCache);
         }
 
     }
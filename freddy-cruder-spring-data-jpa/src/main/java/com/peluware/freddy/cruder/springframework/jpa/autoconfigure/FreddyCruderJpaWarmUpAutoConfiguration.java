@@ -0,0 +1,104 @@
+package com.peluware.freddy.cruder.springframework.jpa.autoconfigure;
+
+import com.peluware.freddy.cruder.jpa.JpaWarmUp;
+import com.peluware.freddy.cruder.springframework.jpa.JpaSearchRepository;
+import com.peluware.freddy.cruder.springframework.jpa.JpaSearchRepositoryEngine;
+import jakarta.persistence.EntityManager;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.repository.core.support.RepositoryFactoryInformation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * Warms up the JPA providers and search repositories while the context starts, before the
+ * application reports ready.
+ *
+ * <p>Every singleton, non-lazy {@link JpaWarmUp} bean (such as {@code JpaCrudProvider} and
+ * {@code FilterableJpaCrudProvider} beans) and the entity type of every {@link JpaSearchRepository}
+ * are exercised in parallel on virtual threads, each inside a read-only transaction that is
+ * rolled back. Lazy and prototype beans are not instantiated for a warm-up. Failures are logged
+ * and never abort the startup. Opt-in through {@code freddy.cruder.warm-up.enabled=true}.</p>
+ */
+@AutoConfiguration(after = FreddyCruderJpaSearchAutoConfiguration.class)
+@ConditionalOnClass({EntityManager.class, PlatformTransactionManager.class})
+@ConditionalOnProperty(prefix = "freddy.cruder.warm-up", name = "enabled", havingValue = "true")
+public class FreddyCruderJpaWarmUpAutoConfiguration {
+
+    @Bean
+    JpaWarmUpRunner jpaWarmUpRunner(ConfigurableListableBeanFactory beanFactory, ObjectProvider<PlatformTransactionManager> transactionManager) {
+        return new JpaWarmUpRunner(beanFactory, transactionManager.getIfUnique());
+    }
+
+    /**
+     * Runs the warm-ups once all singletons are created.
+     */
+    static final class JpaWarmUpRunner implements SmartInitializingSingleton {
+
+        private static final Log logger = LogFactory.getLog(JpaWarmUpRunner.class);
+
+        private final ConfigurableListableBeanFactory beanFactory;
+        private final @Nullable PlatformTransactionManager transactionManager;
+
+        JpaWarmUpRunner(ConfigurableListableBeanFactory beanFactory, @Nullable PlatformTransactionManager transactionManager) {
+            this.beanFactory = beanFactory;
+            this.transactionManager = transactionManager;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            var warmUps = new LinkedHashMap<String, Runnable>();
+            // Lazy singletons are not created yet and must stay so
+            for (var name : beanFactory.getBeanNamesForType(JpaWarmUp.class, false, false)) {
+                if (beanFactory.containsSingleton(name)) {
+                    var bean = beanFactory.getBean(name, JpaWarmUp.class);
+                    warmUps.put(name, bean::warmUp);
+                }
+            }
+
+            var engine = beanFactory.getBeanProvider(JpaSearchRepositoryEngine.class).getIfUnique();
+            if (engine != null) {
+                for (var name : beanFactory.getBeanNamesForType(JpaSearchRepository.class, false, false)) {
+                    if (beanFactory.containsSingleton(name)
+                        && beanFactory.getBean(BeanFactory.FACTORY_BEAN_PREFIX + name) instanceof RepositoryFactoryInformation<?, ?> information) {
+                        var domainType = information.getRepositoryInformation().getDomainType();
+                        warmUps.put(domainType.getName(), () -> engine.warmUp(domainType));
+                    }
+                }
+            }
+
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                warmUps.forEach((name, warmUp) -> executor.execute(() -> run(name, warmUp)));
+            }
+        }
+
+        private void run(String name, Runnable warmUp) {
+            try {
+                if (transactionManager == null) {
+                    warmUp.run();
+                    return;
+                }
+                var template = new TransactionTemplate(transactionManager);
+                template.setReadOnly(true);
+                template.executeWithoutResult(status -> {
+                    status.setRollbackOnly();
+                    warmUp.run();
+                });
+            } catch (RuntimeException e) {
+                logger.warn("Warm-up of " + name + " failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.peluware.freddy.cruder.springframework.jpa.aot;
+
+import com.peluware.freddy.cruder.springframework.jpa.DefaultJpaSearchRepository;
+import com.peluware.freddy.cruder.springframework.jpa.JpaSearchRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.aot.AotServices;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.aot.hint.predicate.RuntimeHintsPredicates.reflection;
+import static org.springframework.aot.hint.predicate.RuntimeHintsPredicates.resource;
+
+class FreddyCruderJpaRuntimeHintsTest {
+
+    @Test
+    void registersTheSearchFragmentForReflectiveInvocation() {
+        var hints = registerHints();
+
+        assertTrue(reflection().onType(JpaSearchRepository.class).withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        assertTrue(reflection().onType(DefaultJpaSearchRepository.class)
+            .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .test(hints));
+    }
+
+    @Test
+    void registersTheSpringFactoriesResource() {
+        assertTrue(resource().forResource("META-INF/spring.factories").test(registerHints()));
+    }
+
+    @Test
+    void isRegisteredInAotFactories() {
+        var registrars = AotServices.factories().load(RuntimeHintsRegistrar.class);
+
+        assertTrue(registrars.asList().stream().anyMatch(FreddyCruderJpaRuntimeHints.class::isInstance));
+    }
+
+    private static RuntimeHints registerHints() {
+        var hints = new RuntimeHints();
+        new FreddyCruderJpaRuntimeHints().registerHints(hints, FreddyCruderJpaRuntimeHintsTest.class.getClassLoader());
+        return hints;
+    }
+}
@@ -0,0 +1,42 @@
+package com.peluware.freddy.cruder.springframework.jpa.autoconfigure;
+
+import com.peluware.freddy.cruder.jpa.JpaWarmUp;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FreddyCruderJpaWarmUpAutoConfigurationTest {
+
+    @Test
+    void warmsUpOnlyEagerSingletonsWithoutCreatingOtherBeans() {
+        var created = ConcurrentHashMap.<String>newKeySet();
+        var warmedUp = ConcurrentHashMap.<String>newKeySet();
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("eager", warmUp("eager", created, warmedUp));
+        var lazy = warmUp("lazy", created, warmedUp);
+        lazy.setLazyInit(true);
+        beanFactory.registerBeanDefinition("lazy", lazy);
+        var prototype = warmUp("prototype", created, warmedUp);
+        prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        beanFactory.registerBeanDefinition("prototype", prototype);
+        beanFactory.preInstantiateSingletons();
+
+        new FreddyCruderJpaWarmUpAutoConfiguration.JpaWarmUpRunner(beanFactory, null).afterSingletonsInstantiated();
+
+        assertEquals(Set.of("eager"), created);
+        assertEquals(Set.of("eager"), warmedUp);
+    }
+
+    private static RootBeanDefinition warmUp(String name, Set<String> created, Set<String> warmedUp) {
+        return new RootBeanDefinition(JpaWarmUp.class, () -> {
+            created.add(name);
+            return () -> warmedUp.add(name);
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.peluware.freddy.cruder.springframework.jpa.smoke;
+
+import com.peluware.freddy.cruder.springframework.web.FindController;
+import com.peluware.freddy.cruder.springframework.web.PageController;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/items")
+public class ItemController implements PageController<ItemService.Output>, FindController<Long, ItemService.Output> {
+
+    private final ItemService service;
+
+    public ItemController(ItemService service) {
+        this.service = service;
+    }
+
+    @Override
+    public ItemService getService() {
+        return service;
+    }
+}
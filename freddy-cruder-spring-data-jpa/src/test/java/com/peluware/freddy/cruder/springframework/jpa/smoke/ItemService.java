@@ -0,0 +1,30 @@
+package com.peluware.freddy.cruder.springframework.jpa.smoke;
+
+import com.peluware.freddy.cruder.jpa.FilterableJpaCrudProvider;
+import com.peluware.freddy.cruder.jpa.SearchPredicateBuilder;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ItemService extends FilterableJpaCrudProvider<Item, Long, ItemService.Input, ItemService.Output> {
+
+    public record Input(String name) {
+    }
+
+    public record Output(Long id, String name) {
+    }
+
+    public ItemService(EntityManager entityManager, SearchPredicateBuilder searchPredicateBuilder) {
+        super(entityManager, searchPredicateBuilder);
+    }
+
+    @Override
+    protected void mapInput(Input input, Item entity, boolean isNew) {
+        entity.setName(input.name());
+    }
+
+    @Override
+    protected Output mapOutput(Item entity) {
+        return new Output(entity.getId(), entity.getName());
+    }
+}
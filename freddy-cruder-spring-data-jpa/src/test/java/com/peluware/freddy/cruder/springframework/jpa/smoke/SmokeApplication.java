@@ -0,0 +1,23 @@
+package com.peluware.freddy.cruder.springframework.jpa.smoke;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Minimal application wiring a {@link ItemService} over an in-memory H2 database and serving it
+ * through {@link ItemController}, run on the JVM and, with the {@code native} profile, as a native image.
+ */
+@SpringBootApplication
+public class SmokeApplication {
+
+    @Bean
+    ApplicationRunner seedItems(ItemService service, TransactionOperations transactionOperations) {
+        return _ -> transactionOperations.executeWithoutResult(_ -> {
+            for (var name : new String[]{"a", "b", "c"}) {
+                service.create(new ItemService.Input(name));
+            }
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.peluware.freddy.cruder.springframework.jpa.smoke;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Calls the endpoints of {@link SmokeApplication}; run with the {@code native} profile, it checks the
+ * runtime hints and the provider registrations contributed ahead of time cover a native image.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class SmokeApplicationTest {
+
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void pagesItems() throws Exception {
+        var page = get("/items?sort=name");
+
+        assertEquals(List.of("a", "b", "c"), names(page.path("content")));
+    }
+
+    @Test
+    void filtersItemsByQuery() throws Exception {
+        var page = get("/items?query=name==b");
+
+        assertEquals(List.of("b"), names(page.path("content")));
+    }
+
+    @Test
+    void findsItems() throws Exception {
+        var id = get("/items?query=name==c").path("content").path(0).path("id").asLong();
+
+        assertEquals("c", get("/items/" + id).path("name").asString());
+    }
+
+    @Test
+    void findsItemsByIds() throws Exception {
+        var page = get("/items?sort=name");
+        var first = page.path("content").path(0).path("id").asLong();
+        var second = page.path("content").path(1).path("id").asLong();
+
+        var result = get("/items/all?ids=" + first + "," + second + ",999");
+
+        assertEquals("a", result.path("found").path(String.valueOf(first)).path("name").asString());
+        assertEquals("b", result.path("found").path(String.valueOf(second)).path("name").asString());
+        assertEquals(999, result.path("missing").path(0).asLong());
+    }
+
+    @Test
+    void pagesItemsByCursor() throws Exception {
+        var first = get("/items?cursor=&size=2&sort=name");
+        assertEquals(List.of("a", "b"), names(first.path("content")));
+        assertTrue(first.path("nextCursor").isString());
+
+        var second = get("/items?cursor=" + first.path("nextCursor").asString() + "&size=2&sort=name");
+        assertEquals(List.of("c"), names(second.path("content")));
+    }
+
+    private JsonNode get(String path) throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build();
+        var response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response::body);
+        return JsonMapper.shared().readTree(response.body());
+    }
+
+    private static List<String> names(JsonNode content) {
+        return content.valueStream().map(item -> item.path("name").asString()).toList();
+    }
+}
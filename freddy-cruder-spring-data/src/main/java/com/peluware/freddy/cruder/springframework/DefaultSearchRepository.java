@@ -1,8 +1,11 @@
 package com.peluware.freddy.cruder.springframework;
 
+import com.peluware.freddy.cruder.CountResult;
+import com.peluware.freddy.cruder.CountStrategy;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.core.RepositoryMethodContext;
 import org.springframework.data.repository.core.support.RepositoryMetadataAccess;
 
@@ -27,10 +30,24 @@ public class DefaultSearchRepository<T> implements SearchRepository<T>, Reposito
         return engine.findAllBySearch(domainType, search, query, pageable);
     }
 
+    @Override
+    public Slice<T> findSliceBySearch(@Nullable String search, @Nullable String query, Pageable pageable) {
+        @SuppressWarnings("unchecked")
+        Class<T> domainType = (Class<T>) RepositoryMethodContext.getContext().getMetadata().getDomainType();
+        return engine.findSliceBySearch(domainType, search, query, pageable);
+    }
+
     @Override
     public long countBySearch(@Nullable String search, @Nullable String query) {
         @SuppressWarnings("unchecked")
         Class<T> domainType = (Class<T>) RepositoryMethodContext.getContext().getMetadata().getDomainType();
         return engine.countBySearch(domainType, search, query);
     }
+
+    @Override
+    public CountResult countBySearch(@Nullable String search, @Nullable String query, CountStrategy strategy) {
+        @SuppressWarnings("unchecked")
+        Class<T> domainType = (Class<T>) RepositoryMethodContext.getContext().getMetadata().getDomainType();
+        return engine.countBySearch(domainType, search, query, strategy);
+    }
 }
@@ -39,6 +39,10 @@ public final class PeluwareToSpringAdapters {
         return new PageImpl<>(page.getContent(), pageable, page.getTotalElements());
     }
 
+    public static <R> Slice<R> toSlice(Pageable pageable, com.peluware.freddy.cruder.Slice<R> slice) {
+        return new SliceImpl<>(slice.content(), pageable, slice.hasNext());
+    }
+
     public static <R> R apply(Pageable pageable, BiFunction<com.peluware.domain.Pagination, com.peluware.domain.Sort, R> query) {
         var pagination = SpringToPeluwareAdapters.toPagination(pageable);
         var sort = SpringToPeluwareAdapters.toSort(pageable.getSort());
@@ -49,6 +53,10 @@ public final class PeluwareToSpringAdapters {
         return toPage(pageable, apply(pageable, query));
     }
 
+    public static <R> Slice<R> applyAsSlice(Pageable pageable, BiFunction<com.peluware.domain.Pagination, com.peluware.domain.Sort, com.peluware.freddy.cruder.Slice<R>> query) {
+        return toSlice(pageable, apply(pageable, query));
+    }
+
     public static <OUTPUT> Page<OUTPUT> page(
         PageProvider<OUTPUT> provider,
         @Nullable String search,
@@ -67,4 +75,23 @@ public final class PeluwareToSpringAdapters {
     ) {
         return applyAsPage(pageable, (pagination, sort) -> provider.page(ownerId, search, query, pagination, sort));
     }
+
+    public static <OUTPUT> Slice<OUTPUT> slice(
+        PageProvider<OUTPUT> provider,
+        @Nullable String search,
+        @Nullable String query,
+        Pageable pageable
+    ) {
+        return applyAsSlice(pageable, (pagination, sort) -> provider.slice(search, query, pagination, sort));
+    }
+
+    public static <OWNER_ID, OUTPUT> Slice<OUTPUT> slice(
+        OwnedPageProvider<OWNER_ID, OUTPUT> provider,
+        OWNER_ID ownerId,
+        @Nullable String search,
+        @Nullable String query,
+        Pageable pageable
+    ) {
+        return applyAsSlice(pageable, (pagination, sort) -> provider.slice(ownerId, search, query, pagination, sort));
+    }
 }
@@ -1,8 +1,11 @@
 package com.peluware.freddy.cruder.springframework;
 
+import com.peluware.freddy.cruder.CountResult;
+import com.peluware.freddy.cruder.CountStrategy;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Fragment interface that adds paginated search and count operations to a Spring Data repository.
@@ -19,7 +22,26 @@ public interface SearchRepository<T> {
         throw new UnsupportedOperationException("findBySearch requires a store-specific fragment implementation");
     }
 
+    /**
+     * Finds a page of entities without counting the total.
+     *
+     * <p>The default implementation falls back to {@link #findAllBySearch}, which may count;
+     * store-specific fragments should fetch one extra row instead.</p>
+     */
+    default Slice<T> findSliceBySearch(@Nullable String search, @Nullable String query, Pageable pageable) {
+        return findAllBySearch(search, query, pageable);
+    }
+
     default long countBySearch(@Nullable String search, @Nullable String query) {
         throw new UnsupportedOperationException("countBySearch requires a store-specific fragment implementation");
     }
+
+    /**
+     * Counts entities with the given strategy.
+     *
+     * <p>The default implementation falls back to an exact {@link #countBySearch(String, String)}.</p>
+     */
+    default CountResult countBySearch(@Nullable String search, @Nullable String query, CountStrategy strategy) {
+        return CountResult.exact(countBySearch(search, query));
+    }
 }
@@ -1,8 +1,11 @@
 package com.peluware.freddy.cruder.springframework;
 
+import com.peluware.freddy.cruder.CountResult;
+import com.peluware.freddy.cruder.CountStrategy;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Strategy for executing search and count queries against a specific store.
@@ -15,5 +18,13 @@ public interface SearchRepositoryEngine {
 
     <T> Page<T> findAllBySearch(Class<T> domainType, @Nullable String search, @Nullable String query, Pageable pageable);
 
+    default <T> Slice<T> findSliceBySearch(Class<T> domainType, @Nullable String search, @Nullable String query, Pageable pageable) {
+        return findAllBySearch(domainType, search, query, pageable);
+    }
+
     <T> long countBySearch(Class<T> domainType, @Nullable String search, @Nullable String query);
+
+    default <T> CountResult countBySearch(Class<T> domainType, @Nullable String search, @Nullable String query, CountStrategy strategy) {
+        return CountResult.exact(countBySearch(domainType, search, query));
+    }
 }
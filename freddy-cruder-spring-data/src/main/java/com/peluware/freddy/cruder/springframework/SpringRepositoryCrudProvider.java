@@ -3,12 +3,18 @@ package com.peluware.freddy.cruder.springframework;
 import com.peluware.domain.Page;
 import com.peluware.domain.Pagination;
 import com.peluware.domain.Sort;
+import com.peluware.freddy.cruder.CountResult;
+import com.peluware.freddy.cruder.CountStrategy;
 import com.peluware.freddy.cruder.EntityCrudEvents;
 import com.peluware.freddy.cruder.EntityCrudProvider;
 import com.peluware.freddy.cruder.NotFoundEntityException;
+import com.peluware.freddy.cruder.Slice;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.repository.CrudRepository;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Spring Data implementation of {@link EntityCrudProvider} that delegates persistence
  * to a {@link CrudRepository} and search/pagination to an {@link SearchRepository}.
@@ -151,11 +157,25 @@ public abstract class SpringRepositoryCrudProvider<ENTITY, ID, INPUT, OUTPUT> ex
         ));
     }
 
+    @Override
+    protected Slice<ENTITY> internalSlice(@Nullable String search, @Nullable String query, Pagination pagination, Sort sort) {
+        return SpringToPeluwareAdapters.applyAsSlice(pagination, sort, pageable -> searchRepository.findSliceBySearch(
+            search,
+            query,
+            pageable
+        ));
+    }
+
     @Override
     protected long internalCount(@Nullable String search, @Nullable String query) {
         return searchRepository.countBySearch(search, query);
     }
 
+    @Override
+    protected CountResult internalCount(@Nullable String search, @Nullable String query, CountStrategy strategy) {
+        return searchRepository.countBySearch(search, query, strategy);
+    }
+
     @Override
     protected boolean internalExists(ID id) {
         return repository.existsById(id);
@@ -175,4 +195,23 @@ public abstract class SpringRepositoryCrudProvider<ENTITY, ID, INPUT, OUTPUT> ex
     protected void internalDelete(ENTITY entity) {
         repository.delete(entity);
     }
+
+    @Override
+    protected List<ENTITY> internalCreateAll(List<ENTITY> entities) {
+        var created = new ArrayList<ENTITY>(entities.size());
+        repository.saveAll(entities).forEach(created::add);
+        return created;
+    }
+
+    @Override
+    protected List<ENTITY> internalUpdateAll(List<ENTITY> entities) {
+        var updated = new ArrayList<ENTITY>(entities.size());
+        repository.saveAll(entities).forEach(updated::add);
+        return updated;
+    }
+
+    @Override
+    protected void internalDeleteAll(List<ENTITY> entities) {
+        repository.deleteAll(entities);
+    }
 }
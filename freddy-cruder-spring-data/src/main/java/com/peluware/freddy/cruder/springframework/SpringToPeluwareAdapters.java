@@ -4,6 +4,7 @@ import com.peluware.domain.Order;
 import com.peluware.domain.Page;
 import com.peluware.domain.Pagination;
 import com.peluware.domain.Sort;
+import com.peluware.freddy.cruder.Slice;
 import org.springframework.data.util.Streamable;
 
 import java.util.List;
@@ -45,4 +46,13 @@ public final class SpringToPeluwareAdapters {
         var pageable = PeluwareToSpringAdapters.toPageable(pagination, sort);
         return toPage(query.apply(pageable), pagination, sort);
     }
+
+    public static <T> Slice<T> toSlice(org.springframework.data.domain.Slice<T> springSlice, Pagination pagination, Sort sort) {
+        return new Slice<>(springSlice.getContent(), pagination, sort, springSlice.hasNext());
+    }
+
+    public static <T> Slice<T> applyAsSlice(Pagination pagination, Sort sort, Function<org.springframework.data.domain.Pageable, org.springframework.data.domain.Slice<T>> query) {
+        var pageable = PeluwareToSpringAdapters.toPageable(pagination, sort);
+        return toSlice(query.apply(pageable), pagination, sort);
+    }
 }
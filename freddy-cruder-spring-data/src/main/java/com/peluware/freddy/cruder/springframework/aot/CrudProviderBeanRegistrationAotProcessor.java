@@ -0,0 +1,80 @@
+package com.peluware.freddy.cruder.springframework.aot;
+
+import com.peluware.freddy.cruder.EntityCrudProvider;
+import com.peluware.freddy.cruder.OwnedEntityCrudProvider;
+import com.peluware.freddy.cruder.utils.ReflectUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+
+/**
+ * Registers the runtime hints required by each {@link EntityCrudProvider} and
+ * {@link OwnedEntityCrudProvider} bean in a GraalVM native image.
+ *
+ * <p>The entity, input and output types are resolved at build time from the generic signature of
+ * the provider class, and registered as follows:</p>
+ * <ul>
+ *   <li>the provider class hierarchy, so {@link ReflectUtils#resolveGenericType} can read the
+ *       generic superclasses when the provider is constructed</li>
+ *   <li>the entity constructors, invoked by {@link com.peluware.freddy.cruder.EntityFactory#of}</li>
+ *   <li>the input and output types for data binding, and the output constructors used by
+ *       constructor projections</li>
+ * </ul>
+ */
+public class CrudProviderBeanRegistrationAotProcessor implements BeanRegistrationAotProcessor {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public @Nullable BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+        var beanClass = registeredBean.getBeanClass();
+        if (EntityCrudProvider.class.isAssignableFrom(beanClass)) {
+            return contribution(beanClass, EntityCrudProvider.class, 0, 2, 3);
+        }
+        if (OwnedEntityCrudProvider.class.isAssignableFrom(beanClass)) {
+            return contribution(beanClass, OwnedEntityCrudProvider.class, 0, 3, 4);
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private BeanRegistrationAotContribution contribution(Class<?> beanClass, Class target, int entityIndex, int inputIndex, int outputIndex) {
+        var entityType = resolve(beanClass, target, entityIndex);
+        var inputType = resolve(beanClass, target, inputIndex);
+        var outputType = resolve(beanClass, target, outputIndex);
+        return (generationContext, _) -> {
+            var reflection = generationContext.getRuntimeHints().reflection();
+            for (Class<?> current = beanClass; current != null && current != Object.class; current = current.getSuperclass()) {
+                reflection.registerType(current);
+            }
+            if (entityType != null) {
+                reflection.registerType(entityType, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+            registerBinding(reflection, inputType);
+            registerBinding(reflection, outputType);
+            if (outputType != null) {
+                reflection.registerType(outputType, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+        };
+    }
+
+    private void registerBinding(ReflectionHints reflection, @Nullable Class<?> type) {
+        if (type != null && type != Object.class) {
+            bindingRegistrar.registerReflectionHints(reflection, type);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static @Nullable Class<?> resolve(Class<?> beanClass, Class target, int index) {
+        try {
+            return ReflectUtils.resolveGenericType(beanClass, target, index);
+        } catch (IllegalStateException e) {
+            // Generic type left unresolved by the bean class, nothing to register
+            return null;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.peluware.freddy.cruder.springframework.aot;
+
+import com.peluware.freddy.cruder.CursorPage;
+import com.peluware.freddy.cruder.FindAllResult;
+import com.peluware.freddy.cruder.springframework.DefaultSearchRepository;
+import com.peluware.freddy.cruder.springframework.SearchRepository;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints for the Spring Data integration, needed to run in a GraalVM native image.
+ *
+ * <p>Registers the search fragment, invoked reflectively by the repository proxies, and the
+ * response records serialized by the controllers. Hints depending on the provider beans of the
+ * application are registered by {@link CrudProviderBeanRegistrationAotProcessor}.</p>
+ */
+public class FreddyCruderRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        hints.reflection()
+            .registerType(SearchRepository.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .registerType(DefaultSearchRepository.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), CursorPage.class, FindAllResult.class);
+    }
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package com.peluware.freddy.cruder.springframework.aot;
+
+import org.jspecify.annotations.NullMarked;
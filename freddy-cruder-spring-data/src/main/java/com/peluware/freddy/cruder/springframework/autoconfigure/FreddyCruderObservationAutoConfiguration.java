@@ -0,0 +1,90 @@
+package com.peluware.freddy.cruder.springframework.autoconfigure;
+
+import com.peluware.freddy.cruder.CrudObserver;
+import com.peluware.freddy.cruder.springframework.observation.ObservationCrudObserver;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.observation.ObservationRegistry;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Installs an {@link ObservationCrudObserver} as the global {@link CrudObserver} of the entity providers.
+ *
+ * <p>Active when an {@link ObservationRegistry} bean exists, unless
+ * {@code freddy.cruder.observation.enabled=false}. Without it the providers keep
+ * {@link CrudObserver#NOOP} and skip instrumentation.</p>
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.micrometer.observation.autoconfigure.ObservationAutoConfiguration")
+@ConditionalOnClass({ObservationRegistry.class, MeterRegistry.class})
+@ConditionalOnBean(ObservationRegistry.class)
+@ConditionalOnProperty(prefix = "freddy.cruder.observation", name = "enabled", matchIfMissing = true)
+public class FreddyCruderObservationAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(CrudObserver.class)
+    ObservationCrudObserver observationCrudObserver(ObservationRegistry observationRegistry, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ObservationCrudObserver(observationRegistry, meterRegistry.getIfUnique());
+    }
+
+    @Bean
+    GlobalCrudObserverInstaller globalCrudObserverInstaller(CrudObserver crudObserver) {
+        return new GlobalCrudObserverInstaller(crudObserver);
+    }
+
+    /**
+     * Publishes p50, p95 and p99 plus a percentile histogram for the operation timers and the
+     * page rows distribution.
+     */
+    @Bean
+    MeterFilter freddyCruderPercentilesMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public @Nullable DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().startsWith("freddy.cruder.")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                    .percentiles(0.5, 0.95, 0.99)
+                    .percentilesHistogram(true)
+                    .build()
+                    .merge(config);
+            }
+        };
+    }
+
+    /**
+     * Installs the observer globally once all singletons are created and restores
+     * {@link CrudObserver#NOOP} when the context closes.
+     */
+    static final class GlobalCrudObserverInstaller implements SmartInitializingSingleton, DisposableBean {
+
+        private final CrudObserver observer;
+
+        GlobalCrudObserverInstaller(CrudObserver observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            CrudObserver.setGlobal(observer);
+        }
+
+        @Override
+        public void destroy() {
+            if (CrudObserver.getGlobal() == observer) {
+                CrudObserver.setGlobal(CrudObserver.NOOP);
+            }
+        }
+    }
+}
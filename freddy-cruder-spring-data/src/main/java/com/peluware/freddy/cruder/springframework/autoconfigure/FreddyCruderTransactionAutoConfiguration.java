@@ -0,0 +1,61 @@
+package com.peluware.freddy.cruder.springframework.autoconfigure;
+
+import com.peluware.freddy.cruder.TransactionSynchronizer;
+import com.peluware.freddy.cruder.springframework.transaction.SpringTransactionSynchronizer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Installs a {@link SpringTransactionSynchronizer} as the global {@link TransactionSynchronizer},
+ * so after-commit events follow Spring-managed transactions.
+ *
+ * <p>Active when {@code spring-tx} is on the classpath, unless
+ * {@code freddy.cruder.transaction.enabled=false}.</p>
+ */
+@AutoConfiguration
+@ConditionalOnClass(TransactionSynchronizationManager.class)
+@ConditionalOnProperty(prefix = "freddy.cruder.transaction", name = "enabled", matchIfMissing = true)
+public class FreddyCruderTransactionAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(TransactionSynchronizer.class)
+    SpringTransactionSynchronizer springTransactionSynchronizer() {
+        return new SpringTransactionSynchronizer();
+    }
+
+    @Bean
+    GlobalTransactionSynchronizerInstaller globalTransactionSynchronizerInstaller(TransactionSynchronizer transactionSynchronizer) {
+        return new GlobalTransactionSynchronizerInstaller(transactionSynchronizer);
+    }
+
+    /**
+     * Installs the synchronizer globally once all singletons are created and restores
+     * {@link TransactionSynchronizer#NONE} when the context closes.
+     */
+    static final class GlobalTransactionSynchronizerInstaller implements SmartInitializingSingleton, DisposableBean {
+
+        private final TransactionSynchronizer synchronizer;
+
+        GlobalTransactionSynchronizerInstaller(TransactionSynchronizer synchronizer) {
+            this.synchronizer = synchronizer;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            TransactionSynchronizer.setGlobal(synchronizer);
+        }
+
+        @Override
+        public void destroy() {
+            if (TransactionSynchronizer.getGlobal() == synchronizer) {
+                TransactionSynchronizer.setGlobal(TransactionSynchronizer.NONE);
+            }
+        }
+    }
+}
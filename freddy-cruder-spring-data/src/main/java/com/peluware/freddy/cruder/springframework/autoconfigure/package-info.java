@@ -0,0 +1,4 @@
+@NullMarked
+package com.peluware.freddy.cruder.springframework.autoconfigure;
+
+import org.jspecify.annotations.NullMarked;
\ No newline at end of file
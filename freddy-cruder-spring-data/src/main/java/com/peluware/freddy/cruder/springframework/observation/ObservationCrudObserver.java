@@ -0,0 +1,87 @@
+package com.peluware.freddy.cruder.springframework.observation;
+
+import com.peluware.freddy.cruder.CrudObserver;
+import com.peluware.freddy.cruder.CrudOperation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CrudObserver} backed by Micrometer {@link Observation}s.
+ *
+ * <p>Every operation is observed as {@value #OBSERVATION_NAME}, with low-cardinality keys
+ * {@code entity}, {@code operation}, {@code owned} and {@code outcome}, so a meter handler records
+ * one timer per combination. When a {@link MeterRegistry} is given, the rows returned by
+ * {@link CrudOperation#PAGE} are recorded in the {@value #ROWS_METRIC_NAME} distribution.</p>
+ */
+public class ObservationCrudObserver implements CrudObserver {
+
+    public static final String OBSERVATION_NAME = "freddy.cruder.operation";
+    public static final String ROWS_METRIC_NAME = "freddy.cruder.page.rows";
+
+    private final ObservationRegistry observationRegistry;
+    private final @Nullable MeterRegistry meterRegistry;
+    private final Map<RowsKey, DistributionSummary> rowsSummaries = new ConcurrentHashMap<>();
+
+    public ObservationCrudObserver(ObservationRegistry observationRegistry, @Nullable MeterRegistry meterRegistry) {
+        this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ObservationCrudObserver(ObservationRegistry observationRegistry) {
+        this(observationRegistry, null);
+    }
+
+    @Override
+    public Scope start(Class<?> entityClass, CrudOperation operation, boolean owned) {
+        if (observationRegistry.isNoop()) {
+            return Scope.NOOP;
+        }
+        var entity = entityClass.getSimpleName();
+        var observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+            .contextualName(entity + " " + operation.name().toLowerCase(Locale.ROOT))
+            .lowCardinalityKeyValue("entity", entity)
+            .lowCardinalityKeyValue("operation", operation.name())
+            .lowCardinalityKeyValue("owned", Boolean.toString(owned))
+            .start();
+
+        return new Scope() {
+
+            @Override
+            public void rows(int rows) {
+                if (meterRegistry != null) {
+                    rowsSummary(meterRegistry, entityClass, owned).record(rows);
+                }
+            }
+
+            @Override
+            public void stop(Outcome outcome, @Nullable Throwable error) {
+                observation.lowCardinalityKeyValue("outcome", outcome.name());
+                if (error != null) {
+                    observation.error(error);
+                }
+                observation.stop();
+            }
+        };
+    }
+
+    /**
+     * Returns the rows distribution of an entity, registered on first use only.
+     */
+    private DistributionSummary rowsSummary(MeterRegistry meterRegistry, Class<?> entityClass, boolean owned) {
+        return rowsSummaries.computeIfAbsent(new RowsKey(entityClass, owned), key -> DistributionSummary.builder(ROWS_METRIC_NAME)
+            .description("Rows returned by page operations")
+            .tag("entity", key.entityClass().getSimpleName())
+            .tag("owned", Boolean.toString(key.owned()))
+            .register(meterRegistry));
+    }
+
+    private record RowsKey(Class<?> entityClass, boolean owned) {
+    }
+}
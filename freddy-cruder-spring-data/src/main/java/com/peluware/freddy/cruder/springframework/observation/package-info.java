@@ -0,0 +1,4 @@
+@NullMarked
+package com.peluware.freddy.cruder.springframework.observation;
+
+import org.jspecify.annotations.NullMarked;
\ No newline at end of file
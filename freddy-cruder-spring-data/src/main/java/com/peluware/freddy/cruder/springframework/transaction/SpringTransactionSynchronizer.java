@@ -0,0 +1,47 @@
+package com.peluware.freddy.cruder.springframework.transaction;
+
+import com.peluware.freddy.cruder.TransactionSynchronizer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link TransactionSynchronizer} backed by Spring transaction synchronization.
+ *
+ * <p>
+ * Actions are registered as {@link TransactionSynchronization#afterCommit()} callbacks of the
+ * transaction bound to the calling thread by a Spring {@code PlatformTransactionManager}
+ * (e.g. {@code @Transactional} or {@code TransactionTemplate}). When synchronization is not
+ * active the action is not registered, so it runs immediately.
+ * </p>
+ *
+ * <p>
+ * Spring stops invoking the remaining {@code afterCommit} callbacks when one throws, so a failing
+ * action is reported to the uncaught exception handler of the calling thread instead.
+ * </p>
+ */
+public class SpringTransactionSynchronizer implements TransactionSynchronizer {
+
+    @Override
+    public boolean afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    var thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public boolean isTransactionActive() {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+}
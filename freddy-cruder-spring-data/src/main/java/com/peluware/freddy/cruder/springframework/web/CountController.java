@@ -3,6 +3,7 @@ package com.peluware.freddy.cruder.springframework.web;
 
 import com.peluware.freddy.cruder.CrudContext;
 import com.peluware.freddy.cruder.CountProvider;
+import com.peluware.freddy.cruder.CountResult;
 import com.peluware.freddy.cruder.springframework.SpringCrudOptions;
 import org.jspecify.annotations.Nullable;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +15,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 public interface CountController {
 
+    /**
+     * Response header carrying the {@link CountResult.Accuracy} of approximate counts.
+     */
+    String COUNT_ACCURACY_HEADER = "X-Count-Accuracy";
+
     CountProvider getService();
 
     @GetMapping("/count")
@@ -27,6 +33,15 @@ public interface CountController {
         filtered.remove("query");
         var options = SpringCrudOptions.of(filtered);
 
-        return ResponseEntity.ok(CrudContext.call(options, () -> getService().count(search, query)));
+        var result = CrudContext.call(options, () -> getService().countResult(search, query));
+        return toResponse(result);
+    }
+
+    static ResponseEntity<Long> toResponse(CountResult result) {
+        var response = ResponseEntity.ok();
+        if (result.isApproximate()) {
+            response.header(COUNT_ACCURACY_HEADER, result.accuracy().name());
+        }
+        return response.body(result.value());
     }
 }
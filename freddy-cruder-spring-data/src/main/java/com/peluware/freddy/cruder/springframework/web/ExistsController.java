@@ -5,9 +5,13 @@ import com.peluware.freddy.cruder.CrudContext;
 import com.peluware.freddy.cruder.ExistsProvider;
 import com.peluware.freddy.cruder.springframework.SpringCrudOptions;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 public interface ExistsController<ID> {
 
     ExistsProvider<ID> getService();
@@ -20,4 +24,15 @@ public interface ExistsController<ID> {
         var options = SpringCrudOptions.of(parameters);
         return ResponseEntity.ok(CrudContext.call(options, () -> getService().exists(id)));
     }
+
+    @GetMapping(value = "/exists", params = "ids")
+    default ResponseEntity<Map<ID, Boolean>> existsAll(
+        @RequestParam("ids") List<ID> ids,
+        @RequestParam MultiValueMap<String, String> parameters
+    ) {
+        var remaining = new LinkedMultiValueMap<>(parameters);
+        remaining.remove("ids");
+        var options = SpringCrudOptions.of(remaining);
+        return ResponseEntity.ok(CrudContext.call(options, () -> getService().existsAll(ids)));
+    }
 }
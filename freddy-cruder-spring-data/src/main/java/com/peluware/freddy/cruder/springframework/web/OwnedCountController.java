@@ -27,6 +27,7 @@ public interface OwnedCountController<OWNER_ID> {
         filtered.remove("query");
         var options = SpringCrudOptions.of(filtered);
 
-        return ResponseEntity.ok(CrudContext.call(options, () -> getService().count(ownerId, search, query)));
+        var result = CrudContext.call(options, () -> getService().countResult(ownerId, search, query));
+        return CountController.toResponse(result);
     }
 }
\ No newline at end of file
@@ -4,9 +4,13 @@ import com.peluware.freddy.cruder.CrudContext;
 import com.peluware.freddy.cruder.OwnedExistsProvider;
 import com.peluware.freddy.cruder.springframework.SpringCrudOptions;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 public interface OwnedExistsController<OWNER_ID, ID> {
 
     OwnedExistsProvider<OWNER_ID, ID> getService();
@@ -20,4 +24,16 @@ public interface OwnedExistsController<OWNER_ID, ID> {
         var options = SpringCrudOptions.of(parameters);
         return ResponseEntity.ok(CrudContext.call(options, () -> getService().exists(ownerId, id)));
     }
+
+    @GetMapping(value = "/exists", params = "ids")
+    default ResponseEntity<Map<ID, Boolean>> existsAll(
+        @PathVariable("ownerId") OWNER_ID ownerId,
+        @RequestParam("ids") List<ID> ids,
+        @RequestParam MultiValueMap<String, String> parameters
+    ) {
+        var remaining = new LinkedMultiValueMap<>(parameters);
+        remaining.remove("ids");
+        var options = SpringCrudOptions.of(remaining);
+        return ResponseEntity.ok(CrudContext.call(options, () -> getService().existsAll(ownerId, ids)));
+    }
 }
\ No newline at end of file
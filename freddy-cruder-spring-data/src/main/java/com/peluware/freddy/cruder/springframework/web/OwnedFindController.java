@@ -1,14 +1,18 @@
 package com.peluware.freddy.cruder.springframework.web;
 
 import com.peluware.freddy.cruder.CrudContext;
+import com.peluware.freddy.cruder.FindAllResult;
 import com.peluware.freddy.cruder.OwnedFindProvider;
 import com.peluware.freddy.cruder.springframework.SpringCrudOptions;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+
 public interface OwnedFindController<OWNER_ID, ID, OUTPUT> {
 
     OwnedFindProvider<OWNER_ID, ID, OUTPUT> getService();
@@ -22,4 +26,16 @@ public interface OwnedFindController<OWNER_ID, ID, OUTPUT> {
         var options = SpringCrudOptions.of(parameters);
         return ResponseEntity.ok(CrudContext.call(options, () -> getService().find(ownerId, id)));
     }
+
+    @GetMapping(value = "/all", params = "ids")
+    default ResponseEntity<FindAllResult<ID, OUTPUT>> findAll(
+        @PathVariable("ownerId") OWNER_ID ownerId,
+        @RequestParam("ids") List<ID> ids,
+        @RequestParam MultiValueMap<String, String> parameters
+    ) {
+        var remaining = new LinkedMultiValueMap<>(parameters);
+        remaining.remove("ids");
+        var options = SpringCrudOptions.of(remaining);
+        return ResponseEntity.ok(CrudContext.call(options, () -> getService().findAll(ownerId, ids)));
+    }
 }
\ No newline at end of file
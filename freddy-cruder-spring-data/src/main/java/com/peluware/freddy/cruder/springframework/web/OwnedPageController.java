@@ -1,12 +1,16 @@
 package com.peluware.freddy.cruder.springframework.web;
 
 import com.peluware.freddy.cruder.CrudContext;
+import com.peluware.freddy.cruder.CursorPage;
 import com.peluware.freddy.cruder.OwnedPageProvider;
 import com.peluware.freddy.cruder.springframework.SpringCrudOptions;
 import com.peluware.freddy.cruder.springframework.PeluwareToSpringAdapters;
+import com.peluware.freddy.cruder.springframework.SpringToPeluwareAdapters;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,4 +38,43 @@ public interface OwnedPageController<OWNER_ID, OUTPUT> {
             pageable
         )));
     }
-}
\ No newline at end of file
+
+    @GetMapping(params = {"total=false", "!cursor"})
+    default ResponseEntity<Slice<OUTPUT>> slice(
+        @PathVariable OWNER_ID ownerId,
+        @RequestParam(name = "search", required = false) @Nullable String search,
+        @RequestParam(name = "query", required = false) @Nullable String query,
+        Pageable pageable,
+        @RequestParam MultiValueMap<String, String> parameters
+    ) {
+        var options = SpringCrudOptions.of(parameters);
+        return ResponseEntity.ok(CrudContext.call(options, () -> PeluwareToSpringAdapters.slice(
+            getService(),
+            ownerId,
+            search,
+            query,
+            pageable
+        )));
+    }
+
+    @GetMapping(params = "cursor")
+    default ResponseEntity<CursorPage<OUTPUT>> pageByCursor(
+        @PathVariable OWNER_ID ownerId,
+        @RequestParam(name = "search", required = false) @Nullable String search,
+        @RequestParam(name = "query", required = false) @Nullable String query,
+        @RequestParam(name = "cursor") @Nullable String cursor,
+        @RequestParam(name = "size", defaultValue = "20") int size,
+        Sort sort,
+        @RequestParam MultiValueMap<String, String> parameters
+    ) {
+        var options = SpringCrudOptions.of(parameters);
+        return PageController.toCursorResponse(size, () -> CrudContext.call(options, () -> getService().pageByCursor(
+            ownerId,
+            search,
+            query,
+            PageController.toCursor(cursor),
+            size,
+            SpringToPeluwareAdapters.toSort(sort)
+        )));
+    }
+}
@@ -2,16 +2,26 @@ package com.peluware.freddy.cruder.springframework.web;
 
 
 import com.peluware.freddy.cruder.CrudContext;
+import com.peluware.freddy.cruder.CursorPage;
+import com.peluware.freddy.cruder.InvalidCursorException;
 import com.peluware.freddy.cruder.PageProvider;
 import com.peluware.freddy.cruder.springframework.SpringCrudOptions;
 import com.peluware.freddy.cruder.springframework.PeluwareToSpringAdapters;
+import com.peluware.freddy.cruder.springframework.SpringToPeluwareAdapters;
+import com.peluware.freddy.cruder.utils.StringUtils;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
 
 
 public interface PageController<OUTPUT> {
@@ -33,4 +43,67 @@ public interface PageController<OUTPUT> {
             pageable
         )));
     }
+
+    @GetMapping(params = {"total=false", "!cursor"})
+    default ResponseEntity<Slice<OUTPUT>> slice(
+        @RequestParam(name = "search", required = false) @Nullable String search,
+        @RequestParam(name = "query", required = false) @Nullable String query,
+        Pageable pageable,
+        @RequestParam MultiValueMap<String, String> parameters
+    ) {
+        var options = SpringCrudOptions.of(parameters);
+        return ResponseEntity.ok(CrudContext.call(options, () -> PeluwareToSpringAdapters.slice(
+            getService(),
+            search,
+            query,
+            pageable
+        )));
+    }
+
+    @GetMapping(params = "cursor")
+    default ResponseEntity<CursorPage<OUTPUT>> pageByCursor(
+        @RequestParam(name = "search", required = false) @Nullable String search,
+        @RequestParam(name = "query", required = false) @Nullable String query,
+        @RequestParam(name = "cursor") @Nullable String cursor,
+        @RequestParam(name = "size", defaultValue = "20") int size,
+        Sort sort,
+        @RequestParam MultiValueMap<String, String> parameters
+    ) {
+        var options = SpringCrudOptions.of(parameters);
+        return toCursorResponse(size, () -> CrudContext.call(options, () -> getService().pageByCursor(
+            search,
+            query,
+            toCursor(cursor),
+            size,
+            SpringToPeluwareAdapters.toSort(sort)
+        )));
+    }
+
+    /**
+     * Reads the {@code cursor} request parameter, an empty value ({@code ?cursor=}) requesting
+     * the first window.
+     *
+     * @param cursor the request parameter
+     * @return the cursor of the previous window, or {@code null} for the first one
+     */
+    static @Nullable String toCursor(@Nullable String cursor) {
+        return StringUtils.isBlank(cursor) ? null : cursor;
+    }
+
+    /**
+     * Runs a cursor pagination call, answering invalid sizes and cursors with
+     * {@code 400 Bad Request} and providers without cursor support with {@code 501 Not Implemented}.
+     */
+    static <OUTPUT> ResponseEntity<CursorPage<OUTPUT>> toCursorResponse(int size, Supplier<CursorPage<OUTPUT>> call) {
+        if (size <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor page size must be positive: " + size);
+        }
+        try {
+            return ResponseEntity.ok(call.get());
+        } catch (InvalidCursorException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (UnsupportedOperationException e) {
+            throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, e.getMessage(), e);
+        }
+    }
 }
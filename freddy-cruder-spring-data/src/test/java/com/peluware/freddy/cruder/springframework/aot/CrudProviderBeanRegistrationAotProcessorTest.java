@@ -0,0 +1,94 @@
+package com.peluware.freddy.cruder.springframework.aot;
+
+import com.peluware.freddy.cruder.EntityCrudProvider;
+import com.peluware.freddy.cruder.OwnedEntityCrudProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.AotServices;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.javapoet.ClassName;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.aot.hint.predicate.RuntimeHintsPredicates.reflection;
+
+class CrudProviderBeanRegistrationAotProcessorTest {
+
+    static class Item {
+    }
+
+    record ItemInput(String name) {
+    }
+
+    record ItemOutput(Long id, String name) {
+    }
+
+    abstract static class ItemProvider extends EntityCrudProvider<Item, Long, ItemInput, ItemOutput> {
+    }
+
+    abstract static class OwnedItemProvider extends OwnedEntityCrudProvider<Item, Long, Long, ItemInput, ItemOutput> {
+    }
+
+    @Test
+    void registersTheHintsOfEntityProviders() {
+        var hints = process(ItemProvider.class);
+
+        assertTrue(reflection().onType(ItemProvider.class).test(hints));
+        assertTrue(reflection().onType(EntityCrudProvider.class).test(hints));
+        assertTrue(reflection().onType(Item.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(reflection().onMethodInvocation(ItemInput.class, "name").test(hints));
+        assertTrue(reflection().onMethodInvocation(ItemOutput.class, "id").test(hints));
+        assertTrue(reflection().onType(ItemOutput.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertFalse(reflection().onType(Object.class).test(hints));
+    }
+
+    @Test
+    void registersTheHintsOfOwnedEntityProviders() {
+        var hints = process(OwnedItemProvider.class);
+
+        assertTrue(reflection().onType(OwnedItemProvider.class).test(hints));
+        assertTrue(reflection().onType(OwnedEntityCrudProvider.class).test(hints));
+        assertTrue(reflection().onType(Item.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(reflection().onMethodInvocation(ItemInput.class, "name").test(hints));
+        assertTrue(reflection().onType(ItemOutput.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    }
+
+    @Test
+    void ignoresOtherBeans() {
+        assertNull(new CrudProviderBeanRegistrationAotProcessor().processAheadOfTime(registeredBean(String.class)));
+    }
+
+    @Test
+    void isRegisteredInAotFactories() {
+        var processors = AotServices.factories().load(BeanRegistrationAotProcessor.class);
+
+        assertTrue(processors.asList().stream().anyMatch(CrudProviderBeanRegistrationAotProcessor.class::isInstance));
+    }
+
+    private static RuntimeHints process(Class<?> beanClass) {
+        var contribution = new CrudProviderBeanRegistrationAotProcessor().processAheadOfTime(registeredBean(beanClass));
+        assertNotNull(contribution);
+        var generationContext = new DefaultGenerationContext(
+            new ClassNameGenerator(ClassName.get(CrudProviderBeanRegistrationAotProcessorTest.class)),
+            new InMemoryGeneratedFiles()
+        );
+        // The contribution only registers hints and never generates registration code
+        contribution.applyTo(generationContext, null);
+        return generationContext.getRuntimeHints();
+    }
+
+    private static RegisteredBean registeredBean(Class<?> beanClass) {
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("bean", new RootBeanDefinition(beanClass));
+        return RegisteredBean.of(beanFactory, "bean");
+    }
+}
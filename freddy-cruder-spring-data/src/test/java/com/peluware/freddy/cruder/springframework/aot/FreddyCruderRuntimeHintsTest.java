@@ -0,0 +1,50 @@
+package com.peluware.freddy.cruder.springframework.aot;
+
+import com.peluware.freddy.cruder.CursorPage;
+import com.peluware.freddy.cruder.FindAllResult;
+import com.peluware.freddy.cruder.springframework.DefaultSearchRepository;
+import com.peluware.freddy.cruder.springframework.SearchRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.aot.AotServices;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.aot.hint.predicate.RuntimeHintsPredicates.reflection;
+
+class FreddyCruderRuntimeHintsTest {
+
+    @Test
+    void registersTheSearchFragmentForReflectiveInvocation() {
+        var hints = registerHints();
+
+        assertTrue(reflection().onType(SearchRepository.class).withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        assertTrue(reflection().onType(DefaultSearchRepository.class)
+            .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)
+            .test(hints));
+    }
+
+    @Test
+    void registersTheResponseRecordsForBinding() {
+        var hints = registerHints();
+
+        assertTrue(reflection().onMethodInvocation(CursorPage.class, "content").test(hints));
+        assertTrue(reflection().onMethodInvocation(CursorPage.class, "nextCursor").test(hints));
+        assertTrue(reflection().onMethodInvocation(FindAllResult.class, "found").test(hints));
+        assertTrue(reflection().onMethodInvocation(FindAllResult.class, "missing").test(hints));
+    }
+
+    @Test
+    void isRegisteredInAotFactories() {
+        var registrars = AotServices.factories().load(RuntimeHintsRegistrar.class);
+
+        assertTrue(registrars.asList().stream().anyMatch(FreddyCruderRuntimeHints.class::isInstance));
+    }
+
+    private static RuntimeHints registerHints() {
+        var hints = new RuntimeHints();
+        new FreddyCruderRuntimeHints().registerHints(hints, FreddyCruderRuntimeHintsTest.class.getClassLoader());
+        return hints;
+    }
+}
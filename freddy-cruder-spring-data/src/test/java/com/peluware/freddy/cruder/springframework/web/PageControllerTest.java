@@ -0,0 +1,59 @@
+package com.peluware.freddy.cruder.springframework.web;
+
+import com.peluware.freddy.cruder.CursorPage;
+import com.peluware.freddy.cruder.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageControllerTest {
+
+    @Test
+    void answersTheWindow() {
+        var page = new CursorPage<>(List.of("a", "b"), "next");
+
+        var response = PageController.toCursorResponse(2, () -> page);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    void answersInvalidCursorsWithBadRequest() {
+        var error = assertThrows(ResponseStatusException.class, () -> PageController.toCursorResponse(20, () -> {
+            throw new InvalidCursorException("Invalid cursor: x");
+        }));
+
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatusCode());
+    }
+
+    @Test
+    void answersNonPositiveSizesWithBadRequest() {
+        var error = assertThrows(ResponseStatusException.class, () -> PageController.toCursorResponse(0, () -> new CursorPage<>(List.of(), null)));
+
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatusCode());
+    }
+
+    @Test
+    void answersProvidersWithoutCursorSupportWithNotImplemented() {
+        var error = assertThrows(ResponseStatusException.class, () -> PageController.toCursorResponse(20, () -> {
+            throw new UnsupportedOperationException("Cursor pagination is not supported");
+        }));
+
+        assertEquals(HttpStatus.NOT_IMPLEMENTED, error.getStatusCode());
+    }
+
+    @Test
+    void readsAnEmptyCursorAsTheFirstWindow() {
+        assertNull(PageController.toCursor(""));
+        assertNull(PageController.toCursor(" "));
+        assertNull(PageController.toCursor(null));
+        assertEquals("abc.def", PageController.toCursor("abc.def"));
+    }
+}